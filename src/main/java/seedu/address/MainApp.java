@@ -14,6 +14,7 @@ import seedu.address.commons.core.Config;
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
+import seedu.address.commons.events.storage.AddressBookFormatChangedEvent;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
@@ -32,7 +33,6 @@ import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
-import seedu.address.storage.XmlAddressBookStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -62,19 +62,20 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = StorageManager.createAddressBookStorage(
+                userPrefs.getAddressBookFormat(), userPrefs.getAddressBookFilePath());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
 
+        DatabaseManager.loadInBackground();
+
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model);
+        logic = new LogicManager(model, userPrefs);
 
         ui = new UiManager(logic, config, userPrefs);
 
-        DatabaseManager.getInstance();
-
         initEventsCenter();
     }
 
@@ -194,6 +195,7 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
         ui.stop();
+        storage.flush();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
@@ -209,6 +211,13 @@ public class MainApp extends Application {
         this.stop();
     }
 
+    @Subscribe
+    public void handleAddressBookFormatChangedEvent(AddressBookFormatChangedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        userPrefs.setAddressBookFilePath(event.filePath);
+        userPrefs.setAddressBookFormat(event.format);
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
@@ -0,0 +1,50 @@
+package seedu.address.commons.core;
+
+import java.util.Optional;
+
+/**
+ * The formats the address book data file can be stored in.
+ */
+public enum AddressBookFormat {
+    XML("xml", ".xml"),
+    BINARY("binary", ".bin");
+
+    public static final String MESSAGE_FORMAT_CONSTRAINTS = "Address book format should be either xml or binary";
+
+    private final String name;
+    private final String fileExtension;
+
+    AddressBookFormat(String name, String fileExtension) {
+        this.name = name;
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Returns the format called {@code name}, ignoring case, if there is one.
+     */
+    public static Optional<AddressBookFormat> fromName(String name) {
+        for (AddressBookFormat format : values()) {
+            if (format.name.equalsIgnoreCase(name.trim())) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns {@code filePath} with its extension replaced by the one of this format, or with the extension of this
+     * format added if it has none.
+     */
+    public String toFilePath(String filePath) {
+        final int lastSeparator = Math.max(filePath.lastIndexOf('/'), filePath.lastIndexOf('\\'));
+        final int extensionStart = filePath.lastIndexOf('.');
+        final String withoutExtension = extensionStart > lastSeparator + 1
+                ? filePath.substring(0, extensionStart) : filePath;
+        return withoutExtension + fileExtension;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.commons.events.database;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates the module database was loaded or refreshed, and is now at {@code version}
+ */
+public class ModuleDatabaseChangedEvent extends BaseEvent {
+
+    public final int version;
+    /** The codes of the modules that changed, or null if any module may have changed. */
+    public final Set<String> changedModules;
+
+    public ModuleDatabaseChangedEvent(int version) {
+        this.version = version;
+        this.changedModules = null;
+    }
+
+    public ModuleDatabaseChangedEvent(int version, Set<String> changedModules) {
+        this.version = version;
+        this.changedModules = Collections.unmodifiableSet(new HashSet<>(changedModules));
+    }
+
+    @Override
+    public String toString() {
+        return "module database version " + version
+                + (changedModules == null ? "" : ", " + changedModules.size() + " module(s) changed");
+    }
+}
@@ -0,0 +1,20 @@
+package seedu.address.commons.events.database;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates the progress of loading the module database, described by {@code status}
+ */
+public class ModuleDatabaseLoadingEvent extends BaseEvent {
+
+    public final String status;
+
+    public ModuleDatabaseLoadingEvent(String status) {
+        this.status = status;
+    }
+
+    @Override
+    public String toString() {
+        return status;
+    }
+}
@@ -1,19 +1,30 @@
 package seedu.address.commons.events.model;
 
 import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.AddressBookDelta;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /** Indicates the AddressBook in the model has changed*/
 public class AddressBookChangedEvent extends BaseEvent {
 
     public final ReadOnlyAddressBook data;
+    public final AddressBookDelta delta;
 
+    /**
+     * Creates an event for a change to {@code data} that is not described in detail.
+     */
     public AddressBookChangedEvent(ReadOnlyAddressBook data) {
+        this(data, AddressBookDelta.reset());
+    }
+
+    public AddressBookChangedEvent(ReadOnlyAddressBook data, AddressBookDelta delta) {
         this.data = data;
+        this.delta = delta;
     }
 
     @Override
     public String toString() {
-        return "number of persons " + data.getPersonList().size() + ", number of tags " + data.getTagList().size();
+        return "number of persons " + data.getPersonList().size() + ", number of tags " + data.getTagList().size()
+                + ", " + delta;
     }
 }
@@ -0,0 +1,44 @@
+package seedu.address.commons.events.storage;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Indicates a request to store the address book in another format from now on.
+ * Events are handled as they are posted, so the poster can check {@link #getFailure()} right after posting.
+ */
+public class AddressBookFormatChangeRequestEvent extends BaseEvent {
+
+    public final ReadOnlyAddressBook data;
+    public final AddressBookFormat format;
+
+    private IOException failure;
+
+    public AddressBookFormatChangeRequestEvent(ReadOnlyAddressBook data, AddressBookFormat format) {
+        this.data = data;
+        this.format = format;
+    }
+
+    /**
+     * Records that the address book could not be stored in the requested format because of {@code failure}.
+     */
+    public void setFailure(IOException failure) {
+        this.failure = failure;
+    }
+
+    /**
+     * Returns the error that stopped the address book from being stored in the requested format, if any.
+     */
+    public Optional<IOException> getFailure() {
+        return Optional.ofNullable(failure);
+    }
+
+    @Override
+    public String toString() {
+        return "Storing address book in " + format + " format";
+    }
+}
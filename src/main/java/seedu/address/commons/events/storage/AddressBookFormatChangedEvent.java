@@ -0,0 +1,23 @@
+package seedu.address.commons.events.storage;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates the address book is now stored in another format, in another data file
+ */
+public class AddressBookFormatChangedEvent extends BaseEvent {
+
+    public final String filePath;
+    public final AddressBookFormat format;
+
+    public AddressBookFormatChangedEvent(String filePath, AddressBookFormat format) {
+        this.filePath = filePath;
+        this.format = format;
+    }
+
+    @Override
+    public String toString() {
+        return "Address book stored in " + format + " format at " + filePath;
+    }
+}
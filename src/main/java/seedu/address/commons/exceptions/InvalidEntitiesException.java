@@ -0,0 +1,26 @@
+package seedu.address.commons.exceptions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Signals that some entities of the data read do not fulfill their constraints, with one error for each of them.
+ */
+public class InvalidEntitiesException extends IllegalValueException {
+
+    private final List<String> errors;
+
+    /**
+     * @param errors one message for each entity found invalid, in the order of the entities. Cannot be empty
+     */
+    public InvalidEntitiesException(List<String> errors) {
+        super("Invalid entities found:\n" + String.join("\n", errors));
+        assert !errors.isEmpty();
+        this.errors = Collections.unmodifiableList(new ArrayList<>(errors));
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+}
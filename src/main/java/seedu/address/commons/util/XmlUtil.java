@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -15,6 +17,9 @@ import javax.xml.bind.Unmarshaller;
  */
 public class XmlUtil {
 
+    /** Contexts already created, by the class they bind, as creating a context is slow. */
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -36,8 +41,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Unmarshaller um = getContext(classToConvert).createUnmarshaller();
 
         return ((T) um.unmarshal(file));
     }
@@ -60,11 +64,25 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
+        Marshaller m = getContext(data.getClass()).createMarshaller();
         m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 
         m.marshal(data, file);
     }
 
+    /**
+     * Returns the JAXB context binding {@code boundClass}, creating it only the first time it is asked for.
+     *
+     * @throws JAXBException Thrown if {@code boundClass} cannot be bound.
+     */
+    public static JAXBContext getContext(Class<?> boundClass) throws JAXBException {
+        requireNonNull(boundClass);
+        JAXBContext context = contexts.get(boundClass);
+        if (context == null) {
+            context = JAXBContext.newInstance(boundClass);
+            contexts.putIfAbsent(boundClass, context);
+        }
+        return context;
+    }
+
 }
@@ -1,27 +1,30 @@
 package seedu.address.database;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLConnection;
-import java.nio.channels.Channels;
-import java.nio.channels.ReadableByteChannel;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.StringTokenizer;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.database.ModuleDatabaseChangedEvent;
+import seedu.address.commons.events.database.ModuleDatabaseLoadingEvent;
 import seedu.address.commons.events.ui.NewResultAvailableEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.CalendarUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.database.exceptions.TimetableLinkException;
 import seedu.address.database.module.Module;
 import seedu.address.database.module.Schedule;
 import seedu.address.model.event.WeeklyEvent;
@@ -35,14 +38,31 @@ import seedu.address.model.person.TimeTableLink;
 public class DatabaseManager {
     public static final String INCOMPATIBLE_LINK_MESSAGE = "One or more Timetable link(s) points to a different"
             + " semester as the one in Fastis.";
+    public static final String MESSAGE_UNRESOLVED_LINK = "Could not resolve the timetable link %1$s.";
+    public static final String MESSAGE_UNKNOWN_MODULE = "Module %1$s is not in the module database.";
+    public static final String MESSAGE_LOADING = "The module database is still loading. Please try again in a moment.";
+    public static final String STATUS_NOT_LOADED = "Module database: not loaded";
+    public static final String STATUS_CHECKING = "Module database: checking for updates...";
+    public static final String STATUS_DOWNLOADING = "Module database: downloading...";
+    public static final String STATUS_BUILDING = "Module database: building snapshot...";
+    public static final String STATUS_READY = "Module database: %1$d modules";
+    public static final String STATUS_UNAVAILABLE = "Module database: unavailable";
+    /** The time to wait for NUSmods when connecting and when reading, in milliseconds. */
+    public static final int DEFAULT_TIMEOUT_MILLIS = 5000;
+
     private static final String ACAD_YEAR = Integer.toString(CalendarUtil.getCurrAcadYear()) + "-"
             + Integer.toString(CalendarUtil.getCurrAcadYear() + 1);
     private static final String SEMESTER = Integer.toString(CalendarUtil.getCurrentSemester());
 
     private static final String DEFAULT_JSON_DATABASE_FILEPATH = "sem" + CalendarUtil.getCurrentSemester()
             + "modules.json";
+    private static final String DEFAULT_SNAPSHOT_DATABASE_FILEPATH = "sem" + CalendarUtil.getCurrentSemester()
+            + "modules.bin";
+    private static final String DEFAULT_METADATA_FILEPATH = "sem" + CalendarUtil.getCurrentSemester()
+            + "modules.meta.json";
     private static final String DEFAULT_JSON_DATABASE_URL = "https://api.nusmods.com/"
             + ACAD_YEAR + "/" + SEMESTER + "/modules.json";
+    private static final String DEFAULT_SHORT_LINK_CACHE_FILEPATH = "shortlinks.json";
     private static final Logger logger = LogsCenter.getLogger(DatabaseManager.class);
 
     private static final Map<String, String> lessonAbbrev = Collections.unmodifiableMap(
@@ -57,65 +77,191 @@ public class DatabaseManager {
                 put("Seminar-Style Module Class", "SEM");
                 put("Tutorial", "TUT");
                 put("Tutorial Type 2", "TUT2");
-                put("Tutorial Type 2", "TUT3");
+                put("Tutorial Type 3", "TUT3");
                 put("Workshop", "WS");
             }});
+    /** The lesson type of each abbreviation used in NUSmods timetable URLs. */
+    private static final Map<String, String> lessonTypes = Collections.unmodifiableMap(
+            lessonAbbrev.entrySet().stream().collect(Collectors.toMap(Map.Entry::getValue, Map.Entry::getKey)));
+
+    private static final ModuleSnapshot EMPTY_DATABASE = ModuleSnapshot.of(new ArrayList<>(), 0, 0);
+    private static final ShortLinkCache shortLinkCache = new ShortLinkCache(DEFAULT_SHORT_LINK_CACHE_FILEPATH);
+    private static final TimetableCache timetableCache = new TimetableCache(TimetableCache.DEFAULT_MAX_SIZE);
+
+    private static final Object loadingLock = new Object();
 
-    private static DatabaseManager databaseManager = null;
-    private static HashMap<String, Module> moduleDatabase;
+    private static volatile DatabaseManager databaseManager = null;
+    private static volatile String loadingStatus = STATUS_NOT_LOADED;
+    private static CompletableFuture<DatabaseManager> loaded = null;
+    private static volatile ModuleSnapshot moduleDatabase;
+    private static int moduleDatabaseVersion = 0;
+
+    private final File jsonFile = new File(DEFAULT_JSON_DATABASE_FILEPATH);
+    private final File snapshotFile = new File(DEFAULT_SNAPSHOT_DATABASE_FILEPATH);
+    private final ModuleDatabaseMetadata metadata = ModuleDatabaseMetadata.load(DEFAULT_METADATA_FILEPATH);
+    private final ModuleDatabaseDownloader downloader = new ModuleDatabaseDownloader(
+            toUrl(DEFAULT_JSON_DATABASE_URL), DEFAULT_TIMEOUT_MILLIS);
+    /** True if the module database was downloaded while loading, so that it is up to date. */
+    private final boolean isDownloadedOnLoad;
 
     private DatabaseManager() {
-        File jsonFile = new File(DEFAULT_JSON_DATABASE_FILEPATH);
-        if (jsonFile.exists()) {
+        isDownloadedOnLoad = !jsonFile.exists();
+        if (isDownloadedOnLoad) {
+            reportProgress(STATUS_DOWNLOADING);
             try {
-                URL databaseUrl = new URL(DEFAULT_JSON_DATABASE_URL);
-                URLConnection databaseConnection = databaseUrl.openConnection();
-                if (databaseConnection.getLastModified() > jsonFile.lastModified()) {
-                    downloadFile(databaseUrl, jsonFile);
-                }
-            } catch (MalformedURLException e) {
-                e.printStackTrace();
-            } catch (IOException e) {
-                logger.warning("Problem updating Module database. Existing database will be used.");
-            }
-        } else {
-            try {
-                URL databaseUrl = new URL(DEFAULT_JSON_DATABASE_URL);
-                downloadFile(databaseUrl, jsonFile);
-            } catch (MalformedURLException e) {
-                e.printStackTrace();
+                downloader.download(jsonFile, metadata);
+                metadata.save(DEFAULT_METADATA_FILEPATH);
             } catch (IOException e) {
                 logger.severe("Unable to download Module Database. Scheduling functionality will no be available.");
             }
         }
-        moduleDatabase = parseDatabase(DEFAULT_JSON_DATABASE_FILEPATH);
+        EventsCenter.getInstance().registerHandler(shortLinkCache);
+        EventsCenter.getInstance().registerHandler(timetableCache);
+        moduleDatabase = loadDatabase(jsonFile, snapshotFile);
+        moduleDatabaseVersion++;
+        EventsCenter.getInstance().post(new ModuleDatabaseChangedEvent(moduleDatabaseVersion));
+        reportReady();
+    }
+
+    /**
+     * Records {@code status} as the progress of loading the module database, and lets the UI know of it.
+     */
+    private static void reportProgress(String status) {
+        loadingStatus = status;
+        EventsCenter.getInstance().post(new ModuleDatabaseLoadingEvent(status));
+    }
+
+    /**
+     * Reports the module database as loaded, or as unavailable if it has no modules.
+     */
+    private static void reportReady() {
+        reportProgress(moduleDatabase.getModuleCount() == 0
+                ? STATUS_UNAVAILABLE
+                : String.format(STATUS_READY, moduleDatabase.getModuleCount()));
+    }
+
+    /**
+     * Returns the URL {@code url}, which is one of the constants of this class and so is known to be well formed.
+     */
+    private static URL toUrl(String url) {
+        try {
+            return new URL(url);
+        } catch (MalformedURLException e) {
+            throw new AssertionError("The module database URL is well formed", e);
+        }
     }
 
     /**
-     * Downloads the file from the specified {@code url} saves it in the given {@code file}
-     * Creates a new file if it does not exist, and attempts to overwrite if it does.
+     * Checks NUSmods for a newer module database, and if there is one, downloads it and replaces the module
+     * database with it. Only the timetables looked up in the modules that changed are parsed again.
+     * The module database is kept as it is if the check or the download fails.
      *
-     * @param url
-     * @param file
-     */
-    private void downloadFile(URL url, File file) throws IOException {
-        logger.info("Retrieving Module Database...");
-        ReadableByteChannel rbc = Channels.newChannel(url.openStream());
-        if (file.createNewFile()) {
-            FileOutputStream fos = new FileOutputStream(file);
-            fos.getChannel().transferFrom(rbc, 0, Long.MAX_VALUE);
-            fos.close();
-        } else {
-            File temp = new File("temp.json");
-            FileOutputStream fos = new FileOutputStream(temp);
-            fos.getChannel().transferFrom(rbc, 0, Long.MAX_VALUE);
-            file.delete();
-            fos.close();
-            temp.renameTo(file);
-        }
-    }
-
-    public static DatabaseManager getInstance() {
+     * @return true if the module database was replaced.
+     */
+    public synchronized boolean refresh() {
+        reportProgress(STATUS_CHECKING);
+        try {
+            ModuleDatabaseDownloader.Outcome outcome = downloader.download(jsonFile, metadata);
+            metadata.save(DEFAULT_METADATA_FILEPATH);
+            if (outcome != ModuleDatabaseDownloader.Outcome.UPDATED) {
+                reportReady();
+                return false;
+            }
+        } catch (IOException e) {
+            logger.warning("Problem updating Module database. Existing database will be used: " + e);
+            reportReady();
+            return false;
+        }
+
+        reportProgress(STATUS_BUILDING);
+        final List<Module> modules;
+        try {
+            modules = ModuleJsonReader.readModules(jsonFile.getPath());
+        } catch (DataConversionException e) {
+            logger.warning("Downloaded Module database cannot be read. Existing database will be used: " + e);
+            metadata.clear();
+            metadata.save(DEFAULT_METADATA_FILEPATH);
+            reportReady();
+            return false;
+        }
+        final boolean hadModuleHashes = metadata.hasModuleHashes();
+        final Set<String> changedModules = metadata.updateModuleHashes(modules);
+        metadata.save(DEFAULT_METADATA_FILEPATH);
+        moduleDatabase = buildSnapshot(modules, jsonFile, snapshotFile);
+        moduleDatabaseVersion++;
+        logger.info("Module database refreshed, " + (hadModuleHashes ? changedModules.size() : "all")
+                + " module(s) changed");
+        EventsCenter.getInstance().post(hadModuleHashes
+                ? new ModuleDatabaseChangedEvent(moduleDatabaseVersion, changedModules)
+                : new ModuleDatabaseChangedEvent(moduleDatabaseVersion));
+        reportReady();
+        return true;
+    }
+
+    /**
+     * Returns the cache of the long URLs of the timetable links resolved so far, kept across runs of the app.
+     */
+    public static ShortLinkCache getShortLinkCache() {
+        return shortLinkCache;
+    }
+
+    /**
+     * Returns the cache of the timetables parsed so far, kept for as long as the module database does not change.
+     */
+    public static TimetableCache getTimetableCache() {
+        return timetableCache;
+    }
+
+    /**
+     * Starts loading the module database on a background thread, unless it is already loaded or loading.
+     * Returns a future completed once the module database is loaded. Once loaded from the files of an earlier run,
+     * the module database is refreshed on the same thread.
+     */
+    public static CompletableFuture<DatabaseManager> loadInBackground() {
+        synchronized (loadingLock) {
+            if (loaded == null) {
+                loaded = new CompletableFuture<>();
+                Thread loader = new Thread(() -> {
+                    final DatabaseManager instance;
+                    try {
+                        instance = getInstance();
+                        loaded.complete(instance);
+                    } catch (RuntimeException e) {
+                        logger.severe("Unable to load Module Database: " + e);
+                        reportProgress(STATUS_UNAVAILABLE);
+                        loaded.completeExceptionally(e);
+                        return;
+                    }
+                    if (!instance.isDownloadedOnLoad) {
+                        instance.refresh();
+                    }
+                }, "module-database-loader");
+                loader.setDaemon(true);
+                loader.start();
+            }
+            return loaded;
+        }
+    }
+
+    /**
+     * Returns true if the module database is loaded, so that {@link #getInstance()} returns without waiting.
+     */
+    public static boolean isReady() {
+        return databaseManager != null;
+    }
+
+    /**
+     * Returns the latest progress of loading the module database.
+     */
+    public static String getLoadingStatus() {
+        return loadingStatus;
+    }
+
+    /**
+     * Returns the module database, loading it on the calling thread first if it is not loaded yet.
+     * Waits for the module database to finish loading if it is loading on another thread.
+     */
+    public static synchronized DatabaseManager getInstance() {
         if (databaseManager == null) {
             databaseManager = new DatabaseManager();
         }
@@ -128,41 +274,161 @@ public class DatabaseManager {
      * @param link TimeTableLinkto be parsed
      */
     public static ArrayList<WeeklyEvent> parseEvents(TimeTableLink link) {
-        ArrayList<WeeklyEvent> eventList = new ArrayList<>();
-
-        if (!isCurrentSem(link)) {
+        try {
+            return resolveEvents(link);
+        } catch (TimetableLinkException e) {
             EventsCenter.getInstance().post(new NewResultAvailableEvent(INCOMPATIBLE_LINK_MESSAGE, false));
-            logger.warning(INCOMPATIBLE_LINK_MESSAGE);
-            return eventList;
+            logger.warning(INCOMPATIBLE_LINK_MESSAGE + " " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Resolves {@code link} and returns the lessons it refers to, looking up the modules in the module database.
+     * Unlike {@link #parseEvents(TimeTableLink)}, does not post any event, so it can be called from any thread.
+     *
+     * @throws TimetableLinkException if the link cannot be resolved, points to another semester, or refers to
+     *      modules that are not in the module database.
+     */
+    public static ArrayList<WeeklyEvent> resolveEvents(TimeTableLink link) throws TimetableLinkException {
+        return parseLongUrl(resolveLongUrl(link), getModuleDatabase());
+    }
+
+    /**
+     * Returns the long URL {@code link} resolves to, from the short link cache if it was resolved before.
+     * Otherwise resolves it with NUSmods and remembers the result in the cache.
+     *
+     * @throws TimetableLinkException if the link was not resolved before and cannot be resolved now.
+     */
+    public static String resolveLongUrl(TimeTableLink link) throws TimetableLinkException {
+        String longUrl = shortLinkCache.getLongUrl(link);
+        if (longUrl == null) {
+            longUrl = resolveLongUrl(link.value, DEFAULT_TIMEOUT_MILLIS);
+            shortLinkCache.put(link, longUrl);
+        }
+        return longUrl;
+    }
+
+    /**
+     * Resolves the short URL {@code shortUrl} within {@code timeoutMillis} milliseconds for each of connecting and
+     * reading, and returns the long URL it redirects to. Always makes a request, without using the cache.
+     *
+     * @throws TimetableLinkException if the link cannot be resolved.
+     */
+    public static String resolveLongUrl(String shortUrl, int timeoutMillis) throws TimetableLinkException {
+        try {
+            return getLongUrl(new URL(shortUrl), timeoutMillis).toString();
+        } catch (IOException e) {
+            throw new TimetableLinkException(String.format(MESSAGE_UNRESOLVED_LINK, shortUrl), e);
         }
+    }
 
-        String query = getQuery(link);
-        StringBuilder result = new StringBuilder();
+    /**
+     * Returns the lessons selected in the long URL {@code longUrl} of a NUSmods timetable,
+     * looking up the modules in {@code modules}.
+     *
+     * @throws TimetableLinkException if the URL is malformed, points to another semester, or refers to
+     *      modules that are not in {@code modules}.
+     */
+    public static ArrayList<WeeklyEvent> parseLongUrl(String longUrl, ModuleSnapshot modules)
+            throws TimetableLinkException {
+        final URL url;
+        try {
+            url = new URL(longUrl);
+        } catch (MalformedURLException e) {
+            throw new TimetableLinkException(String.format(MESSAGE_UNRESOLVED_LINK, longUrl), e);
+        }
+        if (!isCurrentSem(url)) {
+            throw new TimetableLinkException(INCOMPATIBLE_LINK_MESSAGE);
+        }
+        return parseQuery(url.getQuery(), modules);
+    }
 
-        StringTokenizer queryTokenizer = new StringTokenizer(query, "&");
-        while (queryTokenizer.hasMoreTokens()) {
-            StringTokenizer modTokenizer = new StringTokenizer(queryTokenizer.nextToken(), "=");
-            Module module = moduleDatabase.get(modTokenizer.nextToken());
+    /**
+     * Returns the codes of the modules the long URL {@code longUrl} of a NUSmods timetable refers to,
+     * or an empty set if the URL is malformed.
+     */
+    public static Set<String> getModuleCodes(String longUrl) {
+        final Set<String> moduleCodes = new HashSet<>();
+        final String query;
+        try {
+            query = new URL(longUrl).getQuery();
+        } catch (MalformedURLException e) {
+            return moduleCodes;
+        }
+        if (query == null) {
+            return moduleCodes;
+        }
+        for (String moduleQuery : query.split("&")) {
+            int equals = moduleQuery.indexOf('=');
+            String moduleCode = equals < 0 ? moduleQuery : moduleQuery.substring(0, equals);
+            if (!moduleCode.isEmpty()) {
+                moduleCodes.add(moduleCode);
+            }
+        }
+        return moduleCodes;
+    }
 
-            String[] lessons = modTokenizer.nextToken().split(",");
-            List<Schedule> scheduleList = module.getScheduleList();
+    /**
+     * Returns the lessons selected in the {@code query} of a NUSmods timetable URL, looking up each lesson
+     * in {@code modules} by module code, lesson type and class number. Lessons of unknown types are left out.
+     *
+     * @throws TimetableLinkException if the query refers to modules that are not in {@code modules}.
+     */
+    private static ArrayList<WeeklyEvent> parseQuery(String query, ModuleSnapshot modules)
+            throws TimetableLinkException {
+        ArrayList<WeeklyEvent> eventList = new ArrayList<>();
+        if (query == null) {
+            return eventList;
+        }
 
-            for (Schedule schedule : scheduleList) {
-                for (String lesson : lessons) {
-                    StringTokenizer lessonTokenizer = new StringTokenizer(lesson, ":");
-                    String queryAbbrev = lessonTokenizer.nextToken();
-                    String queryLessonNum = lessonTokenizer.nextToken();
-                    if (queryAbbrev.equals(lessonAbbrev.get(schedule.getLessonType()))
-                            && queryLessonNum.equals(schedule.getClassNo())) {
-                        eventList.add(new WeeklyEvent(module, schedule));
+        for (String moduleQuery : query.split("&")) {
+            int equals = moduleQuery.indexOf('=');
+            String moduleCode = equals < 0 ? moduleQuery : moduleQuery.substring(0, equals);
+            if (moduleCode.isEmpty()) {
+                continue;
+            }
+            String moduleTitle = modules.getModuleTitle(moduleCode);
+            if (moduleTitle == null) {
+                throw new TimetableLinkException(String.format(MESSAGE_UNKNOWN_MODULE, moduleCode));
+            }
+            if (equals < 0) {
+                continue;
+            }
 
-                    }
+            Module module = new Module(moduleCode, moduleTitle);
+            for (String lesson : moduleQuery.substring(equals + 1).split(",")) {
+                int colon = lesson.indexOf(':');
+                if (colon <= 0 || colon == lesson.length() - 1 || lesson.indexOf(':', colon + 1) >= 0) {
+                    continue;
+                }
+                String lessonType = lessonTypes.get(lesson.substring(0, colon));
+                if (lessonType == null) {
+                    continue;
+                }
+                for (Schedule schedule : modules.getLessons(moduleCode, lessonType, lesson.substring(colon + 1))) {
+                    eventList.add(new WeeklyEvent(module, schedule));
                 }
             }
         }
         return eventList;
     }
 
+    /**
+     * Returns the module of code {@code moduleCode} in the module database, or null if there is none.
+     */
+    public static Module getModule(String moduleCode) {
+        return getModuleDatabase().getModule(moduleCode);
+    }
+
+    /**
+     * Returns the module database, or an empty one if it is not loaded yet.
+     */
+    public static ModuleSnapshot getModuleDatabase() {
+        final ModuleSnapshot modules = moduleDatabase;
+        return modules == null ? EMPTY_DATABASE : modules;
+    }
+
     /**
      * Takes a shortened link from NUSmods and returns its query
      *
@@ -170,67 +436,109 @@ public class DatabaseManager {
      */
     public static String getQuery(TimeTableLink timeTableLink) {
         try {
-            URL longUrl = getLongUrl(new URL(timeTableLink.toString()));
-            return longUrl.getQuery();
-
+            return new URL(resolveLongUrl(timeTableLink)).getQuery();
         } catch (MalformedURLException e) {
             logger.info("NUSmods URL Invalid.");
-        } catch (IOException e) {
-            e.printStackTrace();
+        } catch (TimetableLinkException e) {
+            logger.info("NUSmods URL could not be resolved: " + e.getMessage());
         }
         return null;
     }
 
     /**
-     * Takes a shortened link from NUSmods and checks if it corresponds to the semester the app is working with
-     *
-     * @param timeTableLink a TimeTableLink representing an URL to a NUSmods schedule
+     * Checks if the long form {@code longUrl} of a link from NUSmods corresponds to the semester the app is
+     * working with
      */
-    private static boolean isCurrentSem(TimeTableLink timeTableLink) {
-        try {
-            URL longUrl = getLongUrl(new URL(timeTableLink.toString()));
-            String currSem = "sem-" + Integer.toString(CalendarUtil.getCurrentSemester());
-            return longUrl.getPath().contains(currSem);
-        } catch (MalformedURLException e) {
-            logger.info("NUSmods URL Invalid.");
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        return false;
+    private static boolean isCurrentSem(URL longUrl) {
+        String currSem = "sem-" + Integer.toString(CalendarUtil.getCurrentSemester());
+        return longUrl.getPath().contains(currSem);
     }
 
     /**
-     * Takes a shortened URL and returns its longer form
+     * Takes a shortened URL and returns its longer form, without following the redirect.
+     * Gives up if connecting to or reading from the server takes more than {@code timeoutMillis} milliseconds.
      *
      * @param shortUrl a TimeTableLink representing an URL to a NUSmods schedule
+     * @throws IOException if the server cannot be reached or does not redirect.
      */
-    private static URL getLongUrl(URL shortUrl) throws IOException {
+    private static URL getLongUrl(URL shortUrl, int timeoutMillis) throws IOException {
         URLConnection connection = shortUrl.openConnection();
-        return new URL(connection.getHeaderField("Location"));
+        connection.setConnectTimeout(timeoutMillis);
+        connection.setReadTimeout(timeoutMillis);
+        HttpURLConnection httpConnection = connection instanceof HttpURLConnection
+                ? (HttpURLConnection) connection : null;
+        if (httpConnection != null) {
+            httpConnection.setInstanceFollowRedirects(false);
+        }
+        try {
+            String location = connection.getHeaderField("Location");
+            if (location == null) {
+                throw new IOException("No redirection from " + shortUrl);
+            }
+            return new URL(location);
+        } finally {
+            if (httpConnection != null) {
+                httpConnection.disconnect();
+            }
+        }
     }
 
 
     /**
-     * @param filePath
-     * @return hashMap of all modules from jsonfile
+     * Returns the module database in the snapshot file {@code snapshotFile}, building the snapshot from the JSON file
+     * {@code jsonFile} first if the snapshot is missing or was built from an older JSON file.
+     * The snapshot is used as it is if there is no JSON file.
+     */
+    private ModuleSnapshot loadDatabase(File jsonFile, File snapshotFile) {
+        if (snapshotFile.exists()) {
+            try {
+                ModuleSnapshot snapshot = ModuleSnapshot.open(snapshotFile);
+                if (!jsonFile.exists() || snapshot.isBuiltFrom(jsonFile)) {
+                    logger.info("Opened Module database snapshot of " + snapshot.getModuleCount() + " modules");
+                    return snapshot;
+                }
+            } catch (IOException | DataConversionException e) {
+                logger.warning("Module database snapshot cannot be read and will be built again: " + e);
+            }
+        }
+        if (jsonFile.exists()) {
+            reportProgress(STATUS_BUILDING);
+        }
+        List<Module> modules = parseDatabase(jsonFile.getPath());
+        if (!jsonFile.exists()) {
+            return ModuleSnapshot.of(modules, 0, 0);
+        }
+        metadata.updateModuleHashes(modules);
+        metadata.save(DEFAULT_METADATA_FILEPATH);
+        return buildSnapshot(modules, jsonFile, snapshotFile);
+    }
+
+    /**
+     * Writes the snapshot of {@code modules} read from {@code jsonFile} to {@code snapshotFile} and returns it,
+     * or returns it kept in memory if it cannot be written.
      */
-    private HashMap<String, Module> parseDatabase(String filePath) {
-        List<Module> moduleList;
+    private static ModuleSnapshot buildSnapshot(List<Module> modules, File jsonFile, File snapshotFile) {
         try {
-            moduleList = JsonUtil.readJsonArrayFromFile(filePath, Module.class);
+            ModuleSnapshot.write(modules, jsonFile, snapshotFile);
+            logger.info("Built Module database snapshot of " + modules.size() + " modules");
+            return ModuleSnapshot.open(snapshotFile);
+        } catch (IOException | DataConversionException e) {
+            logger.warning("Failed to save Module database snapshot, keeping it in memory instead: " + e);
+            return ModuleSnapshot.of(modules, jsonFile.length(), jsonFile.lastModified());
+        }
+    }
 
+    /**
+     * @param filePath
+     * @return list of all modules from jsonfile
+     */
+    private List<Module> parseDatabase(String filePath) {
+        try {
+            return ModuleJsonReader.readModules(filePath);
         } catch (DataConversionException e) {
             e.printStackTrace();
-            return new HashMap<>();
+            return new ArrayList<>();
         }
-
-        HashMap<String, Module> hashMap = new HashMap<>();
-
-        for (Module m : moduleList) {
-            hashMap.put(m.getModuleCode(), m);
-        }
-
-        return hashMap;
     }
 
 }
@@ -0,0 +1,184 @@
+package seedu.address.database;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Downloads the module database file from NUSmods only when it changed.
+ * <p>
+ * The request carries the entity tag and modification time NUSmods sent with the file last time, so that an
+ * unchanged file is answered with a "not modified" response and nothing is downloaded. A new file is streamed to a
+ * temporary file next to the existing one while its checksum is computed, checked against the length NUSmods
+ * announced, and only then moved in place, so that the existing file is never left half written.
+ */
+public class ModuleDatabaseDownloader {
+
+    public static final String MESSAGE_UNEXPECTED_RESPONSE = "Unexpected response %1$d from %2$s";
+    public static final String MESSAGE_INCOMPLETE_DOWNLOAD = "Downloaded %1$d of %2$d bytes from %3$s";
+
+    private static final Logger logger = LogsCenter.getLogger(ModuleDatabaseDownloader.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The outcome of checking for a newer module database file.
+     */
+    public enum Outcome {
+        /** NUSmods reported the file did not change, and nothing was downloaded. */
+        NOT_MODIFIED,
+        /** The file was downloaded, but has the same content as the existing one, which was kept. */
+        UNCHANGED,
+        /** A file with new content was downloaded and replaced the existing one. */
+        UPDATED
+    }
+
+    private final URL url;
+    private final int timeoutMillis;
+
+    /**
+     * Creates a downloader of the module database file at {@code url}, giving up after {@code timeoutMillis}
+     * milliseconds for each of connecting and reading.
+     */
+    public ModuleDatabaseDownloader(URL url, int timeoutMillis) {
+        checkArgument(timeoutMillis > 0);
+        this.url = requireNonNull(url);
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Downloads the module database file to {@code file} if it changed since it was last downloaded as recorded in
+     * {@code metadata}, and records the validators and checksum of a new file in {@code metadata}.
+     * The file is downloaded whatever the validators if it is missing or its content is not the one recorded.
+     *
+     * @throws IOException if the file cannot be downloaded, in which case {@code file} is left as it was.
+     */
+    public Outcome download(File file, ModuleDatabaseMetadata metadata) throws IOException {
+        requireNonNull(file);
+        requireNonNull(metadata);
+        final boolean isIntact = isIntact(file, metadata);
+        final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        try {
+            connection.setConnectTimeout(timeoutMillis);
+            connection.setReadTimeout(timeoutMillis);
+            if (isIntact && metadata.getEtag() != null) {
+                connection.setRequestProperty("If-None-Match", metadata.getEtag());
+            }
+            if (isIntact && metadata.getLastModified() > 0) {
+                connection.setIfModifiedSince(metadata.getLastModified());
+            }
+
+            final int responseCode = connection.getResponseCode();
+            if (responseCode == HttpURLConnection.HTTP_NOT_MODIFIED && isIntact) {
+                logger.info("Module database at " + url + " not modified");
+                return Outcome.NOT_MODIFIED;
+            }
+            if (responseCode != HttpURLConnection.HTTP_OK) {
+                throw new IOException(String.format(MESSAGE_UNEXPECTED_RESPONSE, responseCode, url));
+            }
+
+            final File temp = new File(file.getPath() + ".download");
+            try {
+                final String checksum = downloadTo(connection, temp);
+                final String etag = connection.getHeaderField("ETag");
+                final long lastModified = connection.getLastModified();
+                if (isIntact && checksum.equals(metadata.getChecksum())) {
+                    logger.info("Module database at " + url + " downloaded with the same content");
+                    metadata.setDownload(etag, lastModified, checksum);
+                    return Outcome.UNCHANGED;
+                }
+                move(temp, file);
+                metadata.setDownload(etag, lastModified, checksum);
+                logger.info("Module database downloaded from " + url + " (" + file.length() + " bytes)");
+                return Outcome.UPDATED;
+            } finally {
+                Files.deleteIfExists(temp.toPath());
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * Returns the checksum of the content of {@code file}.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    public static String checksumOf(File file) throws IOException {
+        requireNonNull(file);
+        final MessageDigest digest = ModuleDatabaseMetadata.newDigest();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file.toPath()), digest)) {
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            while (in.read(buffer) != -1) {
+                // the digest is updated as the file is read
+            }
+        }
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    /**
+     * Returns true if {@code file} exists with the content recorded in {@code metadata}.
+     */
+    private static boolean isIntact(File file, ModuleDatabaseMetadata metadata) {
+        if (!file.exists() || metadata.getChecksum() == null) {
+            return false;
+        }
+        try {
+            return metadata.getChecksum().equals(checksumOf(file));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Streams the body of the response of {@code connection} to {@code temp}, and returns its checksum.
+     *
+     * @throws IOException if the body cannot be read in full or written.
+     */
+    private String downloadTo(HttpURLConnection connection, File temp) throws IOException {
+        FileUtil.createParentDirsOfFile(temp);
+        final MessageDigest digest = ModuleDatabaseMetadata.newDigest();
+        final long expectedLength = connection.getContentLengthLong();
+        long length = 0;
+        try (InputStream in = new DigestInputStream(connection.getInputStream(), digest);
+             OutputStream out = Files.newOutputStream(temp.toPath())) {
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+                length += read;
+            }
+        }
+        if (expectedLength >= 0 && length != expectedLength) {
+            throw new IOException(String.format(MESSAGE_INCOMPLETE_DOWNLOAD, length, expectedLength, url));
+        }
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    /**
+     * Moves {@code source} to {@code target} in a single step if the file system allows it.
+     */
+    private static void move(File source, File target) throws IOException {
+        try {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
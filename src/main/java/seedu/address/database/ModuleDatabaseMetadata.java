@@ -0,0 +1,186 @@
+package seedu.address.database;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.database.module.Module;
+import seedu.address.database.module.Schedule;
+
+/**
+ * What is known about the module database file downloaded from NUSmods: the validators NUSmods sent with it, to
+ * ask for it again only if it changed, the checksum of its content, and a hash of each module in it, to tell which
+ * modules changed when a new file is downloaded.
+ * <p>
+ * Kept in a JSON file next to the module database file.
+ */
+public class ModuleDatabaseMetadata {
+
+    private static final Logger logger = LogsCenter.getLogger(ModuleDatabaseMetadata.class);
+
+    private String etag = null;
+    private long lastModified = 0;
+    private String checksum = null;
+    private Map<String, String> moduleHashes = new TreeMap<>();
+
+    /**
+     * Returns the metadata in the file at {@code filePath}, or empty metadata if the file does not exist or cannot
+     * be read.
+     */
+    public static ModuleDatabaseMetadata load(String filePath) {
+        requireNonNull(filePath);
+        try {
+            Optional<ModuleDatabaseMetadata> saved = JsonUtil.readJsonFile(filePath, ModuleDatabaseMetadata.class);
+            if (saved.isPresent()) {
+                return saved.get();
+            }
+        } catch (DataConversionException e) {
+            logger.warning("Module database metadata at " + filePath + " is not in the correct format. "
+                    + "The module database will be downloaded again");
+        }
+        return new ModuleDatabaseMetadata();
+    }
+
+    /**
+     * Writes this metadata to the file at {@code filePath}. A failure only means the module database is downloaded
+     * again the next time it is checked, so it is logged rather than reported.
+     */
+    public void save(String filePath) {
+        requireNonNull(filePath);
+        try {
+            JsonUtil.saveJsonFile(this, filePath);
+        } catch (IOException e) {
+            logger.warning("Failed to save module database metadata: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the entity tag NUSmods sent with the module database file, or null if there was none.
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * Returns the time NUSmods reported the module database file was last modified, or 0 if it did not.
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Returns the checksum of the content of the module database file, or null if it is not known.
+     */
+    public String getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Records the validators and checksum of a newly downloaded module database file.
+     */
+    public void setDownload(String etag, long lastModified, String checksum) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Forgets everything about the module database file, so that it is downloaded again the next time.
+     */
+    public void clear() {
+        setDownload(null, 0, null);
+        moduleHashes.clear();
+    }
+
+    /**
+     * Returns true if the hash of each module is known.
+     */
+    public boolean hasModuleHashes() {
+        return !moduleHashes.isEmpty();
+    }
+
+    /**
+     * Records the hash of each of {@code modules}, and returns the codes of the modules that were added, removed or
+     * changed since the hashes were last recorded.
+     */
+    public Set<String> updateModuleHashes(List<Module> modules) {
+        requireNonNull(modules);
+        final Map<String, String> hashes = new HashMap<>();
+        for (Module module : modules) {
+            hashes.put(module.getModuleCode(), hashOf(module));
+        }
+        final Set<String> changed = new HashSet<>(moduleHashes.keySet());
+        changed.removeAll(hashes.keySet());
+        for (Map.Entry<String, String> hash : hashes.entrySet()) {
+            if (!hash.getValue().equals(moduleHashes.get(hash.getKey()))) {
+                changed.add(hash.getKey());
+            }
+        }
+        moduleHashes = new TreeMap<>(hashes);
+        return changed;
+    }
+
+    /**
+     * Returns a hash of the fields of {@code module} and its lessons that the module database keeps.
+     */
+    static String hashOf(Module module) {
+        final MessageDigest digest = newDigest();
+        update(digest, module.getModuleCode());
+        update(digest, module.getModuleTitle());
+        if (module.getScheduleList() != null) {
+            for (Schedule schedule : module.getScheduleList()) {
+                update(digest, schedule.getClassNo());
+                update(digest, schedule.getLessonType());
+                update(digest, schedule.getWeekText());
+                update(digest, schedule.getDayText());
+                update(digest, schedule.getStartTime());
+                update(digest, schedule.getEndTime());
+                update(digest, schedule.getVenue());
+            }
+        }
+        return Base64.getEncoder().encodeToString(digest.digest());
+    }
+
+    /**
+     * Returns a new digest of the algorithm used for checksums and module hashes.
+     */
+    static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("Every Java platform supports SHA-256", e);
+        }
+    }
+
+    /**
+     * Adds {@code value} to {@code digest}, so that a null or an empty value, or values split differently, do not
+     * hash the same.
+     */
+    private static void update(MessageDigest digest, String value) {
+        if (value == null) {
+            digest.update((byte) 0);
+            return;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update((byte) 1);
+        digest.update(new byte[] {(byte) (bytes.length >>> 24), (byte) (bytes.length >>> 16),
+            (byte) (bytes.length >>> 8), (byte) bytes.length});
+        digest.update(bytes);
+    }
+}
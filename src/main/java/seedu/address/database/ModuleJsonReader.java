@@ -0,0 +1,178 @@
+package seedu.address.database;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.database.module.Module;
+import seedu.address.database.module.Schedule;
+
+/**
+ * Reads the modules of a NUSmods {@code modules.json} file with a streaming parser.
+ * <p>
+ * Only the fields of {@code Module} and {@code Schedule} are read, and every other field is skipped without being
+ * parsed into objects. The many strings repeated across lessons, such as lesson types, days and times, are shared
+ * rather than kept once per lesson. The modules read are the same as those read by
+ * {@code JsonUtil.readJsonArrayFromFile}, with the same defaults for missing fields, except that a null module code
+ * or title is read as an empty one.
+ */
+public class ModuleJsonReader {
+
+    private static final Logger logger = LogsCenter.getLogger(ModuleJsonReader.class);
+    private static final JsonFactory jsonFactory = new JsonFactory();
+    /** The lesson whose fields are used for the fields missing from a lesson in the file. */
+    private static final Schedule DEFAULT_SCHEDULE = new Schedule();
+
+    private final Map<String, String> strings = new HashMap<>();
+
+    /**
+     * Returns the modules in the JSON file at {@code filePath}, or an empty list if the file is not found.
+     *
+     * @throws DataConversionException if the file is not a JSON array of modules.
+     */
+    public static ArrayList<Module> readModules(String filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        File file = new File(filePath);
+        if (!file.exists()) {
+            logger.info("Json file " + file + " not found");
+            return new ArrayList<>();
+        }
+
+        try (JsonParser parser = jsonFactory.createParser(file)) {
+            return new ModuleJsonReader().readModules(parser);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + file + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the modules of the JSON array {@code parser} is at the start of.
+     */
+    private ArrayList<Module> readModules(JsonParser parser) throws IOException {
+        expect(parser, parser.nextToken(), JsonToken.START_ARRAY);
+        ArrayList<Module> modules = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            modules.add(readModule(parser));
+        }
+        return modules;
+    }
+
+    /**
+     * Returns the module of the JSON object {@code parser} is at the start of.
+     */
+    private Module readModule(JsonParser parser) throws IOException {
+        expect(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+        String moduleCode = "";
+        String moduleTitle = "";
+        ArrayList<Schedule> timetable = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+            case "ModuleCode":
+                moduleCode = readString(parser);
+                break;
+            case "ModuleTitle":
+                moduleTitle = readString(parser);
+                break;
+            case "Timetable":
+                timetable = value == JsonToken.VALUE_NULL ? null : readTimetable(parser);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        return new Module(moduleCode == null ? "" : moduleCode, moduleTitle == null ? "" : moduleTitle, timetable);
+    }
+
+    /**
+     * Returns the lessons of the JSON array {@code parser} is at the start of.
+     */
+    private ArrayList<Schedule> readTimetable(JsonParser parser) throws IOException {
+        expect(parser, parser.getCurrentToken(), JsonToken.START_ARRAY);
+        ArrayList<Schedule> timetable = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            timetable.add(readSchedule(parser));
+        }
+        return timetable;
+    }
+
+    /**
+     * Returns the lesson of the JSON object {@code parser} is at the start of.
+     */
+    private Schedule readSchedule(JsonParser parser) throws IOException {
+        expect(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+        String classNo = DEFAULT_SCHEDULE.getClassNo();
+        String lessonType = DEFAULT_SCHEDULE.getLessonType();
+        String weekText = DEFAULT_SCHEDULE.getWeekText();
+        String dayText = DEFAULT_SCHEDULE.getDayText();
+        String startTime = DEFAULT_SCHEDULE.getStartTime();
+        String endTime = DEFAULT_SCHEDULE.getEndTime();
+        String venue = DEFAULT_SCHEDULE.getVenue();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+            case "ClassNo":
+                classNo = readString(parser);
+                break;
+            case "LessonType":
+                lessonType = readString(parser);
+                break;
+            case "WeekText":
+                weekText = readString(parser);
+                break;
+            case "DayText":
+                dayText = readString(parser);
+                break;
+            case "StartTime":
+                startTime = readString(parser);
+                break;
+            case "EndTime":
+                endTime = readString(parser);
+                break;
+            case "Venue":
+                venue = readString(parser);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        return new Schedule(classNo, lessonType, weekText, dayText, startTime, endTime, venue);
+    }
+
+    /**
+     * Returns the scalar value {@code parser} is at as a string, shared with every equal string read before,
+     * or null if the value is null.
+     */
+    private String readString(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!parser.getCurrentToken().isScalarValue()) {
+            throw new JsonParseException(parser, "Expected a string");
+        }
+        String value = parser.getValueAsString();
+        String shared = strings.putIfAbsent(value, value);
+        return shared == null ? value : shared;
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
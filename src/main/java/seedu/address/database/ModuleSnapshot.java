@@ -0,0 +1,449 @@
+package seedu.address.database;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.database.module.Module;
+import seedu.address.database.module.Schedule;
+
+/**
+ * A read-only module database in a compact binary format, built once from the NUSmods JSON file and then opened
+ * by mapping it into memory, so that loading it takes neither parsing nor heap space for every module.
+ * <p>
+ * The format is a header, a table of the distinct strings, a table of fixed-width module records sorted by module
+ * code, and a table of fixed-width lesson records. Strings are referred to by their index in the string table.
+ * A {@code Module} is only created when it is looked up, with its code found by binary search in the mapped buffer.
+ * The lessons of each module are sorted by lesson type and class number, so that the lessons of one class can be
+ * found by binary search too, without creating the rest of the module.
+ * The header records the size and modification time of the JSON file the snapshot was built from, to tell when
+ * the snapshot has to be built again.
+ */
+public class ModuleSnapshot {
+
+    public static final String MESSAGE_NOT_A_SNAPSHOT = "Not a module database snapshot of this version";
+
+    private static final int MAGIC = 0x464D4442;
+    private static final int FORMAT_VERSION = 2;
+    private static final int NO_STRING = -1;
+
+    /** Magic number, format version, source length, source modification time and the sizes of the 3 tables. */
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 4 + 4 + 4;
+    /** Code, title, index of the first lesson and number of lessons. */
+    private static final int MODULE_RECORD_SIZE = 4 * 4;
+    /** Class number, lesson type, week text, day text, start time, end time and venue. */
+    private static final int LESSON_RECORD_SIZE = 7 * 4;
+    /** The order of the lessons of a module, by lesson type and then class number, with null first. */
+    private static final Comparator<Schedule> LESSON_ORDER =
+            Comparator.comparing(Schedule::getLessonType, Comparator.nullsFirst(ModuleSnapshot::compareUtf8))
+                    .thenComparing(Schedule::getClassNo, Comparator.nullsFirst(ModuleSnapshot::compareUtf8));
+
+    private final ByteBuffer buffer;
+    private final long sourceLength;
+    private final long sourceLastModified;
+    private final int stringCount;
+    private final int moduleCount;
+    private final int lessonCount;
+    private final int stringOffsetsStart;
+    private final int stringDataStart;
+    private final int modulesStart;
+    private final int lessonsStart;
+
+    private ModuleSnapshot(ByteBuffer buffer) throws DataConversionException {
+        this.buffer = buffer;
+        try {
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+                throw new DataConversionException(new IOException(MESSAGE_NOT_A_SNAPSHOT));
+            }
+            sourceLength = buffer.getLong(8);
+            sourceLastModified = buffer.getLong(16);
+            stringCount = buffer.getInt(24);
+            moduleCount = buffer.getInt(28);
+            lessonCount = buffer.getInt(32);
+            stringOffsetsStart = HEADER_SIZE;
+            stringDataStart = stringOffsetsStart + 4 * (stringCount + 1);
+            modulesStart = stringDataStart + buffer.getInt(stringOffsetsStart + 4 * stringCount);
+            lessonsStart = modulesStart + MODULE_RECORD_SIZE * moduleCount;
+        } catch (IndexOutOfBoundsException e) {
+            throw new DataConversionException(e);
+        }
+        if (stringCount < 0 || moduleCount < 0 || lessonCount < 0
+                || (long) lessonsStart + (long) LESSON_RECORD_SIZE * lessonCount != buffer.limit()) {
+            throw new DataConversionException(new IOException(MESSAGE_NOT_A_SNAPSHOT));
+        }
+    }
+
+    /**
+     * Opens the snapshot in {@code file} by mapping it into memory.
+     *
+     * @throws IOException if the file cannot be read.
+     * @throws DataConversionException if the file is not a snapshot in the current format.
+     */
+    public static ModuleSnapshot open(File file) throws IOException, DataConversionException {
+        requireNonNull(file);
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+             FileChannel channel = randomAccessFile.getChannel()) {
+            return new ModuleSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Returns a snapshot of {@code modules} kept in memory, for a JSON file of {@code sourceLength} bytes last
+     * modified at {@code sourceLastModified}.
+     */
+    public static ModuleSnapshot of(List<Module> modules, long sourceLength, long sourceLastModified) {
+        try {
+            return new ModuleSnapshot(ByteBuffer.wrap(toBytes(modules, sourceLength, sourceLastModified)));
+        } catch (DataConversionException e) {
+            throw new AssertionError("A snapshot that was just built must be valid", e);
+        }
+    }
+
+    /**
+     * Writes a snapshot of {@code modules}, built from {@code source}, to {@code file}. The snapshot is written to
+     * a temporary file first and then moved in place, so that {@code file} is never left half written.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    public static void write(List<Module> modules, File source, File file) throws IOException {
+        requireNonNull(modules);
+        requireNonNull(source);
+        requireNonNull(file);
+        FileUtil.createParentDirsOfFile(file);
+        File temp = new File(file.getPath() + ".tmp");
+        Files.write(temp.toPath(), toBytes(modules, source.length(), source.lastModified()));
+        try {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns true if this snapshot was built from {@code source} as it is now.
+     */
+    public boolean isBuiltFrom(File source) {
+        requireNonNull(source);
+        return source.length() == sourceLength && source.lastModified() == sourceLastModified;
+    }
+
+    public int getModuleCount() {
+        return moduleCount;
+    }
+
+    public int getLessonCount() {
+        return lessonCount;
+    }
+
+    /**
+     * Returns the module of code {@code moduleCode}, or null if there is none.
+     * Its lessons are in order of lesson type and then class number.
+     */
+    public Module getModule(String moduleCode) {
+        requireNonNull(moduleCode);
+        final int index = findModule(moduleCode);
+        return index < 0 ? null : readModule(index);
+    }
+
+    /**
+     * Returns the title of the module of code {@code moduleCode}, or null if there is no such module.
+     */
+    public String getModuleTitle(String moduleCode) {
+        requireNonNull(moduleCode);
+        final int index = findModule(moduleCode);
+        if (index < 0) {
+            return null;
+        }
+        final String title = readString(moduleRecord(index) + 4);
+        return title == null ? "" : title;
+    }
+
+    /**
+     * Returns the lessons of class {@code classNo} of lesson type {@code lessonType} of the module of code
+     * {@code moduleCode}, or an empty list if there are none. Only those lessons are read from the buffer.
+     */
+    public List<Schedule> getLessons(String moduleCode, String lessonType, String classNo) {
+        requireNonNull(moduleCode);
+        requireNonNull(lessonType);
+        requireNonNull(classNo);
+        final List<Schedule> lessons = new ArrayList<>();
+        final int index = findModule(moduleCode);
+        if (index < 0) {
+            return lessons;
+        }
+        final int record = moduleRecord(index);
+        final int end = buffer.getInt(record + 8) + buffer.getInt(record + 12);
+        final byte[] typeKey = lessonType.getBytes(StandardCharsets.UTF_8);
+        final byte[] classKey = classNo.getBytes(StandardCharsets.UTF_8);
+        int low = buffer.getInt(record + 8);
+        int high = end;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (compareLesson(middle, typeKey, classKey) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        for (int lesson = low; lesson < end && compareLesson(lesson, typeKey, classKey) == 0; lesson++) {
+            lessons.add(readLesson(lesson));
+        }
+        return lessons;
+    }
+
+    /**
+     * Returns all the modules, in order of module code.
+     */
+    public List<Module> getModules() {
+        final List<Module> modules = new ArrayList<>(moduleCount);
+        for (int i = 0; i < moduleCount; i++) {
+            modules.add(readModule(i));
+        }
+        return modules;
+    }
+
+    /**
+     * Returns a new {@code Module} with the fields of the module record of index {@code index}.
+     */
+    private Module readModule(int index) {
+        final int record = moduleRecord(index);
+        final int firstLesson = buffer.getInt(record + 8);
+        final int moduleLessonCount = buffer.getInt(record + 12);
+        final ArrayList<Schedule> schedules = new ArrayList<>(moduleLessonCount);
+        for (int lesson = firstLesson; lesson < firstLesson + moduleLessonCount; lesson++) {
+            schedules.add(readLesson(lesson));
+        }
+        final String title = readString(record + 4);
+        return new Module(readString(record), title == null ? "" : title, schedules);
+    }
+
+    /**
+     * Returns a new {@code Schedule} with the fields of the lesson record of index {@code index}.
+     */
+    private Schedule readLesson(int index) {
+        final int record = lessonRecord(index);
+        return new Schedule(readString(record), readString(record + 4), readString(record + 8),
+                readString(record + 12), readString(record + 16), readString(record + 20), readString(record + 24));
+    }
+
+    /**
+     * Returns the index of the module record of code {@code moduleCode}, or -1 if there is none.
+     */
+    private int findModule(String moduleCode) {
+        final byte[] key = moduleCode.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = moduleCount - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int comparison = compareString(buffer.getInt(moduleRecord(middle)), key);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compares the lesson type and then the class number of the lesson record of index {@code index} with
+     * {@code lessonType} and {@code classNo}, in the order the lessons of a module are sorted in.
+     */
+    private int compareLesson(int index, byte[] lessonType, byte[] classNo) {
+        final int record = lessonRecord(index);
+        final int comparison = compareString(buffer.getInt(record + 4), lessonType);
+        return comparison != 0 ? comparison : compareString(buffer.getInt(record), classNo);
+    }
+
+    private int moduleRecord(int index) {
+        return modulesStart + MODULE_RECORD_SIZE * index;
+    }
+
+    private int lessonRecord(int index) {
+        return lessonsStart + LESSON_RECORD_SIZE * index;
+    }
+
+    /**
+     * Returns the string referred to by the index at position {@code position} of the buffer.
+     */
+    private String readString(int position) {
+        final int id = buffer.getInt(position);
+        if (id == NO_STRING) {
+            return null;
+        }
+        final int start = stringDataStart + buffer.getInt(stringOffsetsStart + 4 * id);
+        final byte[] bytes = new byte[stringDataStart + buffer.getInt(stringOffsetsStart + 4 * (id + 1)) - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Compares the UTF-8 bytes of the string of index {@code id} with {@code key}, as unsigned bytes.
+     * No string comes before every key.
+     */
+    private int compareString(int id, byte[] key) {
+        if (id == NO_STRING) {
+            return -1;
+        }
+        final int start = stringDataStart + buffer.getInt(stringOffsetsStart + 4 * id);
+        final int length = stringDataStart + buffer.getInt(stringOffsetsStart + 4 * (id + 1)) - start;
+        for (int i = 0; i < Math.min(length, key.length); i++) {
+            final int difference = (buffer.get(start + i) & 0xFF) - (key[i] & 0xFF);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return length - key.length;
+    }
+
+    /**
+     * Returns the snapshot of {@code modules} as bytes. Modules without a code are left out, and the lessons of
+     * each module are sorted by lesson type and then class number.
+     */
+    private static byte[] toBytes(List<Module> modules, long sourceLength, long sourceLastModified) {
+        final List<Module> sorted = new ArrayList<>();
+        for (Module module : modules) {
+            if (module.getModuleCode() != null) {
+                sorted.add(module);
+            }
+        }
+        sorted.sort(Comparator.comparing(Module::getModuleCode, ModuleSnapshot::compareUtf8));
+        final StringTable strings = new StringTable();
+        int totalLessons = 0;
+        final List<List<Schedule>> sortedSchedules = new ArrayList<>(sorted.size());
+        for (Module module : sorted) {
+            final List<Schedule> schedules = new ArrayList<>(getSchedules(module));
+            schedules.sort(LESSON_ORDER);
+            sortedSchedules.add(schedules);
+            strings.add(module.getModuleCode());
+            strings.add(module.getModuleTitle());
+            for (Schedule schedule : schedules) {
+                strings.addAll(schedule.getClassNo(), schedule.getLessonType(), schedule.getWeekText(),
+                        schedule.getDayText(), schedule.getStartTime(), schedule.getEndTime(), schedule.getVenue());
+                totalLessons++;
+            }
+        }
+
+        final ByteBuffer out = ByteBuffer.allocate(HEADER_SIZE + strings.getSize()
+                + MODULE_RECORD_SIZE * sorted.size() + LESSON_RECORD_SIZE * totalLessons);
+        out.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(sourceLength).putLong(sourceLastModified)
+                .putInt(strings.getCount()).putInt(sorted.size()).putInt(totalLessons);
+        strings.writeTo(out);
+        int firstLesson = 0;
+        for (int i = 0; i < sorted.size(); i++) {
+            final Module module = sorted.get(i);
+            final int moduleLessonCount = sortedSchedules.get(i).size();
+            out.putInt(strings.idOf(module.getModuleCode())).putInt(strings.idOf(module.getModuleTitle()))
+                    .putInt(firstLesson).putInt(moduleLessonCount);
+            firstLesson += moduleLessonCount;
+        }
+        for (List<Schedule> schedules : sortedSchedules) {
+            for (Schedule schedule : schedules) {
+                out.putInt(strings.idOf(schedule.getClassNo())).putInt(strings.idOf(schedule.getLessonType()))
+                        .putInt(strings.idOf(schedule.getWeekText())).putInt(strings.idOf(schedule.getDayText()))
+                        .putInt(strings.idOf(schedule.getStartTime())).putInt(strings.idOf(schedule.getEndTime()))
+                        .putInt(strings.idOf(schedule.getVenue()));
+            }
+        }
+        assert !out.hasRemaining();
+        return out.array();
+    }
+
+    private static List<Schedule> getSchedules(Module module) {
+        return module.getScheduleList() == null ? new ArrayList<>() : module.getScheduleList();
+    }
+
+    /**
+     * Compares the UTF-8 bytes of {@code first} and {@code second} as unsigned bytes, the order of the module
+     * records that {@link #compareString} searches.
+     */
+    private static int compareUtf8(String first, String second) {
+        final byte[] firstBytes = first.getBytes(StandardCharsets.UTF_8);
+        final byte[] secondBytes = second.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < Math.min(firstBytes.length, secondBytes.length); i++) {
+            final int difference = (firstBytes[i] & 0xFF) - (secondBytes[i] & 0xFF);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return firstBytes.length - secondBytes.length;
+    }
+
+    /**
+     * The distinct strings of a snapshot being built, in the order they were first added.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<byte[]> encoded = new ArrayList<>();
+        private int dataSize = 0;
+
+        /**
+         * Adds {@code string} if it is not null and not in the table yet.
+         */
+        private void add(String string) {
+            if (string != null && !ids.containsKey(string)) {
+                ids.put(string, encoded.size());
+                final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                encoded.add(bytes);
+                dataSize += bytes.length;
+            }
+        }
+
+        private void addAll(String... strings) {
+            for (String string : strings) {
+                add(string);
+            }
+        }
+
+        private int idOf(String string) {
+            return string == null ? NO_STRING : ids.get(string);
+        }
+
+        private int getCount() {
+            return encoded.size();
+        }
+
+        /**
+         * Returns the number of bytes taken by the offsets and the data of the strings.
+         */
+        private int getSize() {
+            return 4 * (encoded.size() + 1) + dataSize;
+        }
+
+        /**
+         * Writes the offset of each string from the start of the data, the offset of the end of the data, and then
+         * the data.
+         */
+        private void writeTo(ByteBuffer out) {
+            int offset = 0;
+            for (byte[] bytes : encoded) {
+                out.putInt(offset);
+                offset += bytes.length;
+            }
+            out.putInt(offset);
+            for (byte[] bytes : encoded) {
+                out.put(bytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.database;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.event.WeeklyAvailability;
+import seedu.address.model.event.WeeklyEvent;
+
+/**
+ * The lessons a timetable link refers to, with the times of the week they leave free and the modules they were
+ * looked up in.
+ * Guarantees: immutable, so that it can be shared by everyone using the same link.
+ */
+public class ParsedTimetable {
+
+    private final List<WeeklyEvent> events;
+    private final WeeklyAvailability availability;
+    private final Set<String> moduleCodes;
+
+    /**
+     * Creates a timetable of {@code events}, looked up in the modules of their names.
+     */
+    public ParsedTimetable(List<WeeklyEvent> events) {
+        this(events, getNames(events));
+    }
+
+    /**
+     * Creates a timetable of {@code events}, looked up in the modules of codes {@code moduleCodes}, including those
+     * none of whose lessons were found.
+     */
+    public ParsedTimetable(List<WeeklyEvent> events, Collection<String> moduleCodes) {
+        requireNonNull(events);
+        requireNonNull(moduleCodes);
+        this.events = Collections.unmodifiableList(new ArrayList<>(events));
+        this.availability = WeeklyAvailability.of(events);
+        this.moduleCodes = Collections.unmodifiableSet(new HashSet<>(moduleCodes));
+    }
+
+    private static Set<String> getNames(List<WeeklyEvent> events) {
+        final Set<String> names = new HashSet<>();
+        for (WeeklyEvent event : events) {
+            names.add(event.getName());
+        }
+        return names;
+    }
+
+    public List<WeeklyEvent> getEvents() {
+        return events;
+    }
+
+    /**
+     * Returns the codes of the modules the lessons of this timetable were looked up in.
+     */
+    public Set<String> getModuleCodes() {
+        return moduleCodes;
+    }
+
+    /**
+     * Returns the times of the week free of the lessons of this timetable, as a new {@code WeeklyAvailability}
+     * that can be modified.
+     */
+    public WeeklyAvailability getAvailability() {
+        return new WeeklyAvailability(availability);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ParsedTimetable // instanceof handles nulls
+                && events.equals(((ParsedTimetable) other).events));
+    }
+
+    @Override
+    public int hashCode() {
+        return events.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return events.size() + " lesson(s)";
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.address.database;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookDelta.Change;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TimeTableLink;
+
+/**
+ * Remembers the long URL each timetable link was resolved to, so that a link only has to be resolved once.
+ * <p>
+ * A short link never changes once created, so an entry stays valid until the link is no longer used. The entries
+ * can be kept in a JSON file, which is read when the cache is created and written every time an entry is added or
+ * removed, so that the links resolved before can be used without a network connection.
+ */
+public class ShortLinkCache {
+
+    private static final Logger logger = LogsCenter.getLogger(ShortLinkCache.class);
+
+    private final String filePath;
+    private final Map<String, String> longUrls = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty cache that is not kept in a file.
+     */
+    public ShortLinkCache() {
+        this.filePath = null;
+    }
+
+    /**
+     * Creates a cache kept in the file at {@code filePath}, with the entries already in the file.
+     * Starts empty if the file does not exist or cannot be read.
+     */
+    public ShortLinkCache(String filePath) {
+        this.filePath = requireNonNull(filePath);
+        try {
+            Optional<JsonShortLinks> saved = JsonUtil.readJsonFile(filePath, JsonShortLinks.class);
+            saved.ifPresent(shortLinks -> longUrls.putAll(shortLinks.longUrls));
+            logger.info("Loaded " + longUrls.size() + " resolved timetable link(s) from " + filePath);
+        } catch (DataConversionException e) {
+            logger.warning("Timetable link cache at " + filePath + " is not in the correct format. "
+                    + "Starting with an empty cache");
+        }
+    }
+
+    /**
+     * Returns the long URL {@code link} was resolved to, or null if it was not resolved before.
+     */
+    public String getLongUrl(TimeTableLink link) {
+        requireNonNull(link);
+        return longUrls.get(link.value);
+    }
+
+    /**
+     * Remembers that {@code link} resolves to {@code longUrl}.
+     */
+    public synchronized void put(TimeTableLink link, String longUrl) {
+        requireNonNull(link);
+        requireNonNull(longUrl);
+        if (!longUrl.equals(longUrls.put(link.value, longUrl))) {
+            save();
+        }
+    }
+
+    /**
+     * Forgets the long URL of {@code link}, so that it is resolved again the next time it is used.
+     */
+    public synchronized void invalidate(TimeTableLink link) {
+        requireNonNull(link);
+        if (longUrls.remove(link.value) != null) {
+            save();
+        }
+    }
+
+    public int size() {
+        return longUrls.size();
+    }
+
+    /**
+     * Writes the entries to the file of this cache, if any. A failure only loses the entries added since the last
+     * successful write, so it is logged rather than reported.
+     */
+    private void save() {
+        if (filePath == null) {
+            return;
+        }
+        try {
+            JsonUtil.saveJsonFile(new JsonShortLinks(longUrls), filePath);
+        } catch (IOException e) {
+            logger.warning("Failed to save timetable link cache: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Forgets the links that persons were edited to no longer have.
+     */
+    @Subscribe
+    public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
+        for (Change<?> change : event.delta.getChanges()) {
+            if (!change.getType().equals(Person.class) || change.isAddition() || change.isRemoval()) {
+                continue;
+            }
+            TimeTableLink previousLink = ((Person) change.getBefore()).getTimeTableLink();
+            if (!previousLink.equals(((Person) change.getAfter()).getTimeTableLink())) {
+                logger.fine("Timetable link " + previousLink + " was edited, forgetting its long URL");
+                invalidate(previousLink);
+            }
+        }
+    }
+
+    /**
+     * The entries of a {@code ShortLinkCache} as they are kept in its file.
+     */
+    private static class JsonShortLinks {
+        private Map<String, String> longUrls = new TreeMap<>();
+
+        private JsonShortLinks() {}
+
+        private JsonShortLinks(Map<String, String> longUrls) {
+            this.longUrls.putAll(longUrls);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package seedu.address.database;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.database.ModuleDatabaseChangedEvent;
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.model.AddressBookDelta.Change;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TimeTableLink;
+
+/**
+ * Remembers the timetables parsed from the timetable links of persons, so that a timetable is only parsed again
+ * when the link of its person or the module database changes.
+ * <p>
+ * Each timetable is kept with the version of the module database it was parsed with, and is only returned while
+ * that version is current. When only some modules change, the timetables not looked up in any of them are carried
+ * over to the new version. At most a fixed number of timetables are kept, the least recently used being dropped
+ * first.
+ */
+public class TimetableCache {
+
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    private static final Logger logger = LogsCenter.getLogger(TimetableCache.class);
+
+    private final int maxSize;
+    private final Map<String, Entry> entries;
+    private int moduleDatabaseVersion = 0;
+    private long hitCount = 0;
+    private long missCount = 0;
+    private long evictionCount = 0;
+
+    /**
+     * Creates an empty cache keeping at most {@code maxSize} timetables.
+     */
+    public TimetableCache(int maxSize) {
+        checkArgument(maxSize > 0);
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() <= TimetableCache.this.maxSize) {
+                    return false;
+                }
+                evictionCount++;
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns the timetable of {@code link} parsed with the current version of the module database,
+     * or null if there is none.
+     */
+    public synchronized ParsedTimetable get(TimeTableLink link) {
+        requireNonNull(link);
+        Entry entry = entries.get(link.value);
+        if (entry == null || entry.moduleDatabaseVersion != moduleDatabaseVersion) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        return entry.timetable;
+    }
+
+    /**
+     * Remembers {@code timetable} as the timetable of {@code link} parsed with version
+     * {@code moduleDatabaseVersion} of the module database. Does nothing if that version is no longer current.
+     */
+    public synchronized void put(TimeTableLink link, int moduleDatabaseVersion, ParsedTimetable timetable) {
+        requireNonNull(link);
+        requireNonNull(timetable);
+        if (moduleDatabaseVersion == this.moduleDatabaseVersion) {
+            entries.put(link.value, new Entry(moduleDatabaseVersion, timetable));
+        }
+    }
+
+    /**
+     * Forgets the timetable of {@code link}.
+     */
+    public synchronized void evict(TimeTableLink link) {
+        requireNonNull(link);
+        if (entries.remove(link.value) != null) {
+            evictionCount++;
+        }
+    }
+
+    /**
+     * Makes {@code moduleDatabaseVersion} the current version of the module database,
+     * forgetting the timetables parsed with any other version.
+     */
+    public synchronized void setModuleDatabaseVersion(int moduleDatabaseVersion) {
+        this.moduleDatabaseVersion = moduleDatabaseVersion;
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().moduleDatabaseVersion != moduleDatabaseVersion) {
+                iterator.remove();
+                evictionCount++;
+            }
+        }
+    }
+
+    /**
+     * Makes {@code moduleDatabaseVersion} the current version of the module database, in which only the modules of
+     * codes {@code changedModules} changed since the current version. Carries over the current timetables not
+     * looked up in any of those modules, and forgets the others.
+     */
+    public synchronized void setModuleDatabaseVersion(int moduleDatabaseVersion, Set<String> changedModules) {
+        requireNonNull(changedModules);
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Entry> entry = iterator.next();
+            ParsedTimetable timetable = entry.getValue().timetable;
+            if (entry.getValue().moduleDatabaseVersion != this.moduleDatabaseVersion
+                    || !Collections.disjoint(timetable.getModuleCodes(), changedModules)) {
+                iterator.remove();
+                evictionCount++;
+            } else {
+                entry.setValue(new Entry(moduleDatabaseVersion, timetable));
+            }
+        }
+        this.moduleDatabaseVersion = moduleDatabaseVersion;
+    }
+
+    public synchronized int getModuleDatabaseVersion() {
+        return moduleDatabaseVersion;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of timetables dropped to stay within the size bound, because their person was edited or
+     * deleted, or because the module database changed.
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    @Subscribe
+    public void handleModuleDatabaseChangedEvent(ModuleDatabaseChangedEvent event) {
+        if (event.changedModules == null) {
+            logger.info(LogsCenter.getEventHandlingLogMessage(event, "Forgetting parsed timetables"));
+            setModuleDatabaseVersion(event.version);
+        } else {
+            logger.info(LogsCenter.getEventHandlingLogMessage(event, "Forgetting timetables of changed modules"));
+            setModuleDatabaseVersion(event.version, event.changedModules);
+        }
+    }
+
+    /**
+     * Forgets the timetables of the links of persons who were deleted or edited to have another link.
+     */
+    @Subscribe
+    public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
+        for (Change<?> change : event.delta.getChanges()) {
+            if (!change.getType().equals(Person.class) || change.isAddition()) {
+                continue;
+            }
+            TimeTableLink previousLink = ((Person) change.getBefore()).getTimeTableLink();
+            if (change.isRemoval() || !previousLink.equals(((Person) change.getAfter()).getTimeTableLink())) {
+                evict(previousLink);
+            }
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return entries.size() + "/" + maxSize + " timetable(s), " + hitCount + " hit(s), " + missCount
+                + " miss(es), " + evictionCount + " eviction(s)";
+    }
+
+    /**
+     * A timetable, with the version of the module database it was parsed with.
+     */
+    private static class Entry {
+        private final int moduleDatabaseVersion;
+        private final ParsedTimetable timetable;
+
+        private Entry(int moduleDatabaseVersion, ParsedTimetable timetable) {
+            this.moduleDatabaseVersion = moduleDatabaseVersion;
+            this.timetable = timetable;
+        }
+    }
+}
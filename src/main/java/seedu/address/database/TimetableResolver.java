@@ -0,0 +1,220 @@
+package seedu.address.database;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.database.exceptions.TimetableLinkException;
+import seedu.address.model.person.TimeTableLink;
+
+/**
+ * Resolves the timetable links of many persons at once.
+ * <p>
+ * The links are resolved concurrently, with at most a fixed number of requests in flight, and each request gives up
+ * after a timeout. A link that cannot be resolved is reported as a failure for its person, without affecting the
+ * others.
+ * <p>
+ * The timetable of each link is remembered in a {@link TimetableCache}, and its long URL in a
+ * {@link ShortLinkCache}. A link found in either cache is handled on the calling thread without any request.
+ */
+public class TimetableResolver {
+
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 8;
+    public static final String MESSAGE_TIMED_OUT = "Timed out resolving the timetable link.";
+    public static final String MESSAGE_INTERRUPTED = "Interrupted while resolving the timetable link.";
+
+    private static final Logger logger = LogsCenter.getLogger(TimetableResolver.class);
+
+    private final int maxConcurrentRequests;
+    private final int timeoutMillis;
+    private final ShortLinkCache shortLinkCache;
+    private final TimetableCache timetableCache;
+    private final Function<TimeTableLink, String> shortUrlOf;
+    private final Supplier<ModuleSnapshot> modulesOf;
+
+    /**
+     * Creates a resolver that resolves links with NUSmods, remembers them in the caches of the app and
+     * looks up modules in the module database.
+     * The module database is loaded on the calling thread if it is not loaded yet.
+     */
+    public TimetableResolver() {
+        this(DEFAULT_MAX_CONCURRENT_REQUESTS, DatabaseManager.DEFAULT_TIMEOUT_MILLIS,
+                DatabaseManager.getShortLinkCache(), DatabaseManager.getTimetableCache(), link -> link.value,
+                DatabaseManager::getModuleDatabase);
+        DatabaseManager.getInstance();
+    }
+
+    /**
+     * Creates a resolver that makes at most {@code maxConcurrentRequests} requests at a time, each giving up after
+     * {@code timeoutMillis} milliseconds for each of connecting and reading. The links resolved are remembered in
+     * {@code shortLinkCache} and the timetables parsed in {@code timetableCache}. The short URL of each link is given
+     * by {@code shortUrlOf}, and modules are looked up in the module database given by {@code modulesOf}.
+     */
+    public TimetableResolver(int maxConcurrentRequests, int timeoutMillis, ShortLinkCache shortLinkCache,
+            TimetableCache timetableCache, Function<TimeTableLink, String> shortUrlOf,
+            Supplier<ModuleSnapshot> modulesOf) {
+        checkArgument(maxConcurrentRequests > 0 && timeoutMillis > 0);
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.timeoutMillis = timeoutMillis;
+        this.shortLinkCache = requireNonNull(shortLinkCache);
+        this.timetableCache = requireNonNull(timetableCache);
+        this.shortUrlOf = requireNonNull(shortUrlOf);
+        this.modulesOf = requireNonNull(modulesOf);
+    }
+
+    /**
+     * Resolves the timetable link given by {@code linkOf} of each of {@code members}, and returns once all of them
+     * are resolved or have failed.
+     */
+    public <T> Result<T> resolveAll(List<T> members, Function<T, TimeTableLink> linkOf) {
+        requireNonNull(members);
+        requireNonNull(linkOf);
+        final Result<T> result = new Result<>();
+        if (members.isEmpty()) {
+            return result;
+        }
+
+        final List<Future<ParsedTimetable>> responses = new ArrayList<>();
+        final List<Integer> requestPositions = new ArrayList<>();
+        final List<Callable<ParsedTimetable>> requests = new ArrayList<>();
+        for (T member : members) {
+            final TimeTableLink link = linkOf.apply(member);
+            final ParsedTimetable cachedTimetable = timetableCache.get(link);
+            if (cachedTimetable != null) {
+                responses.add(CompletableFuture.completedFuture(cachedTimetable));
+                continue;
+            }
+            final int moduleDatabaseVersion = timetableCache.getModuleDatabaseVersion();
+            final String cachedLongUrl = shortLinkCache.getLongUrl(link);
+            if (cachedLongUrl != null) {
+                final FutureTask<ParsedTimetable> parse =
+                        new FutureTask<>(() -> parse(link, cachedLongUrl, moduleDatabaseVersion));
+                parse.run();
+                responses.add(parse);
+                continue;
+            }
+            final String shortUrl = shortUrlOf.apply(link);
+            requestPositions.add(responses.size());
+            responses.add(null);
+            requests.add(() -> {
+                final String longUrl = DatabaseManager.resolveLongUrl(shortUrl, timeoutMillis);
+                shortLinkCache.put(link, longUrl);
+                return parse(link, longUrl, moduleDatabaseVersion);
+            });
+        }
+
+        try {
+            if (!requests.isEmpty()) {
+                final List<Future<ParsedTimetable>> requestResponses = request(requests);
+                for (int i = 0; i < requests.size(); i++) {
+                    responses.set(requestPositions.get(i), requestResponses.get(i));
+                }
+            }
+            for (int i = 0; i < members.size(); i++) {
+                collect(result, members.get(i), responses.get(i));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            for (T member : members) {
+                if (!result.timetables.containsKey(member)) {
+                    result.failures.put(member, MESSAGE_INTERRUPTED);
+                }
+            }
+        }
+        logger.info("Resolved " + result.timetables.size() + " timetable(s) with " + requests.size()
+                + " request(s), " + result.failures.size() + " failure(s); timetable cache: " + timetableCache);
+        return result;
+    }
+
+    /**
+     * Returns the timetable of {@code link} from its long URL {@code longUrl}, and remembers it in the timetable
+     * cache as parsed with version {@code moduleDatabaseVersion} of the module database.
+     */
+    private ParsedTimetable parse(TimeTableLink link, String longUrl, int moduleDatabaseVersion)
+            throws TimetableLinkException {
+        final ParsedTimetable timetable = new ParsedTimetable(DatabaseManager.parseLongUrl(longUrl, modulesOf.get()),
+                DatabaseManager.getModuleCodes(longUrl));
+        timetableCache.put(link, moduleDatabaseVersion, timetable);
+        return timetable;
+    }
+
+    /**
+     * Makes the {@code requests} on a pool of at most {@code maxConcurrentRequests} threads, and returns their
+     * responses once all of them are done or the time they can take is up.
+     */
+    private List<Future<ParsedTimetable>> request(List<Callable<ParsedTimetable>> requests)
+            throws InterruptedException {
+        final int threads = Math.min(maxConcurrentRequests, requests.size());
+        final ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "timetable-resolver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            return executor.invokeAll(requests, getBatchTimeoutMillis(requests.size(), threads),
+                    TimeUnit.MILLISECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the longest time resolving {@code requestCount} links with {@code threads} threads can take if every
+     * request finishes within its timeouts.
+     */
+    private long getBatchTimeoutMillis(int requestCount, int threads) {
+        final int rounds = (requestCount + threads - 1) / threads;
+        return 2L * timeoutMillis * rounds + timeoutMillis;
+    }
+
+    /**
+     * Records the timetable in {@code response} as the timetable of {@code member}, or the reason it failed.
+     */
+    private static <T> void collect(Result<T> result, T member, Future<ParsedTimetable> response)
+            throws InterruptedException {
+        try {
+            result.timetables.put(member, response.get());
+        } catch (CancellationException e) {
+            result.failures.put(member, MESSAGE_TIMED_OUT);
+        } catch (ExecutionException e) {
+            result.failures.put(member, e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * The timetables of the persons whose links were resolved, and the reasons the others failed,
+     * both in the order the persons were given.
+     *
+     * @param <T> the type of the persons.
+     */
+    public static class Result<T> {
+        private final Map<T, ParsedTimetable> timetables = new LinkedHashMap<>();
+        private final Map<T, String> failures = new LinkedHashMap<>();
+
+        public Map<T, ParsedTimetable> getTimetables() {
+            return Collections.unmodifiableMap(timetables);
+        }
+
+        public Map<T, String> getFailures() {
+            return Collections.unmodifiableMap(failures);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package seedu.address.database.exceptions;
+
+/**
+ * Signals that a timetable link could not be resolved into the lessons it refers to.
+ */
+public class TimetableLinkException extends Exception {
+    public TimetableLinkException(String message) {
+        super(message);
+    }
+
+    public TimetableLinkException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
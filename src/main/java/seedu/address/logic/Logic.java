@@ -1,5 +1,8 @@
 package seedu.address.logic;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -37,6 +40,9 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of events */
     ObservableList<Event> getFilteredEventList();
 
+    /** Returns the events in the filtered list of events that take place on {@code date} */
+    List<Event> getFilteredEventsOn(LocalDate date);
+
     /** Returns the list of input entered by the user, encapsulated in a {@code ListElementPointer} object */
     ListElementPointer getHistorySnapshot();
 }
@@ -1,5 +1,7 @@
 package seedu.address.logic;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -11,6 +13,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.event.Event;
 import seedu.address.model.group.Group;
 import seedu.address.model.person.Person;
@@ -28,10 +31,46 @@ public class LogicManager extends ComponentManager implements Logic {
     private final UndoRedoStack undoRedoStack;
 
     public LogicManager(Model model) {
+        this(model, new UndoRedoStack());
+    }
+
+    /**
+     * Creates a {@code LogicManager} whose undo history is bounded as set in {@code userPrefs}.
+     * Negative bounds, which the preferences file may hold after being edited by hand, are replaced by the defaults.
+     */
+    public LogicManager(Model model, UserPrefs userPrefs) {
+        this(model, new UndoRedoStack(getUndoHistoryDepth(userPrefs), getUndoHistoryBytes(userPrefs)));
+    }
+
+    private LogicManager(Model model, UndoRedoStack undoRedoStack) {
         this.model = model;
         history = new CommandHistory();
         addressBookParser = new AddressBookParser();
-        undoRedoStack = new UndoRedoStack();
+        this.undoRedoStack = undoRedoStack;
+    }
+
+    /**
+     * Returns the undo history depth set in {@code userPrefs}, or the default one if it is negative.
+     */
+    private static int getUndoHistoryDepth(UserPrefs userPrefs) {
+        if (userPrefs.getUndoHistoryDepth() < 0) {
+            LogsCenter.getLogger(LogicManager.class).warning("Undo history depth " + userPrefs.getUndoHistoryDepth()
+                    + " is negative. Using default of " + UserPrefs.DEFAULT_UNDO_HISTORY_DEPTH);
+            return UserPrefs.DEFAULT_UNDO_HISTORY_DEPTH;
+        }
+        return userPrefs.getUndoHistoryDepth();
+    }
+
+    /**
+     * Returns the undo history size in bytes set in {@code userPrefs}, or the default one if it is negative.
+     */
+    private static long getUndoHistoryBytes(UserPrefs userPrefs) {
+        if (userPrefs.getUndoHistoryBytes() < 0) {
+            LogsCenter.getLogger(LogicManager.class).warning("Undo history size " + userPrefs.getUndoHistoryBytes()
+                    + " is negative. Using default of " + UserPrefs.DEFAULT_UNDO_HISTORY_BYTES);
+            return UserPrefs.DEFAULT_UNDO_HISTORY_BYTES;
+        }
+        return userPrefs.getUndoHistoryBytes();
     }
 
     @Override
@@ -75,6 +114,11 @@ public class LogicManager extends ComponentManager implements Logic {
         return model.getFilteredEventList();
     }
 
+    @Override
+    public List<Event> getFilteredEventsOn(LocalDate date) {
+        return model.getFilteredEventsOn(date);
+    }
+
     @Override
     public ListElementPointer getHistorySnapshot() {
         return new ListElementPointer(history.getHistory());
@@ -1,6 +1,9 @@
 package seedu.address.logic;
 
-import java.util.Stack;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.EmptyStackException;
+import java.util.LinkedList;
 
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.RedoCommand;
@@ -10,14 +13,36 @@ import seedu.address.logic.commands.UndoableCommand;
 /**
  * Maintains the undo-stack (the stack of commands that can be undone) and the redo-stack (the stack of
  * commands that can be undone).
+ * The undo-stack is bounded by a maximum number of commands and a rough maximum number of bytes kept alive by
+ * their changes; the oldest commands are dropped first once either bound is exceeded.
  */
 public class UndoRedoStack {
-    private Stack<UndoableCommand> undoStack;
-    private Stack<UndoableCommand> redoStack;
+    public static final String MESSAGE_INVALID_LIMITS = "The limits of the undo history must not be negative";
+
+    private final int maxDepth;
+    private final long maxBytes;
+
+    /** The bottommost element of each stack is its first element. */
+    private LinkedList<UndoableCommand> undoStack;
+    private LinkedList<UndoableCommand> redoStack;
 
+    /**
+     * Creates an {@code UndoRedoStack} whose undo-stack is not bounded.
+     */
     public UndoRedoStack() {
-        undoStack = new Stack<>();
-        redoStack = new Stack<>();
+        this(Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates an {@code UndoRedoStack} whose undo-stack holds at most {@code maxDepth} commands, whose changes
+     * take roughly at most {@code maxBytes} bytes.
+     */
+    public UndoRedoStack(int maxDepth, long maxBytes) {
+        checkArgument(maxDepth >= 0 && maxBytes >= 0, MESSAGE_INVALID_LIMITS);
+        this.maxDepth = maxDepth;
+        this.maxBytes = maxBytes;
+        undoStack = new LinkedList<>();
+        redoStack = new LinkedList<>();
     }
 
     /**
@@ -33,15 +58,35 @@ public class UndoRedoStack {
             return;
         }
 
-        undoStack.add((UndoableCommand) command);
+        undoStack.addLast((UndoableCommand) command);
+        evictOldestCommands();
+    }
+
+    /**
+     * Drops the oldest commands from the undo-stack until it is within its bounds.
+     * The size of the changes of a command is only known once it has been executed, so it is checked here,
+     * after the command has been executed and pushed.
+     */
+    private void evictOldestCommands() {
+        while (undoStack.size() > maxDepth) {
+            undoStack.removeFirst();
+        }
+
+        long totalBytes = undoStack.stream().mapToLong(UndoableCommand::getEstimatedUndoSize).sum();
+        while (totalBytes > maxBytes && !undoStack.isEmpty()) {
+            totalBytes -= undoStack.removeFirst().getEstimatedUndoSize();
+        }
     }
 
     /**
      * Pops and returns the next {@code UndoableCommand} to be undone in the stack.
      */
     public UndoableCommand popUndo() {
-        UndoableCommand toUndo = undoStack.pop();
-        redoStack.push(toUndo);
+        if (undoStack.isEmpty()) {
+            throw new EmptyStackException();
+        }
+        UndoableCommand toUndo = undoStack.removeLast();
+        redoStack.addLast(toUndo);
         return toUndo;
     }
 
@@ -49,8 +94,11 @@ public class UndoRedoStack {
      * Pops and returns the next {@code UndoableCommand} to be redone in the stack.
      */
     public UndoableCommand popRedo() {
-        UndoableCommand toRedo = redoStack.pop();
-        undoStack.push(toRedo);
+        if (redoStack.isEmpty()) {
+            throw new EmptyStackException();
+        }
+        UndoableCommand toRedo = redoStack.removeLast();
+        undoStack.addLast(toRedo);
         return toRedo;
     }
 
@@ -58,14 +106,14 @@ public class UndoRedoStack {
      * Returns true if there are more commands that can be undone.
      */
     public boolean canUndo() {
-        return !undoStack.empty();
+        return !undoStack.isEmpty();
     }
 
     /**
      * Returns true if there are more commands that can be redone.
      */
     public boolean canRedo() {
-        return !redoStack.empty();
+        return !redoStack.isEmpty();
     }
 
     @Override
@@ -53,21 +53,23 @@ public class AddMemberToGroupCommand extends UndoableCommand {
     public CommandResult executeUndoableCommand() throws CommandException {
         requireNonNull(model);
 
-        for (Group group : groupList) {
-            if (groupToAdd.getInformation().equals(group.getInformation())) {
-                try {
-                    groupAdded = new Group(group.getInformation(), group.getPersonList());
-                    groupAdded.addPerson(personToAdd);
-                    model.updateGroup(group, groupAdded);
-                } catch (DuplicatePersonException dpe) {
-                    throw new CommandException(MESSAGE_DUPLICATE_PERSON);
-                } catch (DuplicateGroupException dge) {
-                    throw new CommandException(MESSAGE_DUPLICATE_GROUP);
-                } catch (GroupNotFoundException gnfe) {
-                    throw new CommandException(MESSAGE_GROUP_NOT_FOUND);
+        model.batch(batchModel -> {
+            for (Group group : groupList) {
+                if (groupToAdd.getInformation().equals(group.getInformation())) {
+                    try {
+                        groupAdded = new Group(group.getInformation(), group.getPersonList());
+                        groupAdded.addPerson(personToAdd);
+                        batchModel.updateGroup(group, groupAdded);
+                    } catch (DuplicatePersonException dpe) {
+                        throw new CommandException(MESSAGE_DUPLICATE_PERSON);
+                    } catch (DuplicateGroupException dge) {
+                        throw new CommandException(MESSAGE_DUPLICATE_GROUP);
+                    } catch (GroupNotFoundException gnfe) {
+                        throw new CommandException(MESSAGE_GROUP_NOT_FOUND);
+                    }
                 }
             }
-        }
+        });
         return new CommandResult(String.format(MESSAGE_ADD_PERSON_TO_GROUP_SUCCESS, personToAdd.getName(),
                 groupToAdd.getInformation().toString()));
     }
@@ -65,6 +65,7 @@ public class ChangeTagColorCommand extends UndoableCommand {
                 return;
             }
         }
+        throw new CommandException(MESSAGE_TAG_NOT_IN_LIST);
     }
 
     @Override
@@ -80,7 +80,7 @@ public class CheckToDoCommand extends UndoableCommand {
         assert toDoToCheck != null;
 
         Content updatedContent = toDoToCheck.getContent();
-        Status updatedStatus = new Status("done");
+        Status updatedStatus = Status.DONE;
 
         return new ToDo(updatedContent, updatedStatus);
     }
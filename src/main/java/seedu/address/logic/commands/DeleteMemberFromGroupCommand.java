@@ -53,21 +53,23 @@ public class DeleteMemberFromGroupCommand extends UndoableCommand {
     public CommandResult executeUndoableCommand() throws CommandException {
         requireNonNull(model);
 
-        for (Group group : groupList) {
-            if (groupToDelete.getInformation().equals(group.getInformation())) {
-                try {
-                    groupInvolved = new Group(group.getInformation(), group.getPersonList());
-                    groupInvolved.removePerson(personToDelete);
-                    model.updateGroup(group, groupInvolved);
-                } catch (DuplicateGroupException dge) {
-                    throw new CommandException(MESSAGE_DUPLICATE_GROUP);
-                } catch (GroupNotFoundException gnfe) {
-                    throw new CommandException(MESSAGE_GROUP_NOT_FOUND);
-                } catch (PersonNotFoundException pnfe) {
-                    throw new CommandException(MESSAGE_PERSON_NOT_FOUND);
+        model.batch(batchModel -> {
+            for (Group group : groupList) {
+                if (groupToDelete.getInformation().equals(group.getInformation())) {
+                    try {
+                        groupInvolved = new Group(group.getInformation(), group.getPersonList());
+                        groupInvolved.removePerson(personToDelete);
+                        batchModel.updateGroup(group, groupInvolved);
+                    } catch (DuplicateGroupException dge) {
+                        throw new CommandException(MESSAGE_DUPLICATE_GROUP);
+                    } catch (GroupNotFoundException gnfe) {
+                        throw new CommandException(MESSAGE_GROUP_NOT_FOUND);
+                    } catch (PersonNotFoundException pnfe) {
+                        throw new CommandException(MESSAGE_PERSON_NOT_FOUND);
+                    }
                 }
             }
-        }
+        });
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_FROM_GROUP_SUCCESS, personToDelete.getName(),
                 groupToDelete.getInformation().toString()));
     }
@@ -1,9 +1,17 @@
 package seedu.address.logic.commands;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.util.Objects;
+
+import seedu.address.model.person.Email;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Phone;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
+ * Finds and lists all persons in address book whose name contains any of the argument keywords,
+ * or who have the given phone number or email address.
  * Keyword matching is case sensitive.
  */
 public class FindCommand extends Command {
@@ -12,19 +20,49 @@ public class FindCommand extends Command {
     public static final String COMMAND_ALIAS = "f";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
-            + "the specified keywords (case-sensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "the specified keywords (case-sensitive), or who have the specified phone number or email address "
+            + "(case-insensitive), and displays them as a list with index numbers.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... or " + PREFIX_PHONE + "PHONE or " + PREFIX_EMAIL + "EMAIL\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_PHONE + "98765432";
 
     private final NameContainsKeywordsPredicate predicate;
+    private final Phone phone;
+    private final Email email;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
+        this(predicate, null, null);
+    }
+
+    /**
+     * Creates a FindCommand that finds the persons with the given {@code phone}.
+     */
+    public FindCommand(Phone phone) {
+        this(null, phone, null);
+    }
+
+    /**
+     * Creates a FindCommand that finds the persons with the given {@code email}.
+     */
+    public FindCommand(Email email) {
+        this(null, null, email);
+    }
+
+    private FindCommand(NameContainsKeywordsPredicate predicate, Phone phone, Email email) {
         this.predicate = predicate;
+        this.phone = phone;
+        this.email = email;
     }
 
     @Override
     public CommandResult execute() {
-        model.updateFilteredPersonList(predicate);
+        if (predicate != null) {
+            model.updateFilteredPersonList(predicate);
+        } else if (phone != null) {
+            model.updateFilteredPersonListByPhone(phone);
+        } else {
+            model.updateFilteredPersonListByEmail(email);
+        }
         return new CommandResult(getMessageForPersonListShownSummary(model.getFilteredPersonList().size()));
     }
 
@@ -32,6 +70,8 @@ public class FindCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && this.predicate.equals(((FindCommand) other).predicate)); // state check
+                && Objects.equals(predicate, ((FindCommand) other).predicate)
+                && Objects.equals(phone, ((FindCommand) other).phone)
+                && Objects.equals(email, ((FindCommand) other).email)); // state check
     }
 }
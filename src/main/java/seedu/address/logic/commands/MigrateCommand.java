@@ -0,0 +1,51 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.storage.AddressBookFormatChangeRequestEvent;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Stores the address book in another format from now on.
+ */
+public class MigrateCommand extends Command {
+
+    public static final String COMMAND_WORD = "migrate";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Stores the address book in the given format from now on, "
+            + "keeping the data file in the current format as it is.\n"
+            + "Parameters: FORMAT (xml or binary)\n"
+            + "Example: " + COMMAND_WORD + " binary";
+
+    public static final String MESSAGE_SUCCESS = "Address book is now stored in %1$s format";
+    public static final String MESSAGE_FAILURE = "Could not store the address book in %1$s format: %2$s";
+
+    private final AddressBookFormat format;
+
+    public MigrateCommand(AddressBookFormat format) {
+        requireNonNull(format);
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute() throws CommandException {
+        requireNonNull(model);
+        AddressBookFormatChangeRequestEvent request =
+                new AddressBookFormatChangeRequestEvent(model.getAddressBook(), format);
+        EventsCenter.getInstance().post(request);
+        if (request.getFailure().isPresent()) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, format, request.getFailure().get().getMessage()));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, format));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof MigrateCommand // instanceof handles nulls
+                && format.equals(((MigrateCommand) other).format));
+    }
+}
@@ -2,16 +2,27 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MIN_ATTENDANCE;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.events.ui.TimetableChangedEvent;
 import seedu.address.database.DatabaseManager;
+import seedu.address.database.ParsedTimetable;
+import seedu.address.database.TimetableResolver;
 import seedu.address.database.module.Module;
 import seedu.address.database.module.Schedule;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.event.AttendanceTally;
+import seedu.address.model.event.AttendanceTally.RankedWindow;
+import seedu.address.model.event.WeeklyAvailability;
+import seedu.address.model.event.WeeklyAvailability.Window;
 import seedu.address.model.event.WeeklyEvent;
 import seedu.address.model.group.Group;
 import seedu.address.model.person.Person;
@@ -26,23 +37,66 @@ public class ScheduleGroupCommand extends Command {
 
     public static final String MESSAGE_USAGE =
             COMMAND_WORD + ": Display the common free time slots of members in a group.\n"
-            + "Parameters: GROUP_NAME\n"
-            + "Example: " + COMMAND_WORD + " CS2103T";
+            + "If a minimum attendance or a duration is given, display instead the best time slots of that duration "
+            + "when at least that share of the members are free.\n"
+            + "Parameters: GROUP_NAME "
+            + "[" + PREFIX_MIN_ATTENDANCE + "PERCENTAGE] "
+            + "[" + PREFIX_DURATION + "DURATION]\n"
+            + "Example: " + COMMAND_WORD + " CS2103T\n"
+            + "Example: " + COMMAND_WORD + " CS2103T " + PREFIX_MIN_ATTENDANCE + "80% " + PREFIX_DURATION + "2h";
 
     public static final String MESSAGE_SUCCESS = "Common free time slots are displayed for group %1$s";
+    public static final String MESSAGE_RANKED_SUCCESS = "Best time slots for group %1$s:\n%2$s";
+    public static final String MESSAGE_NO_RANKED_SLOT =
+            "There is no time slot of %1$d minutes when at least %2$d%% of group %3$s are free.";
+    public static final String MESSAGE_RANKED_SLOT = "%1$s %2$s-%3$s: %4$d/%5$d free";
+    public static final String MESSAGE_MISSING_MEMBERS = ", missing %1$s";
+    public static final String MESSAGE_UNRESOLVED_MEMBERS = "\nCould not get the timetables of: %1$s";
+
+    public static final int DEFAULT_MIN_ATTENDANCE_PERCENT = 100;
+    public static final int DEFAULT_DURATION_MINUTES = 60;
     public static final String MESSAGE_GROUP_NOT_FOUND = "There is no group named %1$s.";
 
+    /** The days on which free time slots are looked for, from Monday to Friday. */
+    private static final int[] WORKING_DAYS = {0, 1, 2, 3, 4};
+    private static final String[] DAY_NAMES =
+        {"Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday", "Sunday"};
+    private static final int WORKING_HOURS_START_MINUTE = 8 * 60;
+    private static final int WORKING_HOURS_END_MINUTE = 18 * 60;
+    private static final int SLOT_MINUTES = 60;
+    /** The time between the starts of two consecutive time slots considered when ranking them. */
+    private static final int RANKED_SLOT_STEP_MINUTES = 30;
+    private static final int MAX_RANKED_SLOTS = 5;
+
     private final Group toShow;
-    private final ArrayList<WeeklyEvent> occupied;
+    private final boolean isRanked;
+    private final int minAttendancePercent;
+    private final int durationMinutes;
+    private final WeeklyAvailability available;
     private final ArrayList<WeeklyEvent> free;
 
     /**
      * Creates an ScheduleGroupCommand to schedule the specified {@code Group}
      */
     public ScheduleGroupCommand(Group group) {
+        this(group, false, DEFAULT_MIN_ATTENDANCE_PERCENT, SLOT_MINUTES);
+    }
+
+    /**
+     * Creates an ScheduleGroupCommand to rank the time slots of {@code durationMinutes} minutes of the specified
+     * {@code Group} when at least {@code minAttendancePercent} percent of its members are free
+     */
+    public ScheduleGroupCommand(Group group, int minAttendancePercent, int durationMinutes) {
+        this(group, true, minAttendancePercent, durationMinutes);
+    }
+
+    private ScheduleGroupCommand(Group group, boolean isRanked, int minAttendancePercent, int durationMinutes) {
         requireNonNull(group);
         toShow = group;
-        occupied = new ArrayList<>();
+        this.isRanked = isRanked;
+        this.minAttendancePercent = minAttendancePercent;
+        this.durationMinutes = durationMinutes;
+        available = new WeeklyAvailability();
         free = new ArrayList<>();
         EventsCenter.getInstance().registerHandler(this);
     }
@@ -62,55 +116,120 @@ public class ScheduleGroupCommand extends Command {
         if (groupNotFound) {
             throw new CommandException(String.format(MESSAGE_GROUP_NOT_FOUND, toShow.getInformation()));
         }
-        fillTimeSlots(groupToShow);
-        generateFreeTimeSlots();
+        if (!DatabaseManager.isReady()) {
+            throw new CommandException(DatabaseManager.MESSAGE_LOADING);
+        }
+        TimetableResolver.Result<Person> timetables =
+                new TimetableResolver().resolveAll(groupToShow.getPersonList().asObservableList(),
+                        Person::getTimeTableLink);
+        String result = isRanked
+                ? rankTimeSlots(groupToShow, timetables)
+                : String.format(MESSAGE_SUCCESS, groupToShow.getInformation());
+        if (!isRanked) {
+            fillTimeSlots(timetables);
+            generateFreeTimeSlots();
+        }
         EventsCenter.getInstance().post(new TimetableChangedEvent(FXCollections.observableArrayList(free)));
-        return new CommandResult(String.format(MESSAGE_SUCCESS, groupToShow.getInformation()));
+        return new CommandResult(result + describeFailures(timetables));
+    }
+
+    /**
+     * Marks the modules of all members with resolved {@code timetables} as busy in {@code available}
+     */
+    private void fillTimeSlots(TimetableResolver.Result<Person> timetables) {
+        for (ParsedTimetable timetable : timetables.getTimetables().values()) {
+            available.retainFree(timetable.getAvailability());
+        }
     }
 
     /**
-     * Populate the {@code occupied} list to include all modules from all members from {@code groupToShow}
+     * Returns a message naming the members whose timetables could not be resolved, if any, and why
      */
-    private void fillTimeSlots(Group groupToShow) {
-        for (Person member : groupToShow.getPersonList()) {
-            ArrayList<WeeklyEvent> moduleList = DatabaseManager.getInstance().parseEvents(member.getTimeTableLink());
-            occupied.addAll(moduleList);
+    private static String describeFailures(TimetableResolver.Result<Person> timetables) {
+        if (timetables.getFailures().isEmpty()) {
+            return "";
         }
+        return String.format(MESSAGE_UNRESOLVED_MEMBERS, timetables.getFailures().entrySet().stream()
+                .map(failure -> failure.getKey().getName().fullName + " (" + failure.getValue() + ")")
+                .collect(Collectors.joining(", ")));
     }
 
     /**
-     * Generate all common free time slots according to the {@code occupied} list and store it in {@code free}
+     * Generate all common free time slots according to {@code available} and store them in {@code free}
      */
     private void generateFreeTimeSlots() {
-        String[] daysOfWeek = {"Monday", "Tuesday", "Wednesday", "Thursday", "Friday"};
-        for (String day : daysOfWeek) {
-            for (int s = 800; s < 1800; s += 100) {
-                Module mod = new Module("Free", "", null);
-                Schedule sch = new Schedule("", "", "", day, "" + s, "" + (s + 100), "");
-                WeeklyEvent freeTimeSlot = new WeeklyEvent(mod, sch);
-                if (!moduleClash(freeTimeSlot)) {
-                    free.add(freeTimeSlot);
-                }
-            }
+        List<Window> windows = available.findFreeWindows(WORKING_DAYS, WORKING_HOURS_START_MINUTE,
+                WORKING_HOURS_END_MINUTE, SLOT_MINUTES, SLOT_MINUTES);
+        for (Window window : windows) {
+            free.add(toWeeklyEvent(window));
         }
     }
 
     /**
-     * @return true if the {@code timeSlot} clashes with any mod in {@code occupied}
+     * Ranks the time slots of {@code durationMinutes} minutes by the number of members of {@code groupToShow}
+     * with resolved {@code timetables} free for them, stores the best ones that enough members are free for in
+     * {@code free}, and returns a message describing them
      */
-    private boolean moduleClash(WeeklyEvent timeSlot) {
-        for (WeeklyEvent mod : occupied) {
-            if (mod.clash(timeSlot)) {
-                return true;
-            }
+    private String rankTimeSlots(Group groupToShow, TimetableResolver.Result<Person> timetables) {
+        AttendanceTally<Person> tally = new AttendanceTally<>(WORKING_DAYS, WORKING_HOURS_START_MINUTE,
+                WORKING_HOURS_END_MINUTE, durationMinutes, RANKED_SLOT_STEP_MINUTES);
+        for (Map.Entry<Person, ParsedTimetable> timetable : timetables.getTimetables().entrySet()) {
+            tally.add(timetable.getKey(), timetable.getValue().getAvailability());
         }
-        return false;
+        int memberCount = tally.getMemberCount();
+        int minAttendance = (memberCount * minAttendancePercent + 99) / 100;
+        List<RankedWindow<Person>> best = tally.getBestWindows(minAttendance, MAX_RANKED_SLOTS);
+
+        StringBuilder slots = new StringBuilder();
+        for (RankedWindow<Person> ranked : best) {
+            free.add(toWeeklyEvent(ranked.getWindow()));
+            slots.append(describe(ranked, memberCount)).append('\n');
+        }
+        if (best.isEmpty()) {
+            return String.format(MESSAGE_NO_RANKED_SLOT, durationMinutes, minAttendancePercent,
+                    groupToShow.getInformation());
+        }
+        return String.format(MESSAGE_RANKED_SUCCESS, groupToShow.getInformation(), slots.toString().trim());
+    }
+
+    /**
+     * Returns a line describing the time slot of {@code ranked} and the members who are not free for it
+     */
+    private static String describe(RankedWindow<Person> ranked, int memberCount) {
+        Window window = ranked.getWindow();
+        String line = String.format(MESSAGE_RANKED_SLOT, DAY_NAMES[window.getDayIndex()],
+                toTime(window.getStartMinute()), toTime(window.getEndMinute()), ranked.getAttendance(), memberCount);
+        if (ranked.getMissingMembers().isEmpty()) {
+            return line;
+        }
+        return line + String.format(MESSAGE_MISSING_MEMBERS, ranked.getMissingMembers().stream()
+                .map(member -> member.getName().fullName).collect(Collectors.joining(", ")));
+    }
+
+    /**
+     * Returns a free time slot to show in the timetable for {@code window}
+     */
+    private static WeeklyEvent toWeeklyEvent(Window window) {
+        Module mod = new Module("Free", "", null);
+        Schedule sch = new Schedule("", "", "", DAY_NAMES[window.getDayIndex()], toTime(window.getStartMinute()),
+                toTime(window.getEndMinute()), "");
+        return new WeeklyEvent(mod, sch);
+    }
+
+    /**
+     * Returns the time {@code minuteOfDay} minutes from midnight in the format of HHmm, without leading zeroes
+     */
+    private static String toTime(int minuteOfDay) {
+        return "" + (minuteOfDay / 60 * 100 + minuteOfDay % 60);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ScheduleGroupCommand // instanceof handles nulls
-                && toShow.equals(((ScheduleGroupCommand) other).toShow));
+                && toShow.equals(((ScheduleGroupCommand) other).toShow)
+                && isRanked == ((ScheduleGroupCommand) other).isRanked
+                && minAttendancePercent == ((ScheduleGroupCommand) other).minAttendancePercent
+                && durationMinutes == ((ScheduleGroupCommand) other).durationMinutes);
     }
 }
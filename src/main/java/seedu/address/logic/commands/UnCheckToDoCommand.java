@@ -80,7 +80,7 @@ public class UnCheckToDoCommand extends UndoableCommand {
         assert toDoToUnCheck != null;
 
         Content updatedContent = toDoToUnCheck.getContent();
-        Status updatedStatus = new Status("undone");
+        Status updatedStatus = Status.UNDONE;
 
         return new ToDo(updatedContent, updatedStatus);
     }
@@ -5,23 +5,35 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.AddressBook;
-import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.AddressBookDelta;
 
 /**
  * Represents a command which can be undone and redone.
+ * Only the changes made by the command are kept for undoing it, not a copy of the whole address book.
  */
 public abstract class UndoableCommand extends Command {
-    private ReadOnlyAddressBook previousAddressBook;
+    private AddressBookDelta changes = new AddressBookDelta();
+    private CommandResult result;
 
     protected abstract CommandResult executeUndoableCommand() throws CommandException;
 
     /**
-     * Stores the current state of {@code model#addressBook}.
+     * Executes the command as a single batch of changes to {@code model}, and keeps the changes made.
+     * None of the changes are kept by {@code model} if the command fails.
      */
-    private void saveAddressBookSnapshot() {
+    private CommandResult executeAndRecordChanges() throws CommandException {
         requireNonNull(model);
-        this.previousAddressBook = new AddressBook(model.getAddressBook());
+        changes = model.batch(unused -> {
+            result = executeUndoableCommand();
+        });
+        return result;
+    }
+
+    /**
+     * Returns a rough estimate of the number of bytes kept alive by the changes made by this command.
+     */
+    public long getEstimatedUndoSize() {
+        return changes.getEstimatedSize();
     }
 
     /**
@@ -31,13 +43,12 @@ public abstract class UndoableCommand extends Command {
     protected void preprocessUndoableCommand() throws CommandException {}
 
     /**
-     * Reverts the AddressBook to the state before this command
-     * was executed and updates the filtered person list to
+     * Reverts the changes made by this command and updates the filtered person list to
      * show all persons.
      */
     protected final void undo() {
-        requireAllNonNull(model, previousAddressBook);
-        model.resetData(previousAddressBook);
+        requireAllNonNull(model, changes);
+        model.revert(changes);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -48,7 +59,7 @@ public abstract class UndoableCommand extends Command {
     protected final void redo() {
         requireNonNull(model);
         try {
-            executeUndoableCommand();
+            executeAndRecordChanges();
         } catch (CommandException ce) {
             throw new AssertionError("The command has been successfully executed previously; "
                     + "it should not fail now");
@@ -58,8 +69,7 @@ public abstract class UndoableCommand extends Command {
 
     @Override
     public final CommandResult execute() throws CommandException {
-        saveAddressBookSnapshot();
         preprocessUndoableCommand();
-        return executeUndoableCommand();
+        return executeAndRecordChanges();
     }
 }
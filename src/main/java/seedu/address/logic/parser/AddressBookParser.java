@@ -32,6 +32,7 @@ import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListGroupMembersCommand;
 import seedu.address.logic.commands.ListTagMembersCommand;
+import seedu.address.logic.commands.MigrateCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.ScheduleGroupCommand;
 import seedu.address.logic.commands.SelectCommand;
@@ -71,6 +72,7 @@ public class    AddressBookParser {
             HistoryCommand.COMMAND_WORD,
             ListCommand.COMMAND_WORD,
             ListTagMembersCommand.COMMAND_WORD,
+            MigrateCommand.COMMAND_WORD,
             RedoCommand.COMMAND_WORD,
             ScheduleGroupCommand.COMMAND_WORD,
             SelectCommand.COMMAND_WORD,
@@ -177,6 +179,9 @@ public class    AddressBookParser {
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
+        case MigrateCommand.COMMAND_WORD:
+            return new MigrateCommandParser().parse(arguments);
+
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand();
 
@@ -20,4 +20,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_GROUP = new Prefix("g/");
     public static final Prefix PREFIX_START_TIME = new Prefix("st/");
     public static final Prefix PREFIX_END_TIME = new Prefix("et/");
+    public static final Prefix PREFIX_MIN_ATTENDANCE = new Prefix("min/");
+    public static final Prefix PREFIX_DURATION = new Prefix("dur/");
 }
@@ -0,0 +1,25 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.logic.commands.MigrateCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new MigrateCommand object
+ */
+public class MigrateCommandParser implements Parser<MigrateCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MigrateCommand
+     * and returns a MigrateCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public MigrateCommand parse(String args) throws ParseException {
+        return AddressBookFormat.fromName(args)
+                .map(MigrateCommand::new)
+                .orElseThrow(() -> new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, MigrateCommand.MESSAGE_USAGE)));
+    }
+}
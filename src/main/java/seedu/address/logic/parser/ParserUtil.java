@@ -6,6 +6,8 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -34,6 +36,16 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
     public static final String MESSAGE_INSUFFICIENT_PARTS = "Number of parts must be more than 1.";
+    public static final String MESSAGE_INVALID_PERCENTAGE = "Percentage must be a whole number from 1% to 100%.";
+    public static final String MESSAGE_INVALID_DURATION =
+            "Duration must be given in hours and minutes, such as 2h, 45m or 1h30m, "
+            + "be a multiple of 5 minutes, and be at most 24 hours.";
+
+    private static final Pattern PERCENTAGE_FORMAT = Pattern.compile("(?<value>\\d{1,3})%?");
+    private static final Pattern DURATION_FORMAT =
+            Pattern.compile("(?:(?<hours>\\d{1,2})h)?(?:(?<minutes>\\d{1,4})m)?");
+    private static final int MAX_DURATION_MINUTES = 24 * 60;
+    private static final int DURATION_UNIT_MINUTES = 5;
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -339,4 +351,46 @@ public class ParserUtil {
         }
         return trimmedTime;
     }
+
+    //@@author
+    /**
+     * Parses a {@code String percentage}, such as "80%", into the number of percent.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws IllegalValueException if the given {@code percentage} is not from 1% to 100%.
+     */
+    public static int parsePercentage(String percentage) throws IllegalValueException {
+        requireNonNull(percentage);
+        Matcher matcher = PERCENTAGE_FORMAT.matcher(percentage.trim());
+        if (!matcher.matches()) {
+            throw new IllegalValueException(MESSAGE_INVALID_PERCENTAGE);
+        }
+        int value = Integer.parseInt(matcher.group("value"));
+        if (value < 1 || value > 100) {
+            throw new IllegalValueException(MESSAGE_INVALID_PERCENTAGE);
+        }
+        return value;
+    }
+
+    /**
+     * Parses a {@code String duration}, such as "1h30m", into a number of minutes.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws IllegalValueException if the given {@code duration} is invalid.
+     */
+    public static int parseDuration(String duration) throws IllegalValueException {
+        requireNonNull(duration);
+        String trimmedDuration = duration.trim();
+        Matcher matcher = DURATION_FORMAT.matcher(trimmedDuration);
+        if (trimmedDuration.isEmpty() || !matcher.matches()) {
+            throw new IllegalValueException(MESSAGE_INVALID_DURATION);
+        }
+        int hours = matcher.group("hours") == null ? 0 : Integer.parseInt(matcher.group("hours"));
+        int minutes = matcher.group("minutes") == null ? 0 : Integer.parseInt(matcher.group("minutes"));
+        int totalMinutes = hours * 60 + minutes;
+        if (totalMinutes <= 0 || totalMinutes > MAX_DURATION_MINUTES || totalMinutes % DURATION_UNIT_MINUTES != 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_DURATION);
+        }
+        return totalMinutes;
+    }
 }
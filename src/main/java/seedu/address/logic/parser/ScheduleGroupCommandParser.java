@@ -2,6 +2,8 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MIN_ATTENDANCE;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.ScheduleGroupCommand;
@@ -20,13 +22,31 @@ public class ScheduleGroupCommandParser implements Parser<ScheduleGroupCommand>
      * @throws ParseException if the user input does not conform the expected format
      */
     public ScheduleGroupCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_MIN_ATTENDANCE, PREFIX_DURATION);
+        Group group;
         try {
-            Information information = ParserUtil.parseInformation(args);
-            Group group = new Group(information);
-            return new ScheduleGroupCommand(group);
+            Information information = ParserUtil.parseInformation(argMultimap.getPreamble());
+            group = new Group(information);
         } catch (IllegalValueException ive) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleGroupCommand.MESSAGE_USAGE));
         }
+        //@@author
+        if (!argMultimap.getValue(PREFIX_MIN_ATTENDANCE).isPresent()
+                && !argMultimap.getValue(PREFIX_DURATION).isPresent()) {
+            return new ScheduleGroupCommand(group);
+        }
+
+        try {
+            int minAttendancePercent = argMultimap.getValue(PREFIX_MIN_ATTENDANCE).isPresent()
+                    ? ParserUtil.parsePercentage(argMultimap.getValue(PREFIX_MIN_ATTENDANCE).get())
+                    : ScheduleGroupCommand.DEFAULT_MIN_ATTENDANCE_PERCENT;
+            int durationMinutes = argMultimap.getValue(PREFIX_DURATION).isPresent()
+                    ? ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get())
+                    : ScheduleGroupCommand.DEFAULT_DURATION_MINUTES;
+            return new ScheduleGroupCommand(group, minAttendancePercent, durationMinutes);
+        } catch (IllegalValueException ive) {
+            throw new ParseException(ive.getMessage(), ive);
+        }
     }
 }
@@ -2,8 +2,12 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -14,16 +18,20 @@ import javafx.collections.ObservableList;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.UniqueEventList;
 import seedu.address.model.event.exceptions.DuplicateEventException;
+import seedu.address.model.event.exceptions.EventNotFoundException;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.UniqueGroupList;
 import seedu.address.model.group.exceptions.DuplicateGroupException;
 import seedu.address.model.group.exceptions.GroupNotFoundException;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagNotFoundException;
+import seedu.address.model.tag.TagRegistry;
 import seedu.address.model.tag.UniqueTagList;
 import seedu.address.model.todo.ToDo;
 import seedu.address.model.todo.UniqueToDoList;
@@ -37,11 +45,18 @@ import seedu.address.model.todo.exceptions.ToDoNotFoundException;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
-    private final UniqueTagList tags;
+    private final TagRegistry tags;
     private final UniqueToDoList todos;
     private final UniqueGroupList groups;
     private final UniqueEventList events;
 
+    /** Reverse index from each group member to the groups it belongs to. */
+    private final Map<Person, Set<Group>> groupsByMember = new HashMap<>();
+    /** Secondary index from each phone number to the persons having it. */
+    private final Map<String, Set<Person>> personsByPhone = new HashMap<>();
+    /** Secondary index from each normalized email address to the persons having it. */
+    private final Map<String, Set<Person>> personsByEmail = new HashMap<>();
+
     /**
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -51,7 +66,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
-        tags = new UniqueTagList();
+        tags = new TagRegistry();
         todos = new UniqueToDoList();
         groups = new UniqueGroupList();
         events = new UniqueEventList();
@@ -72,14 +87,23 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     public void setPersons(List<Person> persons) throws DuplicatePersonException {
         this.persons.setPersons(persons);
+        personsByPhone.clear();
+        personsByEmail.clear();
+        persons.forEach(this::indexContactDetails);
     }
 
     public void setTags(Set<Tag> tags) {
         this.tags.setTags(tags);
     }
 
+    /**
+     * Replaces the groups with copies of {@code groups} whose members refer to the persons in this address book.
+     */
     public void setGroups(List<Group> groups) throws DuplicateGroupException {
-        this.groups.setGroups(groups);
+        List<Group> normalizedGroups = groups.stream().map(this::normalizeGroup).collect(Collectors.toList());
+        this.groups.setGroups(normalizedGroups);
+        groupsByMember.clear();
+        normalizedGroups.forEach(this::indexGroup);
     }
 
     public void setEvents(List<Event> events) throws DuplicateEventException {
@@ -124,11 +148,26 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @throws DuplicatePersonException if an equivalent person already exists.
      */
     public void addPerson(Person p) throws DuplicatePersonException {
+        addPerson(getPersonList().size(), p);
+    }
+
+    /**
+     * Adds a person to the address book at position {@code index} of the person list.
+     *
+     * @throws DuplicatePersonException if an equivalent person already exists.
+     * @see #addPerson(Person)
+     */
+    public void addPerson(int index, Person p) throws DuplicatePersonException {
         Person person = syncWithMasterTagList(p);
-        // TODO: the tags master list will be updated even though the below line fails.
-        // This can cause the tags master list to have additional tags that are not tagged to any person
-        // in the person list.
-        persons.add(person);
+        // indexed first, as the person list notifies its listeners as soon as the person is added
+        indexContactDetails(person);
+        try {
+            persons.add(index, person);
+        } catch (DuplicatePersonException dpe) {
+            unindexContactDetails(person);
+            tags.release(person.getTags());
+            throw dpe;
+        }
     }
 
     /**
@@ -144,11 +183,21 @@ public class AddressBook implements ReadOnlyAddressBook {
             throws DuplicatePersonException, PersonNotFoundException {
         requireNonNull(editedPerson);
 
+        Person storedTarget = getStoredPerson(target);
         Person syncedEditedPerson = syncWithMasterTagList(editedPerson);
-        // TODO: the tags master list will be updated even though the below line fails.
-        // This can cause the tags master list to have additional tags that are not tagged to any person
-        // in the person list.
-        persons.setPerson(target, syncedEditedPerson);
+        // reindexed first, as the person list notifies its listeners as soon as the person is replaced
+        unindexContactDetails(storedTarget);
+        indexContactDetails(syncedEditedPerson);
+        try {
+            persons.setPerson(target, syncedEditedPerson);
+        } catch (DuplicatePersonException dpe) {
+            unindexContactDetails(syncedEditedPerson);
+            indexContactDetails(storedTarget);
+            tags.release(syncedEditedPerson.getTags());
+            throw dpe;
+        }
+        tags.release(storedTarget.getTags());
+        replaceGroupMember(storedTarget, syncedEditedPerson);
     }
 
     /**
@@ -162,43 +211,107 @@ public class AddressBook implements ReadOnlyAddressBook {
             throws DuplicateGroupException, GroupNotFoundException {
         requireNonNull(editedGroup);
 
-        groups.setGroup(target, editedGroup);
+        Group storedTarget = getStoredGroup(target);
+        Group normalizedEditedGroup = normalizeGroup(editedGroup);
+        groups.setGroup(target, normalizedEditedGroup);
+        unindexGroup(storedTarget);
+        indexGroup(normalizedEditedGroup);
     }
 
     /**
-     * Updates the master tag list to include tags in {@code person} that are not in the list.
+     * Updates the master tag list to include tags in {@code person} that are not in the list,
+     * and records {@code person} as a user of each of its tags.
+     * Callers must release the tags of the returned person if it does not end up in {@link #persons}.
      *
      * @return a copy of this {@code person} such that every tag in this person points to a Tag object in the master
      * list.
      */
-
     private Person syncWithMasterTagList(Person person) {
-        final UniqueTagList personTags = new UniqueTagList(person.getTags());
-        tags.mergeFrom(personTags);
-
-        // Create map with values = tag object references in the master list
-        // used for checking person tag references
-        final Map<Tag, Tag> masterTagObjects = new HashMap<>();
-        tags.forEach(tag -> masterTagObjects.put(tag, tag));
-
-        // Rebuild the list of person tags to point to the relevant tags in the master tag list.
-        final Set<Tag> correctTagReferences = new HashSet<>();
-        personTags.forEach(tag -> correctTagReferences.add(masterTagObjects.get(tag)));
+        final Set<Tag> correctTagReferences = tags.acquire(person.getTags());
         return new Person(
                 person.getName(), person.getPhone(), person.getEmail(), person.getAddress(), person.getTimeTableLink(),
                 person.getDetail(), correctTagReferences);
     }
 
+    /**
+     * Returns the position of the person equivalent to {@code key} in the person list, or -1 if there is none.
+     */
+    public int indexOfPerson(Person key) {
+        return persons.indexOf(key);
+    }
+
+    /**
+     * Returns the person in {@link #persons} that is equivalent to {@code key}.
+     *
+     * @throws PersonNotFoundException if the {@code key} is not in this {@code AddressBook}.
+     */
+    private Person getStoredPerson(Person key) throws PersonNotFoundException {
+        int index = persons.indexOf(key);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+        return persons.asObservableList().get(index);
+    }
+
     /**
      * Removes {@code key} from this {@code AddressBook}.
+     * Tags that are no longer used by any person are removed from the master tag list.
      *
      * @throws PersonNotFoundException if the {@code key} is not in this {@code AddressBook}.
      */
     public boolean removePerson(Person key) throws PersonNotFoundException {
-        if (persons.remove(key)) {
-            return true;
-        } else {
-            throw new PersonNotFoundException();
+        Person storedPerson = getStoredPerson(key);
+        unindexContactDetails(storedPerson);
+        persons.remove(key);
+        tags.release(storedPerson.getTags());
+        removeGroupMember(storedPerson);
+        return true;
+    }
+
+    /**
+     * Returns the persons whose phone number is {@code phone}, as an unmodifiable set.
+     */
+    public Set<Person> getPersonsWithPhone(Phone phone) {
+        requireNonNull(phone);
+        return Collections.unmodifiableSet(personsByPhone.getOrDefault(phone.value, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the persons whose email address is {@code email}, ignoring case, as an unmodifiable set.
+     */
+    public Set<Person> getPersonsWithEmail(Email email) {
+        requireNonNull(email);
+        return Collections.unmodifiableSet(
+                personsByEmail.getOrDefault(email.getNormalizedValue(), Collections.emptySet()));
+    }
+
+    /**
+     * Records the phone number and email address of {@code person} in the secondary indexes.
+     */
+    private void indexContactDetails(Person person) {
+        personsByPhone.computeIfAbsent(person.getPhone().value, unused -> new HashSet<>()).add(person);
+        personsByEmail.computeIfAbsent(person.getEmail().getNormalizedValue(), unused -> new HashSet<>())
+                .add(person);
+    }
+
+    /**
+     * Removes the phone number and email address of {@code person} from the secondary indexes.
+     */
+    private void unindexContactDetails(Person person) {
+        removeFromIndex(personsByPhone, person.getPhone().value, person);
+        removeFromIndex(personsByEmail, person.getEmail().getNormalizedValue(), person);
+    }
+
+    /**
+     * Removes {@code person} from the entry of {@code key} in {@code index}, dropping the entry once it is empty.
+     */
+    private static void removeFromIndex(Map<String, Set<Person>> index, String key, Person person) {
+        Set<Person> indexedPersons = index.get(key);
+        if (indexedPersons != null) {
+            indexedPersons.remove(person);
+            if (indexedPersons.isEmpty()) {
+                index.remove(key);
+            }
         }
     }
 
@@ -213,6 +326,15 @@ public class AddressBook implements ReadOnlyAddressBook {
         todos.add(todo);
     }
 
+    /**
+     * Adds a to-do to the address book at position {@code index} of the to-do list.
+     *
+     * @throws DuplicateToDoException if an equivalent to-do already exists.
+     */
+    public void addToDo(int index, ToDo todo) throws DuplicateToDoException {
+        todos.add(index, todo);
+    }
+
     @Override
     public ObservableList<ToDo> getToDoList() {
         return todos.asObservableList();
@@ -257,28 +379,156 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     //// tag-level operations
 
+    /**
+     * Adds a tag that is not used by any person yet to the master tag list.
+     *
+     * @throws UniqueTagList.DuplicateTagException if an equivalent tag already exists.
+     */
     public void addTag(Tag t) throws UniqueTagList.DuplicateTagException {
         tags.add(t);
     }
     //@@author jas5469
     ////Group operation
+    /**
+     * Adds a copy of {@code group} whose members refer to the persons in this address book.
+     *
+     * @throws DuplicateGroupException if an equivalent group already exists.
+     */
     public void addGroup(Group group) throws DuplicateGroupException {
-        groups.add(group);
+        addGroup(getGroupList().size(), group);
+    }
+
+    /**
+     * Adds a copy of {@code group} at position {@code index} of the group list.
+     *
+     * @throws DuplicateGroupException if an equivalent group already exists.
+     * @see #addGroup(Group)
+     */
+    public void addGroup(int index, Group group) throws DuplicateGroupException {
+        Group normalizedGroup = normalizeGroup(group);
+        groups.add(index, normalizedGroup);
+        indexGroup(normalizedGroup);
     }
 
     /**
      * Removes {@code key} from this {@code AddressBook}.
      *
-     * @throws ToDoNotFoundException if the {@code key} is not in this {@code AddressBook}.
+     * @throws GroupNotFoundException if the {@code key} is not in this {@code AddressBook}.
      */
     public boolean removeGroup(Group key) throws GroupNotFoundException {
-        if (groups.remove(key)) {
-            return true;
-        } else {
+        Group storedGroup = getStoredGroup(key);
+        groups.remove(key);
+        unindexGroup(storedGroup);
+        return true;
+    }
+    //@@author
+
+    /**
+     * Returns the groups that {@code person} is a member of, as an unmodifiable set.
+     */
+    public Set<Group> getGroupsOf(Person person) {
+        requireNonNull(person);
+        return Collections.unmodifiableSet(groupsByMember.getOrDefault(person, Collections.emptySet()));
+    }
+
+    /**
+     * Returns a copy of {@code group} whose members point to the equivalent Person objects in {@link #persons}.
+     * Members that are not in {@link #persons} are kept as they are.
+     */
+    private Group normalizeGroup(Group group) {
+        final UniquePersonList members = new UniquePersonList();
+        try {
+            for (Person member : group.getPersonList()) {
+                int index = persons.indexOf(member);
+                members.add(index == -1 ? member : persons.asObservableList().get(index));
+            }
+        } catch (DuplicatePersonException dpe) {
+            throw new AssertionError("Members of a group should already be unique");
+        }
+        return new Group(group.getInformation(), members);
+    }
+
+    /**
+     * Returns the group in {@link #groups} that is equivalent to {@code key}.
+     *
+     * @throws GroupNotFoundException if the {@code key} is not in this {@code AddressBook}.
+     */
+    private Group getStoredGroup(Group key) throws GroupNotFoundException {
+        int index = groups.asObservableList().indexOf(key);
+        if (index == -1) {
             throw new GroupNotFoundException();
         }
+        return groups.asObservableList().get(index);
+    }
+
+    /**
+     * Records every member of {@code group} in {@link #groupsByMember}.
+     */
+    private void indexGroup(Group group) {
+        for (Person member : group.getPersonList()) {
+            groupsByMember.computeIfAbsent(member, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(group);
+        }
+    }
+
+    /**
+     * Removes every member of {@code group} from {@link #groupsByMember}.
+     */
+    private void unindexGroup(Group group) {
+        for (Person member : group.getPersonList()) {
+            Set<Group> memberGroups = groupsByMember.get(member);
+            if (memberGroups != null) {
+                memberGroups.remove(group);
+                if (memberGroups.isEmpty()) {
+                    groupsByMember.remove(member);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} in every group {@code target} is a member of.
+     */
+    private void replaceGroupMember(Person target, Person editedPerson) {
+        try {
+            for (Group group : new ArrayList<>(getGroupsOf(target))) {
+                Group editedGroup = new Group(group.getInformation(), group.getPersonList());
+                editedGroup.setPerson(target, editedPerson);
+                replaceStoredGroup(group, editedGroup);
+            }
+        } catch (DuplicatePersonException | PersonNotFoundException e) {
+            throw new AssertionError("Groups should be consistent with the persons in the address book");
+        }
+    }
+
+    /**
+     * Removes {@code person} from every group it is a member of.
+     */
+    private void removeGroupMember(Person person) {
+        try {
+            for (Group group : new ArrayList<>(getGroupsOf(person))) {
+                Group editedGroup = new Group(group.getInformation(), group.getPersonList());
+                editedGroup.removePerson(person);
+                replaceStoredGroup(group, editedGroup);
+            }
+        } catch (PersonNotFoundException pnfe) {
+            throw new AssertionError("Groups should be consistent with the persons in the address book");
+        }
+    }
+
+    /**
+     * Replaces the stored {@code group} with {@code editedGroup}.
+     * Stored groups are never modified in place, as snapshots of this address book may share them.
+     */
+    private void replaceStoredGroup(Group group, Group editedGroup) {
+        try {
+            groups.setGroup(group, editedGroup);
+        } catch (DuplicateGroupException | GroupNotFoundException e) {
+            throw new AssertionError("Only the members of a stored group are replaced");
+        }
+        unindexGroup(group);
+        indexGroup(editedGroup);
     }
-    //@@author
     ////Event operations
     /**
      * Adds an event to the address book.
@@ -288,6 +538,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         events.add(e);
     }
 
+    /**
+     * Removes {@code key} from this {@code AddressBook}.
+     *
+     * @throws EventNotFoundException if the {@code key} is not in this {@code AddressBook}.
+     */
+    public boolean removeEvent(Event key) throws EventNotFoundException {
+        return events.removeEvent(key);
+    }
+
+    /**
+     * Returns the events taking place on {@code date}.
+     */
+    public List<Event> getEventsOn(LocalDate date) {
+        return events.getEventsOn(date);
+    }
+
     //// util methods
 
     @Override
@@ -321,7 +587,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         return other == this // short circuit if same object
                 || (other instanceof AddressBook // instanceof handles nulls
                 && this.persons.equals(((AddressBook) other).persons)
-                && this.tags.equalsOrderInsensitive(((AddressBook) other).tags));
+                && this.tags.equals(((AddressBook) other).tags));
     }
 
     @Override
@@ -351,32 +617,23 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Removes {@code tag} from the {@code AddressBook}.
      */
     private void removeTagFromAddressBook(Tag tag) {
-        Set<Tag> editedTagList = tags.toSet();
-        if (editedTagList.contains(tag)) {
-            editedTagList.remove(tag);
-            tags.setTags(editedTagList);
-        }
+        tags.remove(tag);
     }
     //@@author LeonidAgarth
     /**
      * Replaces the old {@code target} tag with the new {@code editedTag}
      */
     public void editTag(Tag target, Tag editedTag) throws TagNotFoundException {
-        Set<Tag> editedTagList = tags.toSet();
-        if (editedTagList.contains(target)) {
-            editedTagList.remove(target);
-            editedTagList.add(editedTag);
-            tags.setTags(editedTagList);
-        } else {
-            throw new TagNotFoundException();
-        }
+        tags.replace(target, editedTag);
         for (Person p : persons) {
             replaceTagInPerson(target, editedTag, p);
         }
     }
 
     /**
-     * Replaces the old {@code target} tag of a {@code person} with the new {@code editedTag}
+     * Replaces the old {@code target} tag of a {@code person} with the new {@code editedTag}.
+     * The person is replaced without acquiring or releasing its tags, as {@link TagRegistry#replace(Tag, Tag)}
+     * already moved the usage count of {@code target} to {@code editedTag}.
      */
     private void replaceTagInPerson(Tag target, Tag editedTag, Person person) {
         Set<Tag> tagList = new HashSet<>(person.getTags());
@@ -389,8 +646,10 @@ public class AddressBook implements ReadOnlyAddressBook {
         Person updatedPerson = new Person(person.getName(), person.getPhone(),
                 person.getEmail(), person.getAddress(), person.getTimeTableLink(), person.getDetail(), tagList);
 
+        unindexContactDetails(person);
+        indexContactDetails(updatedPerson);
         try {
-            updatePerson(person, updatedPerson);
+            persons.setPerson(person, updatedPerson);
         } catch (DuplicatePersonException dpe) {
             throw new AssertionError("Modifying a person's tags only should not result in a duplicate. "
                     + "See Person#equals(Object).");
@@ -398,6 +657,7 @@ public class AddressBook implements ReadOnlyAddressBook {
             throw new AssertionError("Modifying a person's tags only should not result in "
                     + "a PersonNotFoundException. See Person#equals(Object).");
         }
+        replaceGroupMember(person, updatedPerson);
     }
     //@@author Isaaaca
     /**
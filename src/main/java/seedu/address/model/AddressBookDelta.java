@@ -0,0 +1,229 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.group.Group;
+
+/**
+ * The changes made to an address book by one or more model mutations, in the order they were made.
+ *
+ * Each change keeps the entities it replaced, so that it can be reverted. A change that replaced the whole
+ * address book is recorded as a change of type {@code ReadOnlyAddressBook}, keeping a snapshot of the data
+ * before the change.
+ */
+public class AddressBookDelta {
+
+    /** Rough number of bytes taken by a change itself, excluding the entities it refers to. */
+    private static final long CHANGE_SIZE_ESTIMATE = 48;
+    /** Rough number of bytes taken by an entity, excluding its text. */
+    private static final long ENTITY_SIZE_ESTIMATE = 64;
+    /** Rough number of bytes taken by a reference from one entity to another. */
+    private static final long REFERENCE_SIZE_ESTIMATE = 8;
+
+    private final List<Change<?>> changes = new ArrayList<>();
+    private boolean hasUnknownReset = false;
+
+    /**
+     * Returns a delta marking that the whole address book was replaced, without keeping the data it replaced.
+     */
+    public static AddressBookDelta reset() {
+        AddressBookDelta delta = new AddressBookDelta();
+        delta.hasUnknownReset = true;
+        return delta;
+    }
+
+    /**
+     * Records that {@code added} was added.
+     */
+    public <T> void recordAddition(Class<T> type, T added) {
+        requireNonNull(added);
+        changes.add(new Change<>(type, null, added, Change.NO_INDEX));
+    }
+
+    /**
+     * Records that {@code added} was added at position {@code index} of its list.
+     */
+    public <T> void recordAddition(Class<T> type, T added, int index) {
+        requireNonNull(added);
+        assert index >= 0;
+        changes.add(new Change<>(type, null, added, index));
+    }
+
+    /**
+     * Records that {@code removed} was removed from position {@code index} of its list.
+     */
+    public <T> void recordRemoval(Class<T> type, T removed, int index) {
+        requireNonNull(removed);
+        assert index >= 0;
+        changes.add(new Change<>(type, removed, null, index));
+    }
+
+    /**
+     * Records that {@code target} was replaced by {@code edited}.
+     */
+    public <T> void recordUpdate(Class<T> type, T target, T edited) {
+        requireNonNull(target);
+        requireNonNull(edited);
+        changes.add(new Change<>(type, target, edited, Change.NO_INDEX));
+    }
+
+    /**
+     * Records that the whole address book was replaced, {@code previousData} being a snapshot of it before.
+     */
+    public void recordReset(ReadOnlyAddressBook previousData) {
+        requireNonNull(previousData);
+        changes.add(new Change<>(ReadOnlyAddressBook.class, previousData, null, Change.NO_INDEX));
+    }
+
+    /**
+     * Returns the number of changes recorded.
+     */
+    public int size() {
+        return changes.size();
+    }
+
+    /**
+     * Returns a new delta with the changes recorded from position {@code start} onwards.
+     */
+    public AddressBookDelta from(int start) {
+        AddressBookDelta delta = new AddressBookDelta();
+        delta.changes.addAll(changes.subList(start, changes.size()));
+        return delta;
+    }
+
+    /**
+     * Discards the changes recorded from position {@code start} onwards.
+     */
+    public void discardFrom(int start) {
+        changes.subList(start, changes.size()).clear();
+    }
+
+    public boolean isEmpty() {
+        return !hasUnknownReset && changes.isEmpty();
+    }
+
+    /**
+     * Returns true if the whole address book was replaced.
+     */
+    public boolean isReset() {
+        return hasUnknownReset || changes.stream().anyMatch(Change::isReset);
+    }
+
+    /**
+     * Returns true if entities of {@code type} may have changed.
+     */
+    public boolean affects(Class<?> type) {
+        requireNonNull(type);
+        return isReset() || changes.stream().anyMatch(change -> change.getType().equals(type));
+    }
+
+    /**
+     * Returns the recorded changes as an unmodifiable list, in the order they were made.
+     */
+    public List<Change<?>> getChanges() {
+        return Collections.unmodifiableList(changes);
+    }
+
+    /**
+     * Returns a rough estimate of the number of bytes kept alive by this delta.
+     */
+    public long getEstimatedSize() {
+        long size = 0;
+        for (Change<?> change : changes) {
+            size += CHANGE_SIZE_ESTIMATE + estimateSize(change.getBefore()) + estimateSize(change.getAfter());
+        }
+        return size;
+    }
+
+    /**
+     * Returns a rough estimate of the number of bytes taken by {@code entity}, based on the length of its text.
+     */
+    private static long estimateSize(Object entity) {
+        if (entity == null) {
+            return 0;
+        }
+        if (entity instanceof ReadOnlyAddressBook) {
+            ReadOnlyAddressBook data = (ReadOnlyAddressBook) entity;
+            return estimateTotalSize(data.getPersonList()) + estimateTotalSize(data.getTagList())
+                    + estimateTotalSize(data.getToDoList()) + estimateTotalSize(data.getGroupList())
+                    + estimateTotalSize(data.getEventList());
+        }
+        long size = ENTITY_SIZE_ESTIMATE + 2L * entity.toString().length();
+        if (entity instanceof Group) {
+            size += REFERENCE_SIZE_ESTIMATE * ((Group) entity).getPersonList().asObservableList().size();
+        }
+        return size;
+    }
+
+    private static long estimateTotalSize(List<?> entities) {
+        return entities.stream().mapToLong(AddressBookDelta::estimateSize).sum();
+    }
+
+    @Override
+    public String toString() {
+        return isReset() ? "address book replaced" : changes.size() + " change(s)";
+    }
+
+    /**
+     * A change to one entity of the address book: an addition has no {@code before}, a removal has no
+     * {@code after}, and an update has both.
+     */
+    public static class Change<T> {
+        private static final int NO_INDEX = -1;
+
+        private final Class<T> type;
+        private final T before;
+        private final T after;
+        private final int index;
+
+        private Change(Class<T> type, T before, T after, int index) {
+            this.type = requireNonNull(type);
+            this.before = before;
+            this.after = after;
+            this.index = index;
+        }
+
+        public Class<T> getType() {
+            return type;
+        }
+
+        /**
+         * Returns the entity before the change, or null if it was added.
+         */
+        public T getBefore() {
+            return before;
+        }
+
+        /**
+         * Returns the entity after the change, or null if it was removed.
+         * The data after a reset is not kept.
+         */
+        public T getAfter() {
+            return after;
+        }
+
+        /**
+         * Returns the position the entity was removed from or added at, or -1 if it was neither removed nor added
+         * at a given position.
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public boolean isAddition() {
+            return before == null;
+        }
+
+        public boolean isRemoval() {
+            return after == null && !isReset();
+        }
+
+        public boolean isReset() {
+            return type.equals(ReadOnlyAddressBook.class);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.event.Event;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.todo.ToDo;
+
+/**
+ * An immutable copy of the data of an address book at one point in time.
+ *
+ * A snapshot only copies the references to the entities of the address book, and shares the entities themselves
+ * with it and with other snapshots. This is safe as the entities stored in an {@code AddressBook} are never
+ * modified in place. Unlike {@code new AddressBook(toBeCopied)}, taking a snapshot does not re-validate the data
+ * or re-sync tags, as the data comes from a valid address book.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Tag> tags;
+    private final ObservableList<ToDo> todos;
+    private final ObservableList<Group> groups;
+    private final ObservableList<Event> events;
+    private final double toDoListCompleteRatio;
+
+    private AddressBookSnapshot(ReadOnlyAddressBook source) {
+        persons = freeze(source.getPersonList());
+        tags = freeze(source.getTagList());
+        todos = freeze(source.getToDoList());
+        groups = freeze(source.getGroupList());
+        events = freeze(source.getEventList());
+        toDoListCompleteRatio = source.getToDoListCompleteRatio();
+    }
+
+    /**
+     * Returns a snapshot of the current data of {@code addressBook}.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (addressBook instanceof AddressBookSnapshot) {
+            return (AddressBookSnapshot) addressBook;
+        }
+        return new AddressBookSnapshot(addressBook);
+    }
+
+    private static <T> ObservableList<T> freeze(List<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(list));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return tags;
+    }
+
+    @Override
+    public ObservableList<ToDo> getToDoList() {
+        return todos;
+    }
+
+    @Override
+    public double getToDoListCompleteRatio() {
+        return toDoListCompleteRatio;
+    }
+
+    @Override
+    public ObservableList<Group> getGroupList() {
+        return groups;
+    }
+
+    @Override
+    public ObservableList<Event> getEventList() {
+        return events;
+    }
+
+    @Override
+    public String toString() {
+        return persons.size() + " persons, " + tags.size() + " tags";
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -8,7 +10,9 @@ import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.exceptions.DuplicateGroupException;
 import seedu.address.model.group.exceptions.GroupNotFoundException;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.tag.Tag;
@@ -27,6 +31,21 @@ public interface Model {
     Predicate<Event> PREDICATE_SHOW_ALL_EVENTS = unused -> true;
     Predicate<Group> PREDICATE_SHOW_ALL_GROUPS = unused -> true;
 
+    /**
+     * Applies all mutations made by {@code transaction} as one change: either all of them take effect and
+     * a single {@code AddressBookChangedEvent} describing them is raised, or, if {@code transaction} throws,
+     * none of them take effect and the exception is rethrown.
+     * A batch started inside another batch becomes part of the outer batch.
+     *
+     * @return the changes made by {@code transaction}.
+     */
+    <E extends Exception> AddressBookDelta batch(Transaction<E> transaction) throws E;
+
+    /**
+     * Reverts {@code changes}, which must be the latest changes made to the address book, as one change.
+     */
+    void revert(AddressBookDelta changes);
+
     /** Clears existing backing model and replaces with the provided new data. */
     void resetData(ReadOnlyAddressBook newData);
 
@@ -89,6 +108,9 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered to-do list */
     ObservableList<Event> getFilteredEventList();
 
+    /** Returns the events in the filtered event list that take place on {@code date} */
+    List<Event> getFilteredEventsOn(LocalDate date);
+
     /**
      * Returns an unmodifiable view of the filtered group list
      */
@@ -100,6 +122,21 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to show the persons whose phone number is {@code phone},
+     * looked up in the phone number index. The filter is kept up to date as persons are added, edited or removed.
+     * @throws NullPointerException if {@code phone} is null.
+     */
+    void updateFilteredPersonListByPhone(Phone phone);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons whose email address is {@code email},
+     * ignoring case, looked up in the email address index. The filter is kept up to date as persons are added,
+     * edited or removed.
+     * @throws NullPointerException if {@code email} is null.
+     */
+    void updateFilteredPersonListByEmail(Email email);
+
     /**
      * Updates the filter of the filtered to-do list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -139,4 +176,13 @@ public interface Model {
 
     /** Raises an event to indicate the timetable has changed */
     void indicateTimetableChanged();
+    //@@author
+
+    /**
+     * A group of mutations to apply to a {@code Model} through {@link Model#batch(Transaction)}.
+     */
+    @FunctionalInterface
+    interface Transaction<E extends Exception> {
+        void execute(Model model) throws E;
+    }
 }
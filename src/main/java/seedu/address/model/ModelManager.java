@@ -3,8 +3,15 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import com.google.common.eventbus.Subscribe;
 
@@ -16,13 +23,17 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.ui.CalendarChangedEvent;
 import seedu.address.commons.events.ui.TimetableChangedEvent;
+import seedu.address.commons.exceptions.DuplicateDataException;
+import seedu.address.model.AddressBookDelta.Change;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.exceptions.DuplicateEventException;
+import seedu.address.model.event.exceptions.EventNotFoundException;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.exceptions.DuplicateGroupException;
 import seedu.address.model.group.exceptions.GroupNotFoundException;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.tag.Tag;
@@ -44,7 +55,12 @@ public class ModelManager extends ComponentManager implements Model {
     private final FilteredList<Event> filteredEvents;
     private final FilteredList<Group> filteredGroups;
 
+    private AddressBookDelta pendingDelta = new AddressBookDelta();
+    private int batchDepth = 0;
+
     private boolean inCalendarView = true;
+    /** Looks up the persons to show in an index of the address book, or is null if they are shown by predicate. */
+    private Supplier<Set<Person>> shownPersonsLookup;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -66,9 +82,105 @@ public class ModelManager extends ComponentManager implements Model {
         this(new AddressBook(), new UserPrefs());
     }
 
+    @Override
+    public synchronized <E extends Exception> AddressBookDelta batch(Transaction<E> transaction) throws E {
+        requireNonNull(transaction);
+        final int start = pendingDelta.size();
+
+        batchDepth++;
+        try {
+            transaction.execute(this);
+        } catch (Exception e) {
+            revertChanges(pendingDelta.from(start));
+            pendingDelta.discardFrom(start);
+            throw e;
+        } finally {
+            batchDepth--;
+        }
+        final AddressBookDelta changes = pendingDelta.from(start);
+        indicateAddressBookChanged();
+        return changes;
+    }
+
+    @Override
+    public synchronized void revert(AddressBookDelta changes) {
+        requireNonNull(changes);
+        batch(model -> revertChanges(changes));
+    }
+
+    /**
+     * Reverts {@code changes} in the reverse order they were made.
+     * The reverting is recorded as changes of its own.
+     */
+    private void revertChanges(AddressBookDelta changes) {
+        final List<Change<?>> changeList = changes.getChanges();
+        try {
+            for (int i = changeList.size() - 1; i >= 0; i--) {
+                revertChange(changeList.get(i));
+            }
+        } catch (DuplicateDataException | PersonNotFoundException | ToDoNotFoundException
+                | GroupNotFoundException | EventNotFoundException e) {
+            throw new AssertionError("Changes reverted in the reverse order they were made should not conflict", e);
+        }
+    }
+
+    /**
+     * Reverts a single {@code change} made to the address book.
+     */
+    private void revertChange(Change<?> change) throws DuplicateDataException, PersonNotFoundException,
+            ToDoNotFoundException, GroupNotFoundException, EventNotFoundException {
+        if (change.isReset()) {
+            resetData((ReadOnlyAddressBook) change.getBefore());
+        } else if (change.getType() == Person.class) {
+            Person before = (Person) change.getBefore();
+            Person after = (Person) change.getAfter();
+            if (change.isAddition()) {
+                deletePerson(after);
+            } else if (change.isRemoval()) {
+                addressBook.addPerson(change.getIndex(), before);
+                pendingDelta.recordAddition(Person.class, before, change.getIndex());
+            } else {
+                updatePerson(after, before);
+            }
+        } else if (change.getType() == ToDo.class) {
+            ToDo before = (ToDo) change.getBefore();
+            ToDo after = (ToDo) change.getAfter();
+            if (change.isAddition()) {
+                deleteToDo(after);
+            } else if (change.isRemoval()) {
+                addressBook.addToDo(change.getIndex(), before);
+                pendingDelta.recordAddition(ToDo.class, before, change.getIndex());
+            } else {
+                updateToDo(after, before);
+            }
+        } else if (change.getType() == Group.class) {
+            Group before = (Group) change.getBefore();
+            Group after = (Group) change.getAfter();
+            if (change.isAddition()) {
+                deleteGroup(after);
+            } else if (change.isRemoval()) {
+                addressBook.addGroup(change.getIndex(), before);
+                pendingDelta.recordAddition(Group.class, before, change.getIndex());
+            } else {
+                updateGroup(after, before);
+            }
+        } else if (change.getType() == Event.class) {
+            Event after = (Event) change.getAfter();
+            assert change.isAddition() : "Events are only ever added";
+            final int index = addressBook.getEventList().indexOf(after);
+            addressBook.removeEvent(after);
+            pendingDelta.recordRemoval(Event.class, after, index);
+        } else {
+            throw new AssertionError("Unknown type of change: " + change.getType());
+        }
+        indicateAddressBookChanged();
+    }
+
     @Override
     public void resetData(ReadOnlyAddressBook newData) {
+        final ReadOnlyAddressBook previousData = AddressBookSnapshot.of(addressBook);
         addressBook.resetData(newData);
+        pendingDelta.recordReset(previousData);
         indicateAddressBookChanged();
     }
 
@@ -78,10 +190,20 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     /**
-     * Raises an event to indicate the model has changed
+     * Raises an event to indicate the model has changed, carrying the changes made since the last such event.
+     * Inside a batch, the event is held back until the outermost batch completes.
      */
     private void indicateAddressBookChanged() {
-        raise(new AddressBookChangedEvent(addressBook));
+        if (batchDepth > 0 || pendingDelta.isEmpty()) {
+            return;
+        }
+        if (shownPersonsLookup != null) {
+            // persons changed since the index was last read are only shown or hidden once it is read again
+            showPersonsFromIndex(shownPersonsLookup);
+        }
+        final AddressBookDelta delta = pendingDelta;
+        pendingDelta = new AddressBookDelta();
+        raise(new AddressBookChangedEvent(addressBook, delta));
     }
 
     //@@author LeonidAgarth
@@ -98,28 +220,30 @@ public class ModelManager extends ComponentManager implements Model {
     //@@author
     @Override
     public synchronized void deletePerson(Person target) throws PersonNotFoundException {
+        final int index = addressBook.indexOfPerson(target);
+        final List<Group> memberGroups = new ArrayList<>(addressBook.getGroupsOf(target));
         addressBook.removePerson(target);
-        ObservableList<Group> groupList = addressBook.getGroupList();
-        for (Group group : groupList) {
-            UniquePersonList personList = group.getPersonList();
-            if (personList.contains(target)) {
-                group.removePerson(target);
-            }
+        // Recorded before the removal, so that reverting adds the person back before its memberships
+        for (Group group : memberGroups) {
+            pendingDelta.recordUpdate(Group.class, group, withoutMember(group, target));
         }
-
+        pendingDelta.recordRemoval(Person.class, target, index);
         indicateAddressBookChanged();
     }
 
     //@@author nhatquang3112
     @Override
     public synchronized void deleteToDo(ToDo target) throws ToDoNotFoundException {
+        final int index = addressBook.getToDoList().indexOf(target);
         addressBook.removeToDo(target);
+        pendingDelta.recordRemoval(ToDo.class, target, index);
         indicateAddressBookChanged();
     }
 
     @Override
     public synchronized void addToDo(ToDo toDo) throws DuplicateToDoException {
         addressBook.addToDo(toDo);
+        pendingDelta.recordAddition(ToDo.class, toDo);
         indicateAddressBookChanged();
     }
 
@@ -129,6 +253,7 @@ public class ModelManager extends ComponentManager implements Model {
         requireAllNonNull(target, editedToDo);
 
         addressBook.updateToDo(target, editedToDo);
+        pendingDelta.recordUpdate(ToDo.class, target, editedToDo);
         indicateAddressBookChanged();
     }
     //@@author
@@ -136,26 +261,35 @@ public class ModelManager extends ComponentManager implements Model {
     //@@author jas5469
     @Override
     public synchronized void deleteGroup(Group target) throws GroupNotFoundException {
+        final int index = addressBook.getGroupList().indexOf(target);
         addressBook.removeGroup(target);
+        pendingDelta.recordRemoval(Group.class, target, index);
         indicateAddressBookChanged();
     }
     //@@author
     @Override
     public synchronized void addPerson(Person person) throws DuplicatePersonException {
         addressBook.addPerson(person);
+        pendingDelta.recordAddition(Person.class, person);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         indicateAddressBookChanged();
     }
 
     @Override
     public void updateTag(Tag target, Tag editedTag) throws TagNotFoundException {
+        final ReadOnlyAddressBook previousData = AddressBookSnapshot.of(addressBook);
         addressBook.editTag(target, editedTag);
+        // A tag edit touches every person using the tag, so it is recorded as a whole-book change
+        pendingDelta.recordReset(previousData);
         indicateAddressBookChanged();
     }
 
     @Override
     public void removeTag(Tag tag) {
+        final ReadOnlyAddressBook previousData = AddressBookSnapshot.of(addressBook);
         addressBook.removeTag(tag);
+        pendingDelta.recordReset(previousData);
+        indicateAddressBookChanged();
     }
 
     @Override
@@ -164,6 +298,7 @@ public class ModelManager extends ComponentManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.updatePerson(target, editedPerson);
+        pendingDelta.recordUpdate(Person.class, target, editedPerson);
         indicateAddressBookChanged();
     }
 
@@ -175,12 +310,14 @@ public class ModelManager extends ComponentManager implements Model {
         requireAllNonNull(target, editedGroup);
 
         addressBook.updateGroup(target, editedGroup);
+        pendingDelta.recordUpdate(Group.class, target, editedGroup);
         indicateAddressBookChanged();
     }
 
     @Override
     public synchronized void addGroup(Group group) throws DuplicateGroupException {
         addressBook.addGroup(group);
+        pendingDelta.recordAddition(Group.class, group);
         indicateAddressBookChanged();
     }
 
@@ -188,6 +325,7 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public synchronized void addEvent(Event event) throws DuplicateEventException {
         addressBook.addEvent(event);
+        pendingDelta.recordAddition(Event.class, event);
         updateFilteredEventList(PREDICATE_SHOW_ALL_EVENTS);
         indicateAddressBookChanged();
     }
@@ -203,6 +341,19 @@ public class ModelManager extends ComponentManager implements Model {
     }
     //@@author
 
+    /**
+     * Returns a copy of {@code group} without the member {@code person}.
+     */
+    private static Group withoutMember(Group group, Person person) {
+        final Group editedGroup = new Group(group.getInformation(), group.getPersonList());
+        try {
+            editedGroup.removePerson(person);
+        } catch (PersonNotFoundException pnfe) {
+            throw new AssertionError("The groups of a person should contain the person");
+        }
+        return editedGroup;
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -217,9 +368,32 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        shownPersonsLookup = null;
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonListByPhone(Phone phone) {
+        requireNonNull(phone);
+        showPersonsFromIndex(() -> addressBook.getPersonsWithPhone(phone));
+    }
+
+    @Override
+    public void updateFilteredPersonListByEmail(Email email) {
+        requireNonNull(email);
+        showPersonsFromIndex(() -> addressBook.getPersonsWithEmail(email));
+    }
+
+    /**
+     * Filters the filtered person list to the persons given by {@code lookup}, and keeps {@code lookup} to read the
+     * index again whenever the address book changes.
+     */
+    private void showPersonsFromIndex(Supplier<Set<Person>> lookup) {
+        final Set<Person> shownPersons = new HashSet<>(lookup.get());
+        shownPersonsLookup = lookup;
+        filteredPersons.setPredicate(shownPersons::contains);
+    }
+
     //@@author nhatquang3112
     //=========== Filtered ToDo List Accessors =============================================================
 
@@ -251,6 +425,17 @@ public class ModelManager extends ComponentManager implements Model {
         return FXCollections.unmodifiableObservableList(filteredEvents);
     }
 
+    @Override
+    public List<Event> getFilteredEventsOn(LocalDate date) {
+        requireNonNull(date);
+        final Predicate<? super Event> predicate = filteredEvents.getPredicate();
+        final List<Event> events = addressBook.getEventsOn(date);
+        if (predicate == null) {
+            return events;
+        }
+        return events.stream().filter(predicate).collect(Collectors.toList());
+    }
+
     @Override
     public void updateFilteredEventList(Predicate<Event> predicate) {
         requireNonNull(predicate);
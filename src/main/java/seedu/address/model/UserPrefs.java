@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.util.Objects;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -9,9 +10,15 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_DEPTH = 100;
+    public static final long DEFAULT_UNDO_HISTORY_BYTES = 16L * 1024 * 1024;
+
     private GuiSettings guiSettings;
     private String addressBookFilePath = "data/addressbook.xml";
+    private AddressBookFormat addressBookFormat = AddressBookFormat.XML;
     private String addressBookName = "MyAddressBook";
+    private int undoHistoryDepth = DEFAULT_UNDO_HISTORY_DEPTH;
+    private long undoHistoryBytes = DEFAULT_UNDO_HISTORY_BYTES;
 
     public UserPrefs() {
         this.setGuiSettings(500, 500, 0, 0);
@@ -37,6 +44,17 @@ public class UserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    /**
+     * Returns the format the address book file at {@link #getAddressBookFilePath()} is stored in.
+     */
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        this.addressBookFormat = addressBookFormat;
+    }
+
     public String getAddressBookName() {
         return addressBookName;
     }
@@ -45,6 +63,28 @@ public class UserPrefs {
         this.addressBookName = addressBookName;
     }
 
+    /**
+     * Returns the maximum number of commands that can be undone.
+     */
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
+    /**
+     * Returns the rough maximum number of bytes the undo history may keep alive.
+     */
+    public long getUndoHistoryBytes() {
+        return undoHistoryBytes;
+    }
+
+    public void setUndoHistoryBytes(long undoHistoryBytes) {
+        this.undoHistoryBytes = undoHistoryBytes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -58,12 +98,16 @@ public class UserPrefs {
 
         return Objects.equals(guiSettings, o.guiSettings)
                 && Objects.equals(addressBookFilePath, o.addressBookFilePath)
-                && Objects.equals(addressBookName, o.addressBookName);
+                && Objects.equals(addressBookFormat, o.addressBookFormat)
+                && Objects.equals(addressBookName, o.addressBookName)
+                && undoHistoryDepth == o.undoHistoryDepth
+                && undoHistoryBytes == o.undoHistoryBytes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, addressBookName);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFormat, addressBookName, undoHistoryDepth,
+                undoHistoryBytes);
     }
 
     @Override
@@ -71,7 +115,9 @@ public class UserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFormat);
         sb.append("\nAddressBook name : " + addressBookName);
+        sb.append("\nUndo history : " + undoHistoryDepth + " commands, " + undoHistoryBytes + " bytes");
         return sb.toString();
     }
 
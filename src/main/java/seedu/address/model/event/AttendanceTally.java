@@ -0,0 +1,186 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.model.event.WeeklyAvailability.Window;
+import seedu.address.model.event.WeeklyAvailability.WindowConsumer;
+
+/**
+ * Counts how many members of a group are free for each of a fixed set of candidate windows,
+ * to rank the windows by attendance.
+ * <p>
+ * The candidate windows are all the windows of a given duration, starting at regular steps within the same hours of
+ * some days of the week. Each window has one counter in a counting array, and adding a member increments the
+ * counters of the windows the member is free for in one sweep of the member's availability.
+ *
+ * @param <T> the type of the members.
+ */
+public class AttendanceTally<T> {
+
+    private static final int NOT_SEARCHED = -1;
+
+    private final int[] dayIndexes;
+    private final int[] dayPositions = new int[WeeklyAvailability.DAYS_PER_WEEK];
+    private final int fromMinute;
+    private final int toMinute;
+    private final int durationMinutes;
+    private final int stepMinutes;
+    private final int windowsPerDay;
+    private final int[] attendance;
+    private final List<T> members = new ArrayList<>();
+    private final List<WeeklyAvailability> availabilities = new ArrayList<>();
+
+    /**
+     * Creates a tally of the windows of {@code durationMinutes} minutes on each of the days of index
+     * {@code dayIndexes}, starting every {@code stepMinutes} minutes from {@code fromMinute} until
+     * {@code toMinute} minutes from midnight.
+     *
+     * @throws IllegalArgumentException if the times are not multiples of {@code WeeklyAvailability.CELL_MINUTES}
+     *      within a day, or a day appears more than once.
+     */
+    public AttendanceTally(int[] dayIndexes, int fromMinute, int toMinute, int durationMinutes, int stepMinutes) {
+        requireNonNull(dayIndexes);
+        WeeklyAvailability.checkWindowSearch(fromMinute, toMinute, durationMinutes, stepMinutes);
+        this.dayIndexes = dayIndexes.clone();
+        this.fromMinute = fromMinute;
+        this.toMinute = toMinute;
+        this.durationMinutes = durationMinutes;
+        this.stepMinutes = stepMinutes;
+
+        Arrays.fill(dayPositions, NOT_SEARCHED);
+        for (int position = 0; position < dayIndexes.length; position++) {
+            final int dayIndex = dayIndexes[position];
+            checkArgument(dayIndex >= 0 && dayIndex < WeeklyAvailability.DAYS_PER_WEEK
+                    && dayPositions[dayIndex] == NOT_SEARCHED);
+            dayPositions[dayIndex] = position;
+        }
+        final int lastStart = toMinute - durationMinutes - fromMinute;
+        windowsPerDay = lastStart < 0 ? 0 : lastStart / stepMinutes + 1;
+        attendance = new int[windowsPerDay * dayIndexes.length];
+    }
+
+    /**
+     * Adds {@code member}, who is free at the times of {@code availability}.
+     */
+    public void add(T member, WeeklyAvailability availability) {
+        requireNonNull(member);
+        requireNonNull(availability);
+        members.add(member);
+        availabilities.add(availability);
+        final WindowConsumer countAttendance = (dayIndex, start, end) -> attendance[indexOf(dayIndex, start)]++;
+        availability.forEachFreeWindow(dayIndexes, fromMinute, toMinute, durationMinutes, stepMinutes,
+                countAttendance);
+    }
+
+    public int getMemberCount() {
+        return members.size();
+    }
+
+    /**
+     * Returns up to {@code limit} windows that at least {@code minAttendance} members are free for, ranked from
+     * the most attended. Windows with the same attendance are ranked by day and start time. A window overlapping
+     * a better ranked one is left out, so that the windows returned are all distinct options.
+     */
+    public List<RankedWindow<T>> getBestWindows(int minAttendance, int limit) {
+        checkArgument(limit >= 0);
+        final List<Integer> candidates = new ArrayList<>();
+        for (int index = 0; index < attendance.length; index++) {
+            if (attendance[index] >= Math.max(minAttendance, 1)) {
+                candidates.add(index);
+            }
+        }
+        candidates.sort(Comparator.<Integer>comparingInt(index -> attendance[index]).reversed()
+                .thenComparingInt(index -> index));
+
+        final List<RankedWindow<T>> best = new ArrayList<>();
+        for (int index : candidates) {
+            if (best.size() >= limit) {
+                break;
+            }
+            final Window window = windowAt(index);
+            if (best.stream().noneMatch(ranked -> ranked.getWindow().overlaps(window))) {
+                best.add(new RankedWindow<>(window, attendance[index], getMembersNotFreeFor(window)));
+            }
+        }
+        return best;
+    }
+
+    private List<T> getMembersNotFreeFor(Window window) {
+        final List<T> missing = new ArrayList<>();
+        for (int i = 0; i < members.size(); i++) {
+            if (!availabilities.get(i).isFree(window.getDayIndex(), window.getStartMinute(), window.getEndMinute())) {
+                missing.add(members.get(i));
+            }
+        }
+        return missing;
+    }
+
+    private int indexOf(int dayIndex, int startMinute) {
+        return dayPositions[dayIndex] * windowsPerDay + (startMinute - fromMinute) / stepMinutes;
+    }
+
+    private Window windowAt(int index) {
+        final int startMinute = fromMinute + (index % windowsPerDay) * stepMinutes;
+        return new Window(dayIndexes[index / windowsPerDay], startMinute, startMinute + durationMinutes);
+    }
+
+    /**
+     * A candidate window, with the number of members free for it and the members who are not.
+     *
+     * @param <T> the type of the members.
+     */
+    public static class RankedWindow<T> {
+        private final Window window;
+        private final int attendance;
+        private final List<T> missingMembers;
+
+        public RankedWindow(Window window, int attendance, List<T> missingMembers) {
+            this.window = requireNonNull(window);
+            this.attendance = attendance;
+            this.missingMembers = Collections.unmodifiableList(new ArrayList<>(missingMembers));
+        }
+
+        public Window getWindow() {
+            return window;
+        }
+
+        public int getAttendance() {
+            return attendance;
+        }
+
+        public List<T> getMissingMembers() {
+            return missingMembers;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof RankedWindow)) {
+                return false;
+            }
+            RankedWindow<?> otherWindow = (RankedWindow<?>) other;
+            return otherWindow.window.equals(window)
+                    && otherWindow.attendance == attendance
+                    && otherWindow.missingMembers.equals(missingMembers);
+        }
+
+        @Override
+        public int hashCode() {
+            return window.hashCode() * 31 + attendance;
+        }
+
+        @Override
+        public String toString() {
+            return window + ", " + attendance + " free, missing " + missingMembers;
+        }
+    }
+}
@@ -23,11 +23,16 @@ public class Event {
             + "d|2[0-8])(\\/|-|\\.)(?:(?:0?[1-9])|(?:1[0-2]))\\4(?:(?:1[6-9]|[2-9]\\d)?\\d{2})$";
     public static final String TIME_VALIDATION_REGEX = "^(0[0-9]|1[0-9]|2[0-4])[0-5][0-9]";
 
+    /** The minute of day of a time that is not in the format of HHmm. */
+    public static final int UNKNOWN_MINUTE = -1;
+
     protected String name;
     protected String venue;
     protected String date;
     protected String startTime;
     protected String endTime;
+    protected int startMinute;
+    protected int endMinute;
 
     /**
      * Default constructor, creating a blank Event.
@@ -46,6 +51,8 @@ public class Event {
         this.date = date;
         this.startTime = start;
         this.endTime = end;
+        this.startMinute = toMinuteOfDay(start);
+        this.endMinute = toMinuteOfDay(end);
     }
 
     public static boolean isValidName(String test) {
@@ -60,6 +67,28 @@ public class Event {
         return test.matches(TIME_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the number of minutes from midnight to {@code time}, given in the format of HHmm,
+     * or {@code UNKNOWN_MINUTE} if it is not a number.
+     */
+    protected static int toMinuteOfDay(String time) {
+        if (time == null || time.isEmpty()) {
+            return UNKNOWN_MINUTE;
+        }
+        int hoursAndMinutes = 0;
+        for (int i = 0; i < time.length(); i++) {
+            final char c = time.charAt(i);
+            if (c < '0' || c > '9') {
+                return UNKNOWN_MINUTE;
+            }
+            hoursAndMinutes = hoursAndMinutes * 10 + (c - '0');
+            if (hoursAndMinutes > 9999) {
+                return UNKNOWN_MINUTE;
+            }
+        }
+        return hoursAndMinutes / 100 * 60 + hoursAndMinutes % 100;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -71,7 +100,9 @@ public class Event {
         }
 
         Event otherEvent = (Event) other;
-        return otherEvent.getName().equals(this.getName())
+        return otherEvent.startMinute == this.startMinute
+                && otherEvent.endMinute == this.endMinute
+                && otherEvent.getName().equals(this.getName())
                 && otherEvent.getVenue().equals(this.getVenue())
                 && otherEvent.getDate().equals(this.getDate())
                 && otherEvent.getStartTime().equals(this.getStartTime())
@@ -118,4 +149,18 @@ public class Event {
     public String getEndTime() {
         return endTime;
     }
+
+    /**
+     * Returns the number of minutes from midnight to the start of this event, or {@code UNKNOWN_MINUTE}.
+     */
+    public int getStartMinute() {
+        return startMinute;
+    }
+
+    /**
+     * Returns the number of minutes from midnight to the end of this event, or {@code UNKNOWN_MINUTE}.
+     */
+    public int getEndMinute() {
+        return endMinute;
+    }
 }
@@ -4,8 +4,14 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -17,13 +23,19 @@ import seedu.address.model.event.exceptions.EventNotFoundException;
  * A list of events that enforces uniqueness between its elements and does not allow nulls.
  * <p>
  * Supports a minimal set of list operations.
+ * <p>
+ * Events are also indexed by the day they take place on, so that the events of a day can be looked up without
+ * going through the whole list. Events without a valid date (e.g. weekly events) are not indexed.
  *
  * @see Event#equals(Object)
  * @see CollectionUtil#elementsAreUnique(Collection)
  */
 public class UniqueEventList implements Iterable<Event> {
 
+    private static final String DATE_SEPARATOR_REGEX = "[/.-]";
+
     private final ObservableList<Event> internalList = FXCollections.observableArrayList();
+    private final Map<Long, List<Event>> eventsByEpochDay = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent event as the given argument.
@@ -44,6 +56,7 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
         internalList.add(toAdd);
+        index(toAdd);
     }
 
     /**
@@ -66,6 +79,8 @@ public class UniqueEventList implements Iterable<Event> {
         }
 
         internalList.set(index, editedEvent);
+        unindex(target);
+        index(editedEvent);
     }
 
     /**
@@ -79,11 +94,15 @@ public class UniqueEventList implements Iterable<Event> {
         if (!eventFoundAndDeleted) {
             throw new EventNotFoundException();
         }
+        unindex(toRemove);
         return eventFoundAndDeleted;
     }
 
     public void setEvents(UniqueEventList replacement) {
         this.internalList.setAll(replacement.internalList);
+        eventsByEpochDay.clear();
+        replacement.eventsByEpochDay.forEach((epochDay, events) ->
+                eventsByEpochDay.put(epochDay, new ArrayList<>(events)));
     }
 
     public void setEvents(List<Event> events) throws DuplicateEventException {
@@ -95,6 +114,58 @@ public class UniqueEventList implements Iterable<Event> {
         setEvents(replacement);
     }
 
+    /**
+     * Returns the events taking place on {@code date} as an unmodifiable list, in the order they were added.
+     */
+    public List<Event> getEventsOn(LocalDate date) {
+        requireNonNull(date);
+        final List<Event> events = eventsByEpochDay.get(date.toEpochDay());
+        return events == null ? Collections.emptyList() : Collections.unmodifiableList(events);
+    }
+
+    /**
+     * Adds {@code event} to the index of the day it takes place on.
+     */
+    private void index(Event event) {
+        final Long epochDay = toEpochDay(event.getDate());
+        if (epochDay != null) {
+            eventsByEpochDay.computeIfAbsent(epochDay, unused -> new ArrayList<>()).add(event);
+        }
+    }
+
+    /**
+     * Removes the equivalent event to {@code event} from the index of the day it takes place on.
+     */
+    private void unindex(Event event) {
+        final Long epochDay = toEpochDay(event.getDate());
+        if (epochDay == null) {
+            return;
+        }
+        final List<Event> events = eventsByEpochDay.get(epochDay);
+        if (events != null && events.remove(event) && events.isEmpty()) {
+            eventsByEpochDay.remove(epochDay);
+        }
+    }
+
+    /**
+     * Returns the epoch day of {@code date}, given in the format of DD/MM/YYYY, or null if it is not a valid date.
+     */
+    private static Long toEpochDay(String date) {
+        if (date == null) {
+            return null;
+        }
+        final String[] dayMonthYear = date.split(DATE_SEPARATOR_REGEX);
+        if (dayMonthYear.length != 3) {
+            return null;
+        }
+        try {
+            return LocalDate.of(Integer.parseInt(dayMonthYear[2]), Integer.parseInt(dayMonthYear[1]),
+                    Integer.parseInt(dayMonthYear[0])).toEpochDay();
+        } catch (NumberFormatException | DateTimeException e) {
+            return null;
+        }
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -0,0 +1,299 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The times of a week at which someone, or a whole group, is free.
+ * <p>
+ * The week is divided into cells of {@code CELL_MINUTES} minutes, and each cell is one bit of a bitmap, set if
+ * the cell is free. The availability of a group is the bitwise AND of the availabilities of its members, so that
+ * combining the timetables of many persons only takes a few word operations per person.
+ */
+public class WeeklyAvailability {
+
+    public static final int CELL_MINUTES = 5;
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int DAYS_PER_WEEK = 7;
+    public static final String MESSAGE_INVALID_WINDOW =
+            "Times and durations must be multiples of " + CELL_MINUTES + " minutes within a day";
+
+    private static final int CELLS_PER_DAY = MINUTES_PER_DAY / CELL_MINUTES;
+    private static final int CELLS_PER_WEEK = CELLS_PER_DAY * DAYS_PER_WEEK;
+    private static final int WORDS = (CELLS_PER_WEEK + Long.SIZE - 1) / Long.SIZE;
+
+    private final long[] cells = new long[WORDS];
+
+    /**
+     * Creates an availability that is free for the whole week.
+     */
+    public WeeklyAvailability() {
+        setRange(0, CELLS_PER_WEEK);
+    }
+
+    /**
+     * Creates a copy of {@code toBeCopied}.
+     */
+    public WeeklyAvailability(WeeklyAvailability toBeCopied) {
+        requireNonNull(toBeCopied);
+        System.arraycopy(toBeCopied.cells, 0, cells, 0, WORDS);
+    }
+
+    /**
+     * Returns the availability of someone attending {@code events} every week.
+     * Events on an unknown day or at an unknown time are ignored.
+     */
+    public static WeeklyAvailability of(List<? extends WeeklyEvent> events) {
+        requireNonNull(events);
+        WeeklyAvailability availability = new WeeklyAvailability();
+        for (WeeklyEvent event : events) {
+            availability.markBusy(event);
+        }
+        return availability;
+    }
+
+    /**
+     * Marks the time taken by {@code event} as busy. Does nothing if its day or times are unknown.
+     */
+    public void markBusy(WeeklyEvent event) {
+        requireNonNull(event);
+        if (event.getDayIndex() == WeeklyEvent.UNKNOWN_DAY || event.getStartMinute() == Event.UNKNOWN_MINUTE
+                || event.getEndMinute() == Event.UNKNOWN_MINUTE) {
+            return;
+        }
+        markBusy(event.getDayIndex(), event.getStartMinute(), event.getEndMinute());
+    }
+
+    /**
+     * Marks the time from {@code startMinute} to {@code endMinute} minutes from midnight of the day of index
+     * {@code dayIndex} as busy. Every cell overlapping the time is marked, even if only partly.
+     */
+    public void markBusy(int dayIndex, int startMinute, int endMinute) {
+        checkArgument(dayIndex >= 0 && dayIndex < DAYS_PER_WEEK);
+        final int startCell = Math.max(0, startMinute) / CELL_MINUTES;
+        final int endCell = (Math.min(MINUTES_PER_DAY, endMinute) + CELL_MINUTES - 1) / CELL_MINUTES;
+        if (startCell >= endCell) {
+            return;
+        }
+        final int dayOffset = dayIndex * CELLS_PER_DAY;
+        clearRange(dayOffset + startCell, dayOffset + endCell);
+    }
+
+    /**
+     * Keeps only the times at which {@code other} is also free.
+     */
+    public void retainFree(WeeklyAvailability other) {
+        requireNonNull(other);
+        for (int i = 0; i < WORDS; i++) {
+            cells[i] &= other.cells[i];
+        }
+    }
+
+    /**
+     * Returns true if the whole time from {@code startMinute} to {@code endMinute} minutes from midnight of
+     * the day of index {@code dayIndex} is free.
+     */
+    public boolean isFree(int dayIndex, int startMinute, int endMinute) {
+        checkArgument(dayIndex >= 0 && dayIndex < DAYS_PER_WEEK);
+        checkWindow(startMinute, endMinute);
+        final int dayOffset = dayIndex * CELLS_PER_DAY;
+        for (int cell = startMinute / CELL_MINUTES; cell < endMinute / CELL_MINUTES; cell++) {
+            if (!isCellFree(dayOffset + cell)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of free minutes in the week.
+     */
+    public int getFreeMinutes() {
+        int freeCells = 0;
+        for (long word : cells) {
+            freeCells += Long.bitCount(word);
+        }
+        return freeCells * CELL_MINUTES;
+    }
+
+    /**
+     * Returns the free windows of {@code durationMinutes} minutes on each of the days of index {@code dayIndexes},
+     * between {@code fromMinute} and {@code toMinute} minutes from midnight. The windows start every
+     * {@code stepMinutes} minutes from {@code fromMinute}, and are returned in order of day and start time.
+     *
+     * @throws IllegalArgumentException if the times are not multiples of {@code CELL_MINUTES} within a day.
+     */
+    public List<Window> findFreeWindows(int[] dayIndexes, int fromMinute, int toMinute, int durationMinutes,
+            int stepMinutes) {
+        final List<Window> windows = new ArrayList<>();
+        forEachFreeWindow(dayIndexes, fromMinute, toMinute, durationMinutes, stepMinutes, (dayIndex, start, end) ->
+                windows.add(new Window(dayIndex, start, end)));
+        return windows;
+    }
+
+    /**
+     * Performs {@code action} on each of the windows {@link #findFreeWindows} would return, in the same order,
+     * without creating the windows.
+     *
+     * @throws IllegalArgumentException if the times are not multiples of {@code CELL_MINUTES} within a day.
+     */
+    public void forEachFreeWindow(int[] dayIndexes, int fromMinute, int toMinute, int durationMinutes,
+            int stepMinutes, WindowConsumer action) {
+        requireNonNull(dayIndexes);
+        requireNonNull(action);
+        checkWindowSearch(fromMinute, toMinute, durationMinutes, stepMinutes);
+
+        final int fromCell = fromMinute / CELL_MINUTES;
+        final int toCell = toMinute / CELL_MINUTES;
+        final int durationCells = durationMinutes / CELL_MINUTES;
+        final int stepCells = stepMinutes / CELL_MINUTES;
+        for (int dayIndex : dayIndexes) {
+            checkArgument(dayIndex >= 0 && dayIndex < DAYS_PER_WEEK);
+            final int dayOffset = dayIndex * CELLS_PER_DAY;
+            int freeRun = 0;
+            for (int cell = fromCell; cell < toCell; cell++) {
+                freeRun = isCellFree(dayOffset + cell) ? freeRun + 1 : 0;
+                final int windowStart = cell + 1 - durationCells;
+                if (freeRun >= durationCells && (windowStart - fromCell) % stepCells == 0) {
+                    action.accept(dayIndex, windowStart * CELL_MINUTES, (cell + 1) * CELL_MINUTES);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks the arguments of a search for windows of {@code durationMinutes} minutes starting every
+     * {@code stepMinutes} minutes between {@code fromMinute} and {@code toMinute} minutes from midnight.
+     *
+     * @throws IllegalArgumentException if the times are not multiples of {@code CELL_MINUTES} within a day.
+     */
+    public static void checkWindowSearch(int fromMinute, int toMinute, int durationMinutes, int stepMinutes) {
+        checkWindow(fromMinute, toMinute);
+        checkArgument(durationMinutes > 0 && durationMinutes % CELL_MINUTES == 0, MESSAGE_INVALID_WINDOW);
+        checkArgument(stepMinutes > 0 && stepMinutes % CELL_MINUTES == 0, MESSAGE_INVALID_WINDOW);
+    }
+
+    private boolean isCellFree(int cell) {
+        return (cells[cell / Long.SIZE] & (1L << (cell % Long.SIZE))) != 0;
+    }
+
+    /**
+     * Sets the bits of the cells from {@code fromCell} (inclusive) to {@code toCell} (exclusive).
+     */
+    private void setRange(int fromCell, int toCell) {
+        for (int cell = fromCell; cell < toCell; cell++) {
+            cells[cell / Long.SIZE] |= 1L << (cell % Long.SIZE);
+        }
+    }
+
+    /**
+     * Clears the bits of the cells from {@code fromCell} (inclusive) to {@code toCell} (exclusive).
+     */
+    private void clearRange(int fromCell, int toCell) {
+        final int fromWord = fromCell / Long.SIZE;
+        final int toWord = (toCell - 1) / Long.SIZE;
+        final long fromMask = -1L << (fromCell % Long.SIZE);
+        final long toMask = -1L >>> (Long.SIZE - 1 - (toCell - 1) % Long.SIZE);
+        if (fromWord == toWord) {
+            cells[fromWord] &= ~(fromMask & toMask);
+            return;
+        }
+        cells[fromWord] &= ~fromMask;
+        for (int word = fromWord + 1; word < toWord; word++) {
+            cells[word] = 0;
+        }
+        cells[toWord] &= ~toMask;
+    }
+
+    private static void checkWindow(int startMinute, int endMinute) {
+        checkArgument(startMinute >= 0 && startMinute <= endMinute && endMinute <= MINUTES_PER_DAY
+                && startMinute % CELL_MINUTES == 0 && endMinute % CELL_MINUTES == 0, MESSAGE_INVALID_WINDOW);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof WeeklyAvailability // instanceof handles nulls
+                && Arrays.equals(cells, ((WeeklyAvailability) other).cells));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(cells);
+    }
+
+    /**
+     * Represents an operation on a window of time, given by the index of its day in the week and its start and end
+     * as minutes from midnight.
+     */
+    @FunctionalInterface
+    public interface WindowConsumer {
+        void accept(int dayIndex, int startMinute, int endMinute);
+    }
+
+    /**
+     * A window of time on one day of the week.
+     */
+    public static class Window {
+        private final int dayIndex;
+        private final int startMinute;
+        private final int endMinute;
+
+        public Window(int dayIndex, int startMinute, int endMinute) {
+            this.dayIndex = dayIndex;
+            this.startMinute = startMinute;
+            this.endMinute = endMinute;
+        }
+
+        /**
+         * Returns the index of the day of this window in the week, starting from 0 for Monday.
+         */
+        public int getDayIndex() {
+            return dayIndex;
+        }
+
+        public int getStartMinute() {
+            return startMinute;
+        }
+
+        public int getEndMinute() {
+            return endMinute;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof Window)) {
+                return false;
+            }
+            Window otherWindow = (Window) other;
+            return otherWindow.dayIndex == dayIndex
+                    && otherWindow.startMinute == startMinute
+                    && otherWindow.endMinute == endMinute;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(dayIndex, startMinute, endMinute);
+        }
+
+        /**
+         * Returns true if this window and {@code other} are on the same day and share some time.
+         */
+        public boolean overlaps(Window other) {
+            return other.dayIndex == dayIndex && other.startMinute < endMinute && other.endMinute > startMinute;
+        }
+
+        @Override
+        public String toString() {
+            return "day " + dayIndex + ", minutes " + startMinute + " to " + endMinute;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.model.event;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.DayOfWeek;
 import java.util.ArrayList;
 import java.util.Arrays;
 
@@ -13,15 +14,25 @@ import seedu.address.database.module.Schedule;
 
 /**
  * Events, such as lectures, tutorial slots, to appear in timetable
+ * <p>
+ * The day and times of the event are parsed once when it is created, so that checking whether two events clash
+ * only compares integers.
  */
 public class WeeklyEvent extends Event {
+    /** The day index of a day that is not a day of the week. */
+    public static final int UNKNOWN_DAY = -1;
+
+    private static final DayOfWeek[] DAYS_OF_WEEK = DayOfWeek.values();
+
     private String day;
     private String[] details;
+    private int dayIndex;
 
     public WeeklyEvent(String name, String venue, String start, String end, String... details) {
         super(name, venue, "NA", start, end);
         this.day = details[0];          //Placeholder command
         this.details = details;
+        this.dayIndex = toDayIndex(day);
     }
 
     public WeeklyEvent(Module mod, Schedule schedule) {
@@ -32,12 +43,38 @@ public class WeeklyEvent extends Event {
         this.endTime = schedule.getEndTime();
         this.day = schedule.getDayText();
         this.details = new String[]{schedule.getLessonType() + ' ' + schedule.getClassNo(), mod.getModuleTitle()};
+        this.startMinute = toMinuteOfDay(startTime);
+        this.endMinute = toMinuteOfDay(endTime);
+        this.dayIndex = toDayIndex(day);
+    }
+
+    /**
+     * Returns the index of {@code dayOfWeek} in the week, starting from 0 for Monday,
+     * or {@code UNKNOWN_DAY} if it is not the name of a day of the week.
+     */
+    public static int toDayIndex(String dayOfWeek) {
+        if (dayOfWeek == null) {
+            return UNKNOWN_DAY;
+        }
+        for (DayOfWeek d : DAYS_OF_WEEK) {
+            if (d.name().equalsIgnoreCase(dayOfWeek)) {
+                return d.ordinal();
+            }
+        }
+        return UNKNOWN_DAY;
     }
 
     public String getDay() {
         return day;
     }
 
+    /**
+     * Returns the index of the day of this event in the week, starting from 0 for Monday, or {@code UNKNOWN_DAY}.
+     */
+    public int getDayIndex() {
+        return dayIndex;
+    }
+
     public ObservableList<String> getDetails() {
         ArrayList<String> temp = new ArrayList<String>(Arrays.asList(details));
         return FXCollections.observableArrayList(temp);
@@ -47,7 +84,7 @@ public class WeeklyEvent extends Event {
      * @return true if {@code this} clashes with the {@code mod}, false otherwise
      */
     public boolean clash(WeeklyEvent mod) {
-        return clash(mod.getDay(), mod.getStartTime(), mod.getEndTime());
+        return clash(mod.dayIndex, mod.startMinute, mod.endMinute);
     }
 
     /**
@@ -55,13 +92,23 @@ public class WeeklyEvent extends Event {
      * around the time from {@code start} to {@code end}, false otherwise
      */
     public boolean clash(String dayOfWeek, String start, String end) {
-        if (!day.equals(dayOfWeek)) {
+        return clash(toDayIndex(dayOfWeek), toMinuteOfDay(start), toMinuteOfDay(end));
+    }
+
+    /**
+     * @return true if {@code this} is on the day of index {@code otherDayIndex}, around the time from
+     * {@code otherStartMinute} to {@code otherEndMinute} minutes from midnight, false otherwise.
+     * Events on an unknown day or at an unknown time clash with nothing.
+     */
+    public boolean clash(int otherDayIndex, int otherStartMinute, int otherEndMinute) {
+        if (dayIndex == UNKNOWN_DAY || dayIndex != otherDayIndex) {
             return false;
         }
-        if (Integer.parseInt(start) >= Integer.parseInt(endTime)) {
+        if (startMinute == UNKNOWN_MINUTE || endMinute == UNKNOWN_MINUTE
+                || otherStartMinute == UNKNOWN_MINUTE || otherEndMinute == UNKNOWN_MINUTE) {
             return false;
         }
-        return Integer.parseInt(end) > Integer.parseInt(startTime);
+        return otherStartMinute < endMinute && otherEndMinute > startMinute;
     }
 
     @Override
@@ -75,12 +122,15 @@ public class WeeklyEvent extends Event {
         }
 
         WeeklyEvent otherEvent = (WeeklyEvent) other;
-        return otherEvent.getName().equals(this.getName())
+        return otherEvent.dayIndex == this.dayIndex
+                && otherEvent.startMinute == this.startMinute
+                && otherEvent.endMinute == this.endMinute
+                && otherEvent.getName().equals(this.getName())
                 && otherEvent.getVenue().equals(this.getVenue())
                 && otherEvent.getDate().equals(this.getDate())
                 && otherEvent.getStartTime().equals(this.getStartTime())
                 && otherEvent.getEndTime().equals(this.getEndTime())
                 && otherEvent.getDay().equals(this.getDay())
-                && otherEvent.getDetails().equals(this.getDetails());
+                && Arrays.equals(otherEvent.details, this.details);
     }
 }
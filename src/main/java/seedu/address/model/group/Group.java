@@ -73,6 +73,17 @@ public class Group {
         }
 
     }
+
+    /**
+     * Replaces the member {@code target} with {@code editedPerson}, e.g. after the person has been edited.
+     * @throws DuplicatePersonException if {@code editedPerson} is equivalent to another member.
+     * @throws PersonNotFoundException if {@code target} is not a member of this group.
+     */
+    public void setPerson(Person target, Person editedPerson)
+            throws DuplicatePersonException, PersonNotFoundException {
+        this.personList.setPerson(target, editedPerson);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -46,6 +46,19 @@ public class UniqueGroupList implements Iterable<Group> {
         internalList.add(groupToAdd);
     }
 
+    /**
+     * Adds a Group to the list at position {@code index}, shifting the Groups from that position onwards.
+     *
+     * @throws DuplicateGroupException if the Group to add is a duplicate of an existing Group in the list.
+     */
+    public void add(int index, Group groupToAdd) throws DuplicateGroupException {
+        requireNonNull(groupToAdd);
+        if (contains(groupToAdd)) {
+            throw new DuplicateGroupException();
+        }
+        internalList.add(index, groupToAdd);
+    }
+
     public void setGroups(UniqueGroupList replacement) {
         this.internalList.setAll(replacement.internalList);
     }
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -47,6 +49,14 @@ public class Email {
         return test.matches(EMAIL_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns this email address in lower case, as email addresses that differ only in case usually reach the
+     * same mailbox.
+     */
+    public String getNormalizedValue() {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
     @Override
     public String toString() {
         return value;
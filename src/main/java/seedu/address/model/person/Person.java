@@ -94,7 +94,8 @@ public class Person {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, link, detail, tags);
+        // tags are left out to stay consistent with equals(Object), which does not compare them
+        return Objects.hash(name, phone, email, address, link, detail);
     }
 
     @Override
@@ -3,8 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -16,6 +18,8 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
  *
  * Supports a minimal set of list operations.
+ * Lookups go through a hash index of each person's position in the list, so duplicate checks
+ * and lookups do not need to scan the whole list.
  *
  * @see Person#equals(Object)
  * @see CollectionUtil#elementsAreUnique(Collection)
@@ -23,13 +27,23 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
 public class UniquePersonList implements Iterable<Person> {
 
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final Map<Person, Integer> positions = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.contains(toCheck);
+        return positions.containsKey(toCheck);
+    }
+
+    /**
+     * Returns the position of the equivalent person in the list, or -1 if there is no such person.
+     */
+    public int indexOf(Person toFind) {
+        requireNonNull(toFind);
+        Integer index = positions.get(toFind);
+        return index == null ? -1 : index;
     }
 
     /**
@@ -42,9 +56,24 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positions.put(toAdd, internalList.size());
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds a person to the list at position {@code index}, shifting the persons from that position onwards.
+     *
+     * @throws DuplicatePersonException if the person to add is a duplicate of an existing person in the list.
+     */
+    public void add(int index, Person toAdd) throws DuplicatePersonException {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.add(index, toAdd);
+        reindexFrom(index);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      *
@@ -55,15 +84,17 @@ public class UniquePersonList implements Iterable<Person> {
             throws DuplicatePersonException, PersonNotFoundException {
         requireNonNull(editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.equals(editedPerson) && internalList.contains(editedPerson)) {
+        if (!target.equals(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
 
+        positions.remove(target);
+        positions.put(editedPerson, index);
         internalList.set(index, editedPerson);
     }
 
@@ -74,15 +105,19 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean remove(Person toRemove) throws PersonNotFoundException {
         requireNonNull(toRemove);
-        final boolean personFoundAndDeleted = internalList.remove(toRemove);
-        if (!personFoundAndDeleted) {
+        final Integer index = positions.remove(toRemove);
+        if (index == null) {
             throw new PersonNotFoundException();
         }
-        return personFoundAndDeleted;
+        internalList.remove((int) index);
+        reindexFrom(index);
+        return true;
     }
 
     public void setPersons(UniquePersonList replacement) {
         this.internalList.setAll(replacement.internalList);
+        this.positions.clear();
+        this.positions.putAll(replacement.positions);
     }
 
     public void setPersons(List<Person> persons) throws DuplicatePersonException {
@@ -94,6 +129,16 @@ public class UniquePersonList implements Iterable<Person> {
         setPersons(replacement);
     }
 
+    /**
+     * Updates the recorded positions of all persons from {@code start} onwards,
+     * after the elements of {@code internalList} have been shifted.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -103,7 +148,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return asObservableList().iterator();
     }
 
     @Override
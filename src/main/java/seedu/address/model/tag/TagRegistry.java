@@ -0,0 +1,185 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * The master list of tags of an address book.
+ *
+ * Every distinct tag is interned once, and the number of persons using it is tracked.
+ * A tag is dropped from the registry once the last person using it releases it.
+ * Tags that are registered directly (e.g. loaded from storage) stay until they are used and released,
+ * or removed explicitly.
+ *
+ * @see Tag#equals(Object)
+ */
+public class TagRegistry implements Iterable<Tag> {
+
+    public static final String MESSAGE_DUPLICATE_TAG = "A tag can only be replaced by a tag that is not registered yet";
+
+    private final ObservableList<Tag> internalList = FXCollections.observableArrayList();
+    private final Map<Tag, Tag> internedTags = new HashMap<>();
+    private final Map<Tag, Integer> usageCounts = new HashMap<>();
+
+    /**
+     * Returns true if the registry contains an equivalent Tag as the given argument.
+     */
+    public boolean contains(Tag toCheck) {
+        requireNonNull(toCheck);
+        return internedTags.containsKey(toCheck);
+    }
+
+    /**
+     * Returns the number of persons currently using an equivalent tag to {@code tag}.
+     */
+    public int getUsageCount(Tag tag) {
+        requireNonNull(tag);
+        return usageCounts.getOrDefault(tag, 0);
+    }
+
+    /**
+     * Registers a Tag that is not used by any person yet.
+     *
+     * @throws UniqueTagList.DuplicateTagException if an equivalent Tag is already registered.
+     */
+    public void add(Tag toAdd) throws UniqueTagList.DuplicateTagException {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new UniqueTagList.DuplicateTagException();
+        }
+        intern(toAdd);
+    }
+
+    /**
+     * Replaces all tags in the registry with {@code tags}, none of which are used by any person yet.
+     */
+    public void setTags(Set<Tag> tags) {
+        requireAllNonNull(tags);
+        internalList.clear();
+        internedTags.clear();
+        usageCounts.clear();
+        tags.forEach(this::intern);
+    }
+
+    /**
+     * Records that a person uses {@code tags}, registering any tag that is not in the registry yet.
+     *
+     * @return the set of registered Tag objects equivalent to {@code tags}.
+     */
+    public Set<Tag> acquire(Set<Tag> tags) {
+        requireAllNonNull(tags);
+        final Set<Tag> internedSet = new HashSet<>();
+        for (Tag tag : tags) {
+            Tag interned = internedTags.get(tag);
+            if (interned == null) {
+                interned = intern(tag);
+            }
+            usageCounts.merge(interned, 1, Integer::sum);
+            internedSet.add(interned);
+        }
+        return internedSet;
+    }
+
+    /**
+     * Records that a person no longer uses {@code tags}.
+     * Tags that are no longer used by any person are dropped from the registry.
+     */
+    public void release(Set<Tag> tags) {
+        requireAllNonNull(tags);
+        for (Tag tag : tags) {
+            Integer count = usageCounts.get(tag);
+            if (count == null) {
+                continue;
+            }
+            if (count > 1) {
+                usageCounts.put(tag, count - 1);
+            } else {
+                remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Replaces the registered Tag equivalent to {@code target} with {@code editedTag},
+     * keeping its usage count.
+     * {@code editedTag} must be equivalent to {@code target} or not registered yet, as the registry cannot tell
+     * how many persons use both tags; an {@code IllegalArgumentException} is thrown otherwise.
+     *
+     * @throws TagNotFoundException if no equivalent tag to {@code target} is registered.
+     */
+    public void replace(Tag target, Tag editedTag) throws TagNotFoundException {
+        requireAllNonNull(target, editedTag);
+        if (!contains(target)) {
+            throw new TagNotFoundException();
+        }
+        checkArgument(editedTag.equals(target) || !contains(editedTag), MESSAGE_DUPLICATE_TAG);
+        final Tag interned = internedTags.remove(target);
+        final int count = getUsageCount(target);
+        usageCounts.remove(target);
+
+        internalList.set(internalList.indexOf(interned), editedTag);
+        internedTags.put(editedTag, editedTag);
+        if (count > 0) {
+            usageCounts.put(editedTag, count);
+        }
+    }
+
+    /**
+     * Removes the equivalent Tag from the registry, regardless of how many persons use it.
+     * Does nothing if no such tag is registered.
+     */
+    public void remove(Tag toRemove) {
+        requireNonNull(toRemove);
+        final Tag interned = internedTags.remove(toRemove);
+        if (interned != null) {
+            usageCounts.remove(toRemove);
+            internalList.remove(interned);
+        }
+    }
+
+    /**
+     * Registers {@code tag} with no users and returns it.
+     */
+    private Tag intern(Tag tag) {
+        internedTags.put(tag, tag);
+        internalList.add(tag);
+        return tag;
+    }
+
+    /**
+     * Returns the registered tags as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Tag> asObservableList() {
+        return FXCollections.unmodifiableObservableList(internalList);
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return asObservableList().iterator();
+    }
+
+    /**
+     * Returns true if both registries hold equivalent tags, in any order.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagRegistry // instanceof handles nulls
+                && this.internedTags.keySet().equals(((TagRegistry) other).internedTags.keySet()));
+    }
+
+    @Override
+    public int hashCode() {
+        return internedTags.keySet().hashCode();
+    }
+}
@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 /**
  * Represents a ToDo's status in the address book.
+ * There are only two possible statuses, available as {@link #DONE} and {@link #UNDONE}.
  * Guarantees: immutable; is valid as declared in {@link #isValidStatus(String)}
  */
 public class Status {
@@ -19,7 +20,14 @@ public class Status {
      */
     public static final String STATUS_VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    public static final String DONE_VALUE = "done";
+    public static final String UNDONE_VALUE = "undone";
+
+    public static final Status DONE = new Status(DONE_VALUE);
+    public static final Status UNDONE = new Status(UNDONE_VALUE);
+
     public final String value;
+    private final boolean isDone;
 
     /**
      * Constructs a {@code Status}.
@@ -29,21 +37,23 @@ public class Status {
     public Status(String status) {
         requireNonNull(status);
         checkArgument(isValidStatus(status), MESSAGE_STATUS_CONSTRAINTS);
-        this.value = status;
+        this.isDone = status.equals(DONE_VALUE);
+        this.value = isDone ? DONE_VALUE : UNDONE_VALUE;
     }
 
     /**
      * Returns true if a given string is a valid to-do status.
      */
     public static boolean isValidStatus(String test) {
-        if (test.matches(STATUS_VALIDATION_REGEX) && (
-                test.equals("done") || test.equals("undone"))) {
-            return true;
-        } else {
-            return false;
-        }
+        return test.equals(DONE_VALUE) || test.equals(UNDONE_VALUE);
     }
 
+    /**
+     * Returns true if this status marks a to-do as done.
+     */
+    public boolean isDone() {
+        return isDone;
+    }
 
     @Override
     public String toString() {
@@ -54,12 +64,12 @@ public class Status {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Status // instanceof handles nulls
-                && this.value.equals(((Status) other).value)); // state check
+                && this.isDone == ((Status) other).isDone); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Boolean.hashCode(isDone);
     }
 
 }
@@ -22,7 +22,7 @@ public class ToDo {
     public ToDo(Content content) {
         requireAllNonNull(content);
         this.content = content;
-        this.status = new Status("undone");
+        this.status = Status.UNDONE;
     }
 
     /**
@@ -24,6 +24,7 @@ import seedu.address.model.todo.exceptions.ToDoNotFoundException;
 public class UniqueToDoList implements Iterable<ToDo> {
 
     private final ObservableList<ToDo> internalList = FXCollections.observableArrayList();
+    private int numberOfDoneToDos = 0;
 
     /**
      * Returns true if the list contains an equivalent to-do as the given argument.
@@ -37,14 +38,21 @@ public class UniqueToDoList implements Iterable<ToDo> {
      * Returns the ratio of done to-dos over the total number of to-dos in the list.
      */
     public double getCompleteRatio() {
-        int numberOfDoneToDos = 0;
-        for (ToDo todo: internalList) {
-            if (todo.getStatus().toString().equals("done")) {
-                numberOfDoneToDos++;
-            }
-        }
-        double completeRatio = ((double) numberOfDoneToDos) / ((double) internalList.size());
-        return completeRatio;
+        return ((double) numberOfDoneToDos) / ((double) internalList.size());
+    }
+
+    /**
+     * Returns the number of to-dos in the list that are done.
+     */
+    public int getNumberOfDoneToDos() {
+        return numberOfDoneToDos;
+    }
+
+    /**
+     * Returns the number of to-dos in the list that are not done yet.
+     */
+    public int getNumberOfUndoneToDos() {
+        return internalList.size() - numberOfDoneToDos;
     }
 
     /**
@@ -58,6 +66,21 @@ public class UniqueToDoList implements Iterable<ToDo> {
             throw new DuplicateToDoException();
         }
         internalList.add(toAdd);
+        numberOfDoneToDos += doneCount(toAdd);
+    }
+
+    /**
+     * Adds a to-do to the list at position {@code index}, shifting the to-dos from that position onwards.
+     *
+     * @throws DuplicateToDoException if the to-do to add is a duplicate of an existing to-do in the list.
+     */
+    public void add(int index, ToDo toAdd) throws DuplicateToDoException {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateToDoException();
+        }
+        internalList.add(index, toAdd);
+        numberOfDoneToDos += doneCount(toAdd);
     }
 
     /**
@@ -79,11 +102,13 @@ public class UniqueToDoList implements Iterable<ToDo> {
             throw new DuplicateToDoException();
         }
 
-        internalList.set(index, editedToDo);
+        ToDo replaced = internalList.set(index, editedToDo);
+        numberOfDoneToDos += doneCount(editedToDo) - doneCount(replaced);
     }
 
     public void setToDos(UniqueToDoList replacement) {
         this.internalList.setAll(replacement.internalList);
+        this.numberOfDoneToDos = replacement.numberOfDoneToDos;
     }
 
     public void setToDos(List<ToDo> todos) throws DuplicateToDoException {
@@ -102,11 +127,19 @@ public class UniqueToDoList implements Iterable<ToDo> {
      */
     public boolean remove(ToDo toRemove) throws ToDoNotFoundException {
         requireNonNull(toRemove);
-        final boolean toDoFoundAndDeleted = internalList.remove(toRemove);
-        if (!toDoFoundAndDeleted) {
+        final int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new ToDoNotFoundException();
         }
-        return toDoFoundAndDeleted;
+        numberOfDoneToDos -= doneCount(internalList.remove(index));
+        return true;
+    }
+
+    /**
+     * Returns 1 if {@code todo} is done, 0 otherwise.
+     */
+    private static int doneCount(ToDo todo) {
+        return todo.getStatus().isDone() ? 1 : 0;
     }
 
     /**
@@ -0,0 +1,154 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.exceptions.InvalidEntitiesException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.todo.ToDo;
+
+/**
+ * Converts the JAXB-friendly entities of an address book to the model, and assembles them into an
+ * {@code AddressBook}.
+ * <p>
+ * Converting an entity validates each of its fields, which is most of the work of reading an address book, and does
+ * not depend on any other entity. The entities are therefore converted in parallel on the common fork/join pool,
+ * and only then added to the address book one at a time, in the order they were read, so that the address book
+ * assembled is the same whatever the number of threads. Every entity is converted even when some are invalid, so
+ * that all the invalid entities are reported at once.
+ */
+public class AddressBookAssembler {
+
+    public static final String MESSAGE_INVALID_ENTITY = "%1$s %2$d: %3$s";
+
+    /** Number of entities below which converting them in parallel costs more than it saves. */
+    private static final int PARALLEL_THRESHOLD = 512;
+
+    /**
+     * Returns the address book made of the given entities, added in the same order as
+     * {@link XmlSerializableAddressBook#toModelType()} always did: tags, persons, to-dos, groups and events.
+     * The members of {@code groups} stored as references are resolved against the persons added.
+     *
+     * @throws InvalidEntitiesException if there were any data constraints violated or duplicates in the entities,
+     *     with one error for each invalid entity.
+     */
+    public static AddressBook assemble(List<XmlAdaptedTag> tags, List<XmlAdaptedPerson> persons,
+            List<XmlAdaptedToDo> toDos, List<XmlAdaptedGroup> groups, List<XmlAdaptedEvent> events)
+            throws InvalidEntitiesException {
+        final List<String> errors = new ArrayList<>();
+        final List<Tag> modelTags = convert("Tag", tags, XmlAdaptedTag::toModelType, errors);
+        final List<Person> modelPersons = convert("Person", persons, XmlAdaptedPerson::toModelType, errors);
+        final List<ToDo> modelToDos = convert("To-do", toDos, XmlAdaptedToDo::toModelType, errors);
+        final List<Event> modelEvents = convert("Event", events, XmlAdaptedEvent::toModelType, errors);
+        throwIfAny(errors);
+
+        final AddressBook addressBook = new AddressBook();
+        add("Tag", modelTags, addressBook::addTag, errors);
+        add("Person", modelPersons, addressBook::addPerson, errors);
+        add("To-do", modelToDos, addressBook::addToDo, errors);
+        // groups can only be resolved against the persons once they are all in the address book
+        throwIfAny(errors);
+
+        final List<Person> personList = new ArrayList<>(addressBook.getPersonList());
+        final List<Group> modelGroups = convert("Group", groups, group -> group.toModelType(personList), errors);
+        throwIfAny(errors);
+        add("Group", modelGroups, addressBook::addGroup, errors);
+        add("Event", modelEvents, addressBook::addEvent, errors);
+        throwIfAny(errors);
+        return addressBook;
+    }
+
+    /**
+     * Converts each of {@code adapted} to the model with {@code converter}, in parallel if there are enough of them.
+     * Returns the entities converted in the order of {@code adapted}, and adds an error to {@code errors} for each
+     * entity that could not be converted.
+     */
+    private static <A, M> List<M> convert(String kind, List<A> adapted, Converter<A, M> converter,
+            List<String> errors) {
+        IntStream indexes = IntStream.range(0, adapted.size());
+        if (adapted.size() >= PARALLEL_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        final List<Conversion<M>> conversions = indexes
+                .mapToObj(index -> Conversion.of(kind, index, adapted.get(index), converter))
+                .collect(Collectors.toList());
+
+        final List<M> converted = new ArrayList<>(conversions.size());
+        for (Conversion<M> conversion : conversions) {
+            if (conversion.error == null) {
+                converted.add(conversion.entity);
+            } else {
+                errors.add(conversion.error);
+            }
+        }
+        return converted;
+    }
+
+    /**
+     * Adds each of {@code entities} in order with {@code adder}, and an error to {@code errors} for each entity that
+     * could not be added.
+     */
+    private static <M> void add(String kind, List<M> entities, Adder<M> adder, List<String> errors) {
+        for (int i = 0; i < entities.size(); i++) {
+            try {
+                adder.add(entities.get(i));
+            } catch (IllegalValueException ive) {
+                errors.add(String.format(MESSAGE_INVALID_ENTITY, kind, i + 1, ive.getMessage()));
+            }
+        }
+    }
+
+    private static void throwIfAny(List<String> errors) throws InvalidEntitiesException {
+        if (!errors.isEmpty()) {
+            throw new InvalidEntitiesException(errors);
+        }
+    }
+
+    /**
+     * Converts a JAXB-friendly entity to the model.
+     */
+    @FunctionalInterface
+    private interface Converter<A, M> {
+        M convert(A adapted) throws IllegalValueException;
+    }
+
+    /**
+     * Adds an entity to the address book.
+     */
+    @FunctionalInterface
+    private interface Adder<M> {
+        void add(M entity) throws IllegalValueException;
+    }
+
+    /**
+     * The outcome of converting one entity: either the entity converted, or the error that prevented it.
+     */
+    private static class Conversion<M> {
+        private final M entity;
+        private final String error;
+
+        private Conversion(M entity, String error) {
+            this.entity = entity;
+            this.error = error;
+        }
+
+        /**
+         * Converts {@code adapted}, the entity of the given {@code kind} at {@code index}, with {@code converter}.
+         */
+        static <A, M> Conversion<M> of(String kind, int index, A adapted, Converter<A, M> converter) {
+            try {
+                return new Conversion<>(converter.convert(adapted), null);
+            } catch (IllegalValueException ive) {
+                return new Conversion<>(null,
+                        String.format(MESSAGE_INVALID_ENTITY, kind, index + 1, ive.getMessage()));
+            }
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.transform.stream.StreamSource;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta.Change;
+
+/**
+ * An append-only journal of the changes made to the address book since its data file was last written, kept in a
+ * file next to the data file.
+ * <p>
+ * The journal starts with a header holding the checksum of the data file it follows, followed by one record for
+ * each change, so that saving a change only costs writing the change. Replaying the journal onto the address book
+ * read from the data file gives the address book as it was last saved. A journal following another version of the
+ * data file, as left behind if the app stopped between writing the data file and starting a new journal, is
+ * ignored, and replay stops at the first record that is not complete, as left behind if the app stopped while
+ * appending it.
+ */
+public class AddressBookJournal {
+
+    /** Size in bytes past which the journal should be folded into a new data file. */
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 256 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final String HEADER_PREFIX = "addressbook-journal 1 ";
+    private static final int MAX_LENGTH_DIGITS = 10;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final File dataFile;
+    private final File journalFile;
+    private boolean isStarted = false;
+
+    /**
+     * Creates a journal following the data file at {@code dataFilePath}.
+     */
+    public AddressBookJournal(String dataFilePath) {
+        requireNonNull(dataFilePath);
+        this.dataFile = new File(dataFilePath);
+        this.journalFile = new File(dataFilePath + JOURNAL_FILE_SUFFIX);
+    }
+
+    public String getJournalFilePath() {
+        return journalFile.getPath();
+    }
+
+    /**
+     * Returns true if changes can be appended to the journal, that is, if it follows the data file as it is now.
+     */
+    public synchronized boolean isStarted() {
+        return isStarted;
+    }
+
+    /**
+     * Returns the size in bytes of the journal file, or 0 if there is none.
+     */
+    public synchronized long size() {
+        return journalFile.length();
+    }
+
+    /**
+     * Makes the changes in the journal to {@code addressBook}, which must have been read from the data file, and
+     * returns the number of changes made. A journal that does not follow the data file, or cannot be read, is not
+     * replayed. Changes can be appended to the journal afterwards only if it was replayed in full; otherwise the
+     * journal must be started again once the data file is written.
+     */
+    public synchronized int replay(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        isStarted = false;
+        final String checksum;
+        try {
+            checksum = checksumOf(dataFile);
+        } catch (IOException e) {
+            logger.warning("Cannot read " + dataFile + ", not replaying its journal: " + e);
+            return 0;
+        }
+        if (!journalFile.exists()) {
+            startQuietly(checksum);
+            return 0;
+        }
+
+        int replayed = 0;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(journalFile.toPath()), BUFFER_SIZE)) {
+            if (!(HEADER_PREFIX + checksum).equals(readLine(in))) {
+                logger.info("Journal " + journalFile + " does not follow " + dataFile + ", ignoring it");
+                startQuietly(checksum);
+                return 0;
+            }
+            byte[] record;
+            while ((record = readRecord(in)) != null) {
+                toChange(record).applyTo(addressBook);
+                replayed++;
+            }
+            isStarted = true;
+        } catch (EOFException e) {
+            logger.warning("Journal " + journalFile + " ends in an incomplete change, replayed " + replayed);
+        } catch (IOException | JAXBException | IllegalValueException e) {
+            logger.warning("Journal " + journalFile + " cannot be replayed past change " + replayed + ": " + e);
+        }
+        logger.info("Replayed " + replayed + " change(s) from " + journalFile);
+        return replayed;
+    }
+
+    /**
+     * Appends {@code changes} to the journal, in order. The journal must have been started.
+     *
+     * @throws IOException if the changes cannot be written, in which case the journal is no longer started.
+     */
+    public synchronized void append(List<Change<?>> changes) throws IOException {
+        requireNonNull(changes);
+        assert isStarted : "Changes must follow the data file they are made to";
+        final ByteArrayOutputStream records = new ByteArrayOutputStream();
+        try {
+            final Marshaller marshaller = XmlUtil.getContext(XmlAdaptedChange.class).createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+            marshaller.setProperty(Marshaller.JAXB_ENCODING, StandardCharsets.UTF_8.name());
+            final ByteArrayOutputStream record = new ByteArrayOutputStream();
+            for (Change<?> change : changes) {
+                record.reset();
+                marshaller.marshal(new XmlAdaptedChange(change), record);
+                records.write((record.size() + "\n").getBytes(StandardCharsets.US_ASCII));
+                record.writeTo(records);
+                records.write('\n');
+            }
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage());
+        }
+
+        try (OutputStream out = Files.newOutputStream(journalFile.toPath(), StandardOpenOption.APPEND)) {
+            records.writeTo(out);
+        } catch (IOException e) {
+            isStarted = false;
+            throw e;
+        }
+    }
+
+    /**
+     * Starts a new, empty journal following the data file as it is now, discarding the changes in the journal.
+     * To be called whenever the data file is written.
+     *
+     * @throws IOException if the journal cannot be written, in which case it is not started.
+     */
+    public synchronized void start() throws IOException {
+        isStarted = false;
+        writeHeader(checksumOf(dataFile));
+        isStarted = true;
+    }
+
+    /**
+     * Starts a new journal following the data file with checksum {@code checksum}, leaving the journal not started
+     * if it cannot be written.
+     */
+    private void startQuietly(String checksum) {
+        try {
+            writeHeader(checksum);
+            isStarted = true;
+        } catch (IOException e) {
+            logger.warning("Failed to start journal " + journalFile + ": " + e);
+        }
+    }
+
+    /**
+     * Replaces the journal file with one holding only the header for a data file with checksum {@code checksum}.
+     */
+    private void writeHeader(String checksum) throws IOException {
+        FileUtil.createIfMissing(journalFile);
+        Files.write(journalFile.toPath(), (HEADER_PREFIX + checksum + "\n").getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Returns the checksum of the content of {@code file}.
+     *
+     * @throws FileNotFoundException if the file does not exist.
+     * @throws IOException if the file cannot be read.
+     */
+    private static String checksumOf(File file) throws IOException {
+        final CRC32 crc = new CRC32();
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException(file.getPath());
+        }
+        return file.length() + "-" + Long.toHexString(crc.getValue());
+    }
+
+    /**
+     * Returns the next record in {@code in}, or null if there are no more records.
+     *
+     * @throws EOFException if the record is not complete.
+     * @throws IOException if the record is not in the correct format.
+     */
+    private static byte[] readRecord(InputStream in) throws IOException {
+        final String lengthLine = readLine(in);
+        if (lengthLine == null) {
+            return null;
+        }
+        if (lengthLine.isEmpty() || lengthLine.length() > MAX_LENGTH_DIGITS || !lengthLine.matches("\\d+")) {
+            throw new IOException("Invalid record length " + lengthLine);
+        }
+        final long length = Long.parseLong(lengthLine);
+        if (length > Integer.MAX_VALUE - 1) {
+            throw new IOException("Invalid record length " + lengthLine);
+        }
+        final byte[] record = new byte[(int) length];
+        int offset = 0;
+        while (offset < record.length) {
+            final int read = in.read(record, offset, record.length - offset);
+            if (read == -1) {
+                throw new EOFException();
+            }
+            offset += read;
+        }
+        final int terminator = in.read();
+        if (terminator == -1) {
+            throw new EOFException();
+        }
+        if (terminator != '\n') {
+            throw new IOException("Record not terminated");
+        }
+        return record;
+    }
+
+    /**
+     * Returns the next line of ASCII text in {@code in} without its terminator, or null if {@code in} has ended.
+     *
+     * @throws EOFException if the line is not terminated.
+     */
+    private static String readLine(InputStream in) throws IOException {
+        final StringBuilder line = new StringBuilder();
+        int read = in.read();
+        if (read == -1) {
+            return null;
+        }
+        while (read != '\n') {
+            if (read == -1) {
+                throw new EOFException();
+            }
+            line.append((char) read);
+            read = in.read();
+        }
+        return line.toString();
+    }
+
+    /**
+     * Returns the change recorded in {@code record}.
+     */
+    private static XmlAdaptedChange toChange(byte[] record) throws JAXBException {
+        final Unmarshaller unmarshaller = XmlUtil.getContext(XmlAdaptedChange.class).createUnmarshaller();
+        return unmarshaller.unmarshal(new StreamSource(new ByteArrayInputStream(record)),
+                XmlAdaptedChange.class).getValue();
+    }
+}
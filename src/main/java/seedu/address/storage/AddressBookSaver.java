@@ -0,0 +1,192 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.AddressBookDelta.Change;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves the address book on a background thread, so that the thread making a change does not wait for the file
+ * to be written.
+ * <p>
+ * Each save is of an immutable snapshot of the address book taken when the save is asked for. Saves asked for
+ * while an earlier one is being written are coalesced: only the latest snapshot waiting is written once the
+ * thread is free, as it includes every earlier change.
+ * <p>
+ * With a journal, only the changes made since the last save are written, by appending them to the journal. The
+ * snapshot is written in full, and a new journal started, only when the journal cannot be appended to, when the
+ * whole address book was replaced, or when the journal has grown past its compaction threshold.
+ */
+public class AddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaver.class);
+    private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 30;
+
+    private final AddressBookStorage storage;
+    private final AddressBookJournal journal;
+    private final long compactionThreshold;
+    private final Consumer<Exception> failureHandler;
+    private final ThreadPoolExecutor executor;
+
+    private ReadOnlyAddressBook pending = null;
+    private final List<Change<?>> pendingChanges = new ArrayList<>();
+    private boolean isFullSavePending = false;
+    private boolean isSaving = false;
+    private long saveCount = 0;
+
+    /**
+     * Creates a saver writing to {@code storage}, and giving the reason a save failed to {@code failureHandler}
+     * on the background thread. Every save writes the address book in full.
+     */
+    public AddressBookSaver(AddressBookStorage storage, Consumer<Exception> failureHandler) {
+        this(storage, null, 0, failureHandler);
+    }
+
+    /**
+     * Creates a saver writing to {@code storage} and appending changes to {@code journal}, which follows the data
+     * file of {@code storage}, until the journal reaches {@code compactionThreshold} bytes.
+     */
+    public AddressBookSaver(AddressBookStorage storage, AddressBookJournal journal, long compactionThreshold,
+            Consumer<Exception> failureHandler) {
+        this.storage = requireNonNull(storage);
+        this.journal = journal;
+        this.compactionThreshold = compactionThreshold;
+        this.failureHandler = requireNonNull(failureHandler);
+        this.executor = new ThreadPoolExecutor(1, 1, IDLE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), AddressBookSaver::newSaverThread);
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Returns a new thread to save on, which does not keep the app running.
+     */
+    private static Thread newSaverThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Saves a snapshot of {@code addressBook} in full on the background thread, in place of any snapshot still
+     * waiting to be saved.
+     */
+    public synchronized void save(ReadOnlyAddressBook addressBook) {
+        save(addressBook, AddressBookDelta.reset());
+    }
+
+    /**
+     * Saves a snapshot of {@code addressBook}, which was changed by {@code delta} since the last save, on the
+     * background thread, in place of any snapshot still waiting to be saved.
+     */
+    public synchronized void save(ReadOnlyAddressBook addressBook, AddressBookDelta delta) {
+        requireNonNull(addressBook);
+        requireNonNull(delta);
+        if (delta.isReset()) {
+            isFullSavePending = true;
+            pendingChanges.clear();
+        } else if (!isFullSavePending) {
+            pendingChanges.addAll(delta.getChanges());
+        }
+        if (pending != null) {
+            logger.fine("Address book saved again before the last save started, skipping the last save");
+        }
+        pending = AddressBookSnapshot.of(addressBook);
+        if (!isSaving) {
+            isSaving = true;
+            executor.execute(this::saveAllPending);
+        }
+    }
+
+    /**
+     * Waits for the saves asked for so far to be written. Returns early if the calling thread is interrupted.
+     */
+    public synchronized void flush() {
+        try {
+            while (isSaving) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the number of snapshots written or failed so far.
+     */
+    public synchronized long getSaveCount() {
+        return saveCount;
+    }
+
+    /**
+     * Writes the snapshot waiting to be saved until there is none left.
+     */
+    private void saveAllPending() {
+        while (true) {
+            final ReadOnlyAddressBook snapshot;
+            final List<Change<?>> changes;
+            final boolean isFullSave;
+            synchronized (this) {
+                snapshot = pending;
+                pending = null;
+                if (snapshot == null) {
+                    isSaving = false;
+                    notifyAll();
+                    return;
+                }
+                changes = new ArrayList<>(pendingChanges);
+                pendingChanges.clear();
+                isFullSave = isFullSavePending;
+                isFullSavePending = false;
+            }
+            try {
+                write(snapshot, changes, isFullSave);
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to save address book: " + e);
+                synchronized (this) {
+                    isFullSavePending = true;
+                    pendingChanges.clear();
+                }
+                failureHandler.accept(e);
+            } finally {
+                synchronized (this) {
+                    saveCount++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Appends {@code changes} to the journal if possible, or else writes {@code snapshot} in full and starts a new
+     * journal. The journal is folded into a full write of {@code snapshot} once it reaches the compaction threshold.
+     */
+    private void write(ReadOnlyAddressBook snapshot, List<Change<?>> changes, boolean isFullSave)
+            throws IOException {
+        if (journal != null && !isFullSave && journal.isStarted()) {
+            try {
+                journal.append(changes);
+                if (journal.size() < compactionThreshold) {
+                    return;
+                }
+                logger.info("Journal reached " + journal.size() + " bytes, compacting it into the data file");
+            } catch (IOException e) {
+                logger.warning("Failed to append to journal, saving address book in full: " + e);
+            }
+        }
+        storage.saveAddressBook(snapshot);
+        if (journal != null) {
+            journal.start();
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.todo.ToDo;
+
+/**
+ * Reads and writes the address book in a compact, versioned binary format.
+ * <p>
+ * The file starts with {@link #MAGIC} and {@link #VERSION}, followed by a table of every distinct string in the
+ * address book, each stored once as its length and UTF-8 bytes. Tags are then stored once in a table of references
+ * to their name and color, the first entries of which form the tag list of the address book. Persons, to-dos,
+ * groups and events follow, their fields stored as references to the string table, the tags of a person as
+ * references to the tag table and the members of a group as positions in the person list, or in full if they are
+ * not in it. The file ends with the CRC-32 of everything before it.
+ * <p>
+ * Entities read are converted to the model through the same JAXB-friendly classes as the XML file, so that a file
+ * read gives the same address book, or fails on the same data constraints, whatever its format.
+ */
+public class BinaryAddressBookCodec {
+
+    public static final int MAGIC = 0x46535442; // "FSTB"
+    public static final int VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_ADDRESS_BOOK = "Not an address book in binary format";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported address book format version %1$d";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Address book file is corrupted";
+    public static final String MESSAGE_INVALID_REFERENCE = "Reference %1$d is not in the %2$s table";
+
+    private static final int NO_REFERENCE = -1;
+    private static final int READ_CHUNK_SIZE = 8 * 1024;
+
+    //// writing
+
+    /**
+     * Writes {@code addressBook} to {@code out} in binary, without closing {@code out}.
+     *
+     * @throws IOException if {@code out} cannot be written to.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(out);
+        final StringTable strings = new StringTable();
+        final Map<List<String>, Integer> tagIds = new LinkedHashMap<>();
+        for (Tag tag : addressBook.getTagList()) {
+            addTag(tag, strings, tagIds);
+        }
+        final int addressBookTags = tagIds.size();
+        final List<Person> persons = addressBook.getPersonList();
+        final Map<Person, Integer> personIndexes = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            addPerson(persons.get(i), strings, tagIds);
+            personIndexes.put(persons.get(i), i);
+        }
+        for (ToDo toDo : addressBook.getToDoList()) {
+            strings.add(toDo.getContent().value);
+            strings.add(toDo.getStatus().value);
+        }
+        for (Group group : addressBook.getGroupList()) {
+            strings.add(group.getInformation().value);
+            for (Person member : group.getPersonList()) {
+                if (!personIndexes.containsKey(member)) {
+                    addPerson(member, strings, tagIds);
+                }
+            }
+        }
+        for (Event event : addressBook.getEventList()) {
+            strings.add(event.getName());
+            strings.add(event.getVenue());
+            strings.add(event.getDate());
+            strings.add(event.getStartTime());
+            strings.add(event.getEndTime());
+        }
+
+        final CheckedOutputStream checkedOut = new CheckedOutputStream(out, new CRC32());
+        final DataOutputStream data = new DataOutputStream(checkedOut);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        strings.writeTo(data);
+        data.writeInt(tagIds.size());
+        data.writeInt(addressBookTags);
+        for (List<String> tag : tagIds.keySet()) {
+            data.writeInt(strings.referenceTo(tag.get(0)));
+            data.writeInt(strings.referenceTo(tag.get(1)));
+        }
+        data.writeInt(persons.size());
+        for (Person person : persons) {
+            writePerson(data, person, strings, tagIds);
+        }
+        data.writeInt(addressBook.getToDoList().size());
+        for (ToDo toDo : addressBook.getToDoList()) {
+            data.writeInt(strings.referenceTo(toDo.getContent().value));
+            data.writeInt(strings.referenceTo(toDo.getStatus().value));
+        }
+        data.writeInt(addressBook.getGroupList().size());
+        for (Group group : addressBook.getGroupList()) {
+            writeGroup(data, group, personIndexes, strings, tagIds);
+        }
+        data.writeInt(addressBook.getEventList().size());
+        for (Event event : addressBook.getEventList()) {
+            data.writeInt(strings.referenceTo(event.getName()));
+            data.writeInt(strings.referenceTo(event.getVenue()));
+            data.writeInt(strings.referenceTo(event.getDate()));
+            data.writeInt(strings.referenceTo(event.getStartTime()));
+            data.writeInt(strings.referenceTo(event.getEndTime()));
+        }
+        data.flush();
+        new DataOutputStream(out).writeInt((int) checkedOut.getChecksum().getValue());
+        out.flush();
+    }
+
+    /**
+     * Adds the name and color of {@code tag} to {@code strings}, and {@code tag} to {@code tagIds} if it is not
+     * there yet. Tags are told apart by their color as well as their name, so that no color is lost.
+     */
+    private static void addTag(Tag tag, StringTable strings, Map<List<String>, Integer> tagIds) {
+        strings.add(tag.name);
+        strings.add(tag.color);
+        tagIds.putIfAbsent(tagKey(tag), tagIds.size());
+    }
+
+    /**
+     * Adds the fields and tags of {@code person} to {@code strings} and {@code tagIds}.
+     */
+    private static void addPerson(Person person, StringTable strings, Map<List<String>, Integer> tagIds) {
+        strings.add(person.getName().fullName);
+        strings.add(person.getPhone().value);
+        strings.add(person.getEmail().value);
+        strings.add(person.getAddress().value);
+        strings.add(person.getTimeTableLink().value);
+        strings.add(person.getDetail().detail);
+        for (Tag tag : person.getTags()) {
+            addTag(tag, strings, tagIds);
+        }
+    }
+
+    private static List<String> tagKey(Tag tag) {
+        return Arrays.asList(tag.name, tag.color);
+    }
+
+    /**
+     * Writes the fields of {@code person} as references to {@code strings}, and its tags as references to
+     * {@code tagIds}.
+     */
+    private static void writePerson(DataOutputStream data, Person person, StringTable strings,
+            Map<List<String>, Integer> tagIds) throws IOException {
+        data.writeInt(strings.referenceTo(person.getName().fullName));
+        data.writeInt(strings.referenceTo(person.getPhone().value));
+        data.writeInt(strings.referenceTo(person.getEmail().value));
+        data.writeInt(strings.referenceTo(person.getAddress().value));
+        data.writeInt(strings.referenceTo(person.getTimeTableLink().value));
+        data.writeInt(strings.referenceTo(person.getDetail().detail));
+        data.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            data.writeInt(tagIds.get(tagKey(tag)));
+        }
+    }
+
+    /**
+     * Writes {@code group}, its members found in {@code personIndexes} as their position in the person list and
+     * any other member in full.
+     */
+    private static void writeGroup(DataOutputStream data, Group group, Map<Person, Integer> personIndexes,
+            StringTable strings, Map<List<String>, Integer> tagIds) throws IOException {
+        data.writeInt(strings.referenceTo(group.getInformation().value));
+        final List<Person> members = new ArrayList<>();
+        for (Person member : group.getPersonList()) {
+            members.add(member);
+        }
+        data.writeInt(members.size());
+        for (Person member : members) {
+            final Integer index = personIndexes.get(member);
+            if (index == null) {
+                data.writeInt(NO_REFERENCE);
+                writePerson(data, member, strings, tagIds);
+            } else {
+                data.writeInt(index);
+            }
+        }
+    }
+
+    //// reading
+
+    /**
+     * Reads the address book in binary from {@code in}, without closing {@code in}.
+     *
+     * @throws StreamCorruptedException if {@code in} is not an address book in binary, of a version that can be
+     *     read, or its checksum does not match its content.
+     * @throws java.io.EOFException if {@code in} ends before the end of the address book.
+     * @throws IOException if {@code in} cannot be read from.
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the address book.
+     */
+    public static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        requireNonNull(in);
+        final CheckedInputStream checkedIn = new CheckedInputStream(in, new CRC32());
+        final DataInputStream data = new DataInputStream(checkedIn);
+        if (data.readInt() != MAGIC) {
+            throw new StreamCorruptedException(MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+        }
+        final int version = data.readInt();
+        if (version != VERSION) {
+            throw new StreamCorruptedException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        final List<String> strings = new ArrayList<>();
+        for (int i = readCount(data); i > 0; i--) {
+            strings.add(readUtf8(data, readCount(data)));
+        }
+        final List<XmlAdaptedTag> tags = new ArrayList<>();
+        final int tagCount = readCount(data);
+        final int addressBookTags = readCount(data);
+        if (addressBookTags > tagCount) {
+            throw new StreamCorruptedException(String.format(MESSAGE_INVALID_REFERENCE, addressBookTags, "tag"));
+        }
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new XmlAdaptedTag(readString(data, strings), readString(data, strings)));
+        }
+        final List<XmlAdaptedPerson> persons = new ArrayList<>();
+        for (int i = readCount(data); i > 0; i--) {
+            persons.add(readPerson(data, strings, tags));
+        }
+        final List<XmlAdaptedToDo> toDos = new ArrayList<>();
+        for (int i = readCount(data); i > 0; i--) {
+            toDos.add(new XmlAdaptedToDo(readString(data, strings), readString(data, strings)));
+        }
+        final List<XmlAdaptedGroup> groups = new ArrayList<>();
+        for (int i = readCount(data); i > 0; i--) {
+            groups.add(readGroup(data, strings, tags));
+        }
+        final List<XmlAdaptedEvent> events = new ArrayList<>();
+        for (int i = readCount(data); i > 0; i--) {
+            events.add(new XmlAdaptedEvent(readString(data, strings), readString(data, strings),
+                    readString(data, strings), readString(data, strings), readString(data, strings)));
+        }
+        final int expectedChecksum = (int) checkedIn.getChecksum().getValue();
+        if (data.readInt() != expectedChecksum) {
+            throw new StreamCorruptedException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+
+        return AddressBookAssembler.assemble(tags.subList(0, addressBookTags), persons, toDos, groups, events);
+    }
+
+    /**
+     * Reads a person whose fields are references to {@code strings} and tags references to {@code tags}.
+     */
+    private static XmlAdaptedPerson readPerson(DataInputStream data, List<String> strings, List<XmlAdaptedTag> tags)
+            throws IOException {
+        final String name = readString(data, strings);
+        final String phone = readString(data, strings);
+        final String email = readString(data, strings);
+        final String address = readString(data, strings);
+        final String link = readString(data, strings);
+        final String detail = readString(data, strings);
+        final List<XmlAdaptedTag> tagged = new ArrayList<>();
+        for (int i = readCount(data); i > 0; i--) {
+            final int tagId = data.readInt();
+            if (tagId < 0 || tagId >= tags.size()) {
+                throw new StreamCorruptedException(String.format(MESSAGE_INVALID_REFERENCE, tagId, "tag"));
+            }
+            tagged.add(tags.get(tagId));
+        }
+        return new XmlAdaptedPerson(name, phone, email, address, link, detail, tagged);
+    }
+
+    /**
+     * Reads a group, its members being either positions in the person list or persons stored in full.
+     */
+    private static XmlAdaptedGroup readGroup(DataInputStream data, List<String> strings, List<XmlAdaptedTag> tags)
+            throws IOException {
+        final String information = readString(data, strings);
+        final List<XmlAdaptedPerson> personList = new ArrayList<>();
+        final List<Integer> memberIndexes = new ArrayList<>();
+        for (int i = readCount(data); i > 0; i--) {
+            final int index = data.readInt();
+            if (index == NO_REFERENCE) {
+                personList.add(readPerson(data, strings, tags));
+            } else {
+                memberIndexes.add(index);
+            }
+        }
+        return new XmlAdaptedGroup(information, personList, memberIndexes);
+    }
+
+    /**
+     * Reads a reference to {@code strings} and returns the string it refers to.
+     */
+    private static String readString(DataInputStream data, List<String> strings) throws IOException {
+        final int reference = data.readInt();
+        if (reference < 0 || reference >= strings.size()) {
+            throw new StreamCorruptedException(String.format(MESSAGE_INVALID_REFERENCE, reference, "string"));
+        }
+        return strings.get(reference);
+    }
+
+    /**
+     * Reads a string of {@code length} UTF-8 bytes. The bytes are read a chunk at a time, so that a corrupted
+     * length runs into the end of the file rather than out of memory.
+     */
+    private static String readUtf8(DataInputStream data, int length) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.min(length, READ_CHUNK_SIZE));
+        final byte[] chunk = new byte[Math.min(length, READ_CHUNK_SIZE)];
+        for (int remaining = length; remaining > 0; remaining -= chunk.length) {
+            final int chunkLength = Math.min(remaining, chunk.length);
+            data.readFully(chunk, 0, chunkLength);
+            bytes.write(chunk, 0, chunkLength);
+        }
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a count or length, which cannot be negative.
+     */
+    private static int readCount(DataInputStream data) throws IOException {
+        final int count = data.readInt();
+        if (count < 0) {
+            throw new StreamCorruptedException(MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+        }
+        return count;
+    }
+
+    /**
+     * The distinct strings of an address book, each given the position it was first added at.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> references = new LinkedHashMap<>();
+
+        void add(String string) {
+            requireNonNull(string);
+            references.putIfAbsent(string, references.size());
+        }
+
+        int referenceTo(String string) {
+            return references.get(string);
+        }
+
+        /**
+         * Writes every string, in the order they were added, as its length followed by its UTF-8 bytes.
+         */
+        void writeTo(DataOutputStream data) throws IOException {
+            data.writeInt(references.size());
+            for (String string : references.keySet()) {
+                final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                data.writeInt(bytes.length);
+                data.write(bytes);
+            }
+        }
+    }
+}
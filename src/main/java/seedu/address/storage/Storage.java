@@ -4,6 +4,8 @@ import java.io.IOException;
 import java.util.Optional;
 
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.storage.AddressBookFormatChangeRequestEvent;
+import seedu.address.commons.events.storage.AddressBookFormatChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -30,9 +32,22 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
     /**
-     * Saves the current version of the Address Book to the hard disk.
+     * Waits for the changes to the Address Book handled so far to be saved to the hard disk.
+     */
+    void flush();
+
+    /**
+     * Saves the current version of the Address Book to the hard disk in the background.
      *   Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleAddressBookChangedEvent(AddressBookChangedEvent abce);
+
+    /**
+     * Saves the Address Book in the requested format next to the current data file, and stores it in that format
+     * from now on. The data file in the previous format is left as it is.
+     * Raises {@link AddressBookFormatChangedEvent} once the Address Book is stored in the requested format, or
+     * records the error on {@code event} if there was an error during saving.
+     */
+    void handleAddressBookFormatChangeRequestEvent(AddressBookFormatChangeRequestEvent event);
 }
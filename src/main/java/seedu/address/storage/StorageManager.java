@@ -6,29 +6,60 @@ import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.storage.AddressBookFormatChangeRequestEvent;
+import seedu.address.commons.events.storage.AddressBookFormatChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.events.ui.CalendarChangedEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * Changes to the address book are saved on a background thread by an {@link AddressBookSaver}, which appends them
+ * to an {@link AddressBookJournal} next to the data file, and the journal is replayed when the data file is read.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private AddressBookJournal addressBookJournal;
+    private AddressBookSaver addressBookSaver;
 
 
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
         super();
-        this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        useAddressBookStorage(addressBookStorage);
+    }
+
+    /**
+     * Returns the storage of the address book at {@code filePath}, stored in {@code format}.
+     */
+    public static AddressBookStorage createAddressBookStorage(AddressBookFormat format, String filePath) {
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        default:
+            return new XmlAddressBookStorage(filePath);
+        }
+    }
+
+    /**
+     * Stores the address book in {@code addressBookStorage} from now on, along with the journal next to it.
+     */
+    private void useAddressBookStorage(AddressBookStorage addressBookStorage) {
+        this.addressBookStorage = addressBookStorage;
+        this.addressBookJournal = new AddressBookJournal(addressBookStorage.getAddressBookFilePath());
+        this.addressBookSaver = new AddressBookSaver(addressBookStorage, addressBookJournal,
+            AddressBookJournal.DEFAULT_COMPACTION_THRESHOLD,
+            exception -> raise(new DataSavingExceptionEvent(exception)));
     }
 
     // ================ UserPrefs methods ==============================
@@ -63,8 +94,16 @@ public class StorageManager extends ComponentManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws DataConversionException, IOException {
+        flush();
         logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        Optional<ReadOnlyAddressBook> addressBook = addressBookStorage.readAddressBook(filePath);
+        if (!addressBook.isPresent() || !filePath.equals(addressBookStorage.getAddressBookFilePath())) {
+            return addressBook;
+        }
+        AddressBook journaled = addressBook.get() instanceof AddressBook
+                ? (AddressBook) addressBook.get() : new AddressBook(addressBook.get());
+        addressBookJournal.replay(journaled);
+        return Optional.of(journaled);
     }
 
     //@@author LeonidAgarth
@@ -88,8 +127,12 @@ public class StorageManager extends ComponentManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        flush();
         logger.fine("Attempting to write to data file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (filePath.equals(addressBookStorage.getAddressBookFilePath())) {
+            addressBookJournal.start();
+        }
     }
 
     //@@author LeonidAgarth
@@ -104,16 +147,41 @@ public class StorageManager extends ComponentManager implements Storage {
     }
 
     //@@author
+    @Override
+    public void flush() {
+        addressBookSaver.flush();
+    }
+
     @Override
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        raise(new CalendarChangedEvent());
+        addressBookSaver.save(event.data, event.delta);
+    }
+
+    @Override
+    @Subscribe
+    public void handleAddressBookFormatChangeRequestEvent(AddressBookFormatChangeRequestEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Saving data file in another format"));
+        AddressBookStorage formatStorage = createAddressBookStorage(event.format,
+                event.format.toFilePath(addressBookStorage.getAddressBookFilePath()));
+        try {
+            flush();
+            formatStorage.saveAddressBook(event.data);
+        } catch (IOException e) {
+            logger.warning("Failed to save " + formatStorage.getAddressBookFilePath() + ": " + e.getMessage());
+            event.setFailure(e);
+            return;
+        }
+        useAddressBookStorage(formatStorage);
         try {
-            saveAddressBook(event.data);
-            raise(new CalendarChangedEvent());
+            addressBookJournal.start();
         } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
+            logger.warning("Failed to start the journal of " + formatStorage.getAddressBookFilePath() + ": "
+                    + e.getMessage());
         }
+        raise(new AddressBookFormatChangedEvent(formatStorage.getAddressBookFilePath(), event.format));
     }
 
 }
@@ -0,0 +1,181 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElements;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta.Change;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.exceptions.EventNotFoundException;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.exceptions.GroupNotFoundException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.todo.ToDo;
+import seedu.address.model.todo.exceptions.ToDoNotFoundException;
+
+/**
+ * JAXB-friendly version of a change to one entity of the address book, as recorded in the address book journal.
+ * An addition keeps the entity added, a removal the entity removed, and an update the entity before and after.
+ */
+@XmlRootElement(name = "change")
+public class XmlAdaptedChange {
+
+    public static final String MESSAGE_INVALID_CHANGE = "Change of kind %1$s with %2$d entities is not valid!";
+    public static final String MESSAGE_CONFLICTING_CHANGE = "Change of kind %1$s to %2$s cannot be applied!";
+
+    private static final String KIND_ADDED = "added";
+    private static final String KIND_REMOVED = "removed";
+    private static final String KIND_UPDATED = "updated";
+
+    @XmlAttribute(required = true)
+    private String kind;
+
+    @XmlAttribute
+    private Integer index;
+
+    @XmlElements({
+        @XmlElement(name = "person", type = XmlAdaptedPerson.class),
+        @XmlElement(name = "todo", type = XmlAdaptedToDo.class),
+        @XmlElement(name = "group", type = XmlAdaptedGroup.class),
+        @XmlElement(name = "event", type = XmlAdaptedEvent.class)
+    })
+    private List<Object> entities = new ArrayList<>();
+
+    /**
+     * Constructs an XmlAdaptedChange.
+     * This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlAdaptedChange() {}
+
+    /**
+     * Converts a given change into this class for JAXB use.
+     * The change must be to a person, to-do, group or event.
+     */
+    public XmlAdaptedChange(Change<?> source) {
+        assert !source.isReset() : "A change replacing the whole address book is saved as a new data file";
+        if (source.isAddition()) {
+            kind = KIND_ADDED;
+            entities.add(adapt(source.getAfter()));
+        } else if (source.isRemoval()) {
+            kind = KIND_REMOVED;
+            entities.add(adapt(source.getBefore()));
+        } else {
+            kind = KIND_UPDATED;
+            entities.add(adapt(source.getBefore()));
+            entities.add(adapt(source.getAfter()));
+        }
+        if (source.getIndex() >= 0) {
+            index = source.getIndex();
+        }
+    }
+
+    /**
+     * Returns the JAXB-friendly version of {@code entity}.
+     */
+    private static Object adapt(Object entity) {
+        if (entity instanceof Person) {
+            return new XmlAdaptedPerson((Person) entity);
+        } else if (entity instanceof ToDo) {
+            return new XmlAdaptedToDo((ToDo) entity);
+        } else if (entity instanceof Group) {
+            return new XmlAdaptedGroup((Group) entity);
+        } else if (entity instanceof Event) {
+            return new XmlAdaptedEvent((Event) entity);
+        }
+        throw new AssertionError("Unknown type of entity: " + entity.getClass());
+    }
+
+    /**
+     * Makes this change to {@code addressBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change, or if the
+     *     change conflicts with the data in {@code addressBook}.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        final int expectedEntities = KIND_UPDATED.equals(kind) ? 2 : 1;
+        if (!(KIND_ADDED.equals(kind) || KIND_REMOVED.equals(kind) || KIND_UPDATED.equals(kind))
+                || entities.size() != expectedEntities
+                || entities.get(0).getClass() != entities.get(expectedEntities - 1).getClass()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CHANGE, kind, entities.size()));
+        }
+        final Object entity = entities.get(0);
+        try {
+            if (entity instanceof XmlAdaptedPerson) {
+                applyToPersons(addressBook);
+            } else if (entity instanceof XmlAdaptedToDo) {
+                applyToToDos(addressBook);
+            } else if (entity instanceof XmlAdaptedGroup) {
+                applyToGroups(addressBook);
+            } else {
+                applyToEvents(addressBook);
+            }
+        } catch (PersonNotFoundException | ToDoNotFoundException | GroupNotFoundException
+                | EventNotFoundException | IndexOutOfBoundsException e) {
+            throw new IllegalValueException(String.format(MESSAGE_CONFLICTING_CHANGE, kind,
+                    entity.getClass().getSimpleName()));
+        }
+    }
+
+    /**
+     * Makes this change, which is to a person, to {@code addressBook}.
+     */
+    private void applyToPersons(AddressBook addressBook) throws IllegalValueException, PersonNotFoundException {
+        final Person first = ((XmlAdaptedPerson) entities.get(0)).toModelType();
+        if (KIND_ADDED.equals(kind)) {
+            addressBook.addPerson(index == null ? addressBook.getPersonList().size() : index, first);
+        } else if (KIND_REMOVED.equals(kind)) {
+            addressBook.removePerson(first);
+        } else {
+            addressBook.updatePerson(first, ((XmlAdaptedPerson) entities.get(1)).toModelType());
+        }
+    }
+
+    /**
+     * Makes this change, which is to a to-do, to {@code addressBook}.
+     */
+    private void applyToToDos(AddressBook addressBook) throws IllegalValueException, ToDoNotFoundException {
+        final ToDo first = ((XmlAdaptedToDo) entities.get(0)).toModelType();
+        if (KIND_ADDED.equals(kind)) {
+            addressBook.addToDo(index == null ? addressBook.getToDoList().size() : index, first);
+        } else if (KIND_REMOVED.equals(kind)) {
+            addressBook.removeToDo(first);
+        } else {
+            addressBook.updateToDo(first, ((XmlAdaptedToDo) entities.get(1)).toModelType());
+        }
+    }
+
+    /**
+     * Makes this change, which is to a group, to {@code addressBook}.
+     */
+    private void applyToGroups(AddressBook addressBook) throws IllegalValueException, GroupNotFoundException {
+        final Group first = ((XmlAdaptedGroup) entities.get(0)).toModelType();
+        if (KIND_ADDED.equals(kind)) {
+            addressBook.addGroup(index == null ? addressBook.getGroupList().size() : index, first);
+        } else if (KIND_REMOVED.equals(kind)) {
+            addressBook.removeGroup(first);
+        } else {
+            addressBook.updateGroup(first, ((XmlAdaptedGroup) entities.get(1)).toModelType());
+        }
+    }
+
+    /**
+     * Makes this change, which is to an event, to {@code addressBook}.
+     */
+    private void applyToEvents(AddressBook addressBook) throws IllegalValueException, EventNotFoundException {
+        final Event first = ((XmlAdaptedEvent) entities.get(0)).toModelType();
+        if (KIND_ADDED.equals(kind)) {
+            addressBook.addEvent(first);
+        } else if (KIND_REMOVED.equals(kind)) {
+            addressBook.removeEvent(first);
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CHANGE, kind, entities.size()));
+        }
+    }
+}
@@ -2,7 +2,9 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import javax.xml.bind.annotation.XmlElement;
@@ -19,6 +21,7 @@ import seedu.address.model.person.UniquePersonList;
 public class XmlAdaptedGroup {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Group's %s field is missing!";
+    public static final String INVALID_MEMBER_MESSAGE_FORMAT = "Group's member %d does not refer to any person!";
 
     @XmlElement(required = true)
     private String information;
@@ -26,6 +29,10 @@ public class XmlAdaptedGroup {
     @XmlElement(required = true)
     private List<XmlAdaptedPerson> personList = new ArrayList<>();
 
+    /** Members stored as positions in the address book's person list. */
+    @XmlElement(name = "member")
+    private List<Integer> memberIndexes = new ArrayList<>();
+
     /**
      * Constructs an XmlAdaptedGroup.
      * This is the no-arg constructor that is required by JAXB.
@@ -41,25 +48,63 @@ public class XmlAdaptedGroup {
         this.personList = new ArrayList<>();
     }
 
+    /**
+     * Constructs an {@code XmlAdaptedGroup} with the given group details, {@code memberIndexes} being the
+     * positions in the person list of the members not stored in full in {@code personList}.
+     */
+    public XmlAdaptedGroup(String information, List<XmlAdaptedPerson> personList, List<Integer> memberIndexes) {
+        this.information = information;
+        this.personList = new ArrayList<>(personList);
+        this.memberIndexes = new ArrayList<>(memberIndexes);
+    }
+
     /**
      * Converts a given Group into this class for JAXB use.
      *
      * @param source future changes to this will not affect the created XmlAdaptedGroup
      */
     public XmlAdaptedGroup(Group source) {
+        this(source, Collections.emptyMap());
+    }
+
+    /**
+     * Converts a given Group into this class for JAXB use.
+     * Members found in {@code personIndexes} are stored as references to their position in the person list,
+     * any other member is stored in full.
+     *
+     * @param source future changes to this will not affect the created XmlAdaptedGroup
+     * @param personIndexes positions of the persons in the person list that is saved alongside this group
+     */
+    public XmlAdaptedGroup(Group source, Map<Person, Integer> personIndexes) {
         information = source.getInformation().value;
         UniquePersonList persons = source.getPersonList();
         for (Person person : persons) {
-            personList.add(new XmlAdaptedPerson(person));
+            Integer index = personIndexes.get(person);
+            if (index == null) {
+                personList.add(new XmlAdaptedPerson(person));
+            } else {
+                memberIndexes.add(index);
+            }
         }
     }
 
     /**
      * Converts this jaxb-friendly adapted group object into the model's Group object.
+     * The group must not contain any member stored as a reference.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted group
      */
     public Group toModelType() throws IllegalValueException {
+        return toModelType(Collections.emptyList());
+    }
+
+    /**
+     * Converts this jaxb-friendly adapted group object into the model's Group object,
+     * resolving members stored as references against {@code persons}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted group
+     */
+    public Group toModelType(List<Person> persons) throws IllegalValueException {
         if (this.information == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Information.class.getSimpleName()));
@@ -69,6 +114,12 @@ public class XmlAdaptedGroup {
         }
         final Information information = new Information(this.information);
         final UniquePersonList uniquePersonList = new UniquePersonList();
+        for (Integer memberIndex : memberIndexes) {
+            if (memberIndex == null || memberIndex < 0 || memberIndex >= persons.size()) {
+                throw new IllegalValueException(String.format(INVALID_MEMBER_MESSAGE_FORMAT, memberIndex));
+            }
+            uniquePersonList.add(persons.get(memberIndex));
+        }
         for (XmlAdaptedPerson adaptedPerson : personList) {
             Person personToAdd = adaptedPerson.toModelType();
             uniquePersonList.add(personToAdd);
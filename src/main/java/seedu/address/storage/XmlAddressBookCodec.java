@@ -0,0 +1,482 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.todo.ToDo;
+
+/**
+ * Reads and writes the address book XML file a piece at a time with StAX, in the format of
+ * {@link XmlSerializableAddressBook}.
+ * <p>
+ * Entities are written straight from the model, so that writing does not build a copy of the whole address book in
+ * JAXB-friendly objects. Entities read are converted to the model together by {@link AddressBookAssembler}. The
+ * file written is byte for byte the one JAXB writes for the same address book, and a file read gives the same
+ * address book, or fails on the same kinds of errors, as when read by JAXB.
+ */
+public class XmlAddressBookCodec {
+
+    public static final String MESSAGE_UNEXPECTED_ROOT = "Expected an <addressbook> element but found <%1$s>";
+
+    private static final String DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    private static final String INDENT = "    ";
+    private static final String CARRIAGE_RETURN_REFERENCE = "#13";
+
+    private static final XMLInputFactory inputFactory = newInputFactory();
+    private static final XMLOutputFactory outputFactory = XMLOutputFactory.newInstance();
+
+    /**
+     * Returns a factory of readers that do not resolve external entities, as JAXB does not either.
+     */
+    private static XMLInputFactory newInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        return factory;
+    }
+
+    //// writing
+
+    /**
+     * Writes {@code addressBook} to {@code out} in XML, without closing {@code out}.
+     *
+     * @throws IOException if {@code out} cannot be written to.
+     */
+    public static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(out);
+        out.write(DECLARATION.getBytes(StandardCharsets.UTF_8));
+        try {
+            final XMLStreamWriter writer = outputFactory.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+            if (isEmpty(addressBook)) {
+                writer.writeEmptyElement("addressbook");
+            } else {
+                writer.writeStartElement("addressbook");
+                writeEntities(writer, addressBook);
+                writer.writeCharacters("\n");
+                writer.writeEndElement();
+            }
+            writer.writeCharacters("\n");
+            writer.flush();
+            writer.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Returns true if {@code addressBook} has no entities, which JAXB writes as an empty root element.
+     */
+    private static boolean isEmpty(ReadOnlyAddressBook addressBook) {
+        return addressBook.getPersonList().isEmpty() && addressBook.getTagList().isEmpty()
+                && addressBook.getToDoList().isEmpty() && addressBook.getGroupList().isEmpty()
+                && addressBook.getEventList().isEmpty();
+    }
+
+    /**
+     * Writes every entity of {@code addressBook}, in the order of the fields of {@link XmlSerializableAddressBook}.
+     */
+    private static void writeEntities(XMLStreamWriter writer, ReadOnlyAddressBook addressBook)
+            throws XMLStreamException {
+        final List<Person> persons = addressBook.getPersonList();
+        final Map<Person, Integer> personIndexes = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            writePerson(writer, "persons", 1, persons.get(i));
+            personIndexes.put(persons.get(i), i);
+        }
+        for (Tag tag : addressBook.getTagList()) {
+            writeTag(writer, "tags", 1, tag);
+        }
+        for (ToDo toDo : addressBook.getToDoList()) {
+            writeStartElement(writer, "todos", 1);
+            writeTextElement(writer, "content", 2, toDo.getContent().value);
+            writeTextElement(writer, "status", 2, toDo.getStatus().value);
+            writeEndElement(writer, 1);
+        }
+        for (Group group : addressBook.getGroupList()) {
+            writeGroup(writer, group, personIndexes);
+        }
+        for (Event event : addressBook.getEventList()) {
+            writeStartElement(writer, "events", 1);
+            writeTextElement(writer, "name", 2, event.getName());
+            writeTextElement(writer, "venue", 2, event.getVenue());
+            writeTextElement(writer, "date", 2, event.getDate());
+            writeTextElement(writer, "startTime", 2, event.getStartTime());
+            writeTextElement(writer, "endTime", 2, event.getEndTime());
+            writeEndElement(writer, 1);
+        }
+    }
+
+    /**
+     * Writes {@code person} as an element named {@code elementName}, indented {@code depth} levels.
+     */
+    private static void writePerson(XMLStreamWriter writer, String elementName, int depth, Person person)
+            throws XMLStreamException {
+        writeStartElement(writer, elementName, depth);
+        writeTextElement(writer, "name", depth + 1, person.getName().fullName);
+        writeTextElement(writer, "phone", depth + 1, person.getPhone().value);
+        writeTextElement(writer, "email", depth + 1, person.getEmail().value);
+        writeTextElement(writer, "address", depth + 1, person.getAddress().value);
+        writeTextElement(writer, "link", depth + 1, person.getTimeTableLink().value);
+        writeTextElement(writer, "detail", depth + 1, person.getDetail().detail);
+        for (Tag tag : person.getTags()) {
+            writeTag(writer, "tagged", depth + 1, tag);
+        }
+        writeEndElement(writer, depth);
+    }
+
+    /**
+     * Writes {@code tag} as an element named {@code elementName}, indented {@code depth} levels.
+     */
+    private static void writeTag(XMLStreamWriter writer, String elementName, int depth, Tag tag)
+            throws XMLStreamException {
+        writeStartElement(writer, elementName, depth);
+        writeTextElement(writer, "name", depth + 1, tag.name);
+        writeTextElement(writer, "color", depth + 1, tag.color);
+        writeEndElement(writer, depth);
+    }
+
+    /**
+     * Writes {@code group}, its members found in {@code personIndexes} as references to their position in the
+     * person list and any other member in full, as {@link XmlAdaptedGroup} does.
+     */
+    private static void writeGroup(XMLStreamWriter writer, Group group, Map<Person, Integer> personIndexes)
+            throws XMLStreamException {
+        writeStartElement(writer, "groups", 1);
+        writeTextElement(writer, "information", 2, group.getInformation().value);
+        final List<Integer> memberIndexes = new ArrayList<>();
+        for (Person member : group.getPersonList()) {
+            final Integer index = personIndexes.get(member);
+            if (index == null) {
+                writePerson(writer, "personList", 2, member);
+            } else {
+                memberIndexes.add(index);
+            }
+        }
+        for (Integer index : memberIndexes) {
+            writeTextElement(writer, "member", 2, index.toString());
+        }
+        writeEndElement(writer, 1);
+    }
+
+    /**
+     * Writes the start of an element on a new line indented {@code depth} levels.
+     */
+    private static void writeStartElement(XMLStreamWriter writer, String name, int depth)
+            throws XMLStreamException {
+        writeIndent(writer, depth);
+        writer.writeStartElement(name);
+    }
+
+    /**
+     * Writes the end of the current element on a new line indented {@code depth} levels.
+     */
+    private static void writeEndElement(XMLStreamWriter writer, int depth) throws XMLStreamException {
+        writeIndent(writer, depth);
+        writer.writeEndElement();
+    }
+
+    /**
+     * Writes an element holding only {@code text}, or nothing if {@code text} is null, as JAXB leaves out fields
+     * that are null.
+     */
+    private static void writeTextElement(XMLStreamWriter writer, String name, int depth, String text)
+            throws XMLStreamException {
+        if (text == null) {
+            return;
+        }
+        writeIndent(writer, depth);
+        writer.writeStartElement(name);
+        writeText(writer, text);
+        writer.writeEndElement();
+    }
+
+    /**
+     * Writes {@code text}, escaping carriage returns as character references like JAXB does, so that they are not
+     * read back as line feeds.
+     */
+    private static void writeText(XMLStreamWriter writer, String text) throws XMLStreamException {
+        int start = 0;
+        int carriageReturn;
+        while ((carriageReturn = text.indexOf('\r', start)) != -1) {
+            writer.writeCharacters(text.substring(start, carriageReturn));
+            writer.writeEntityRef(CARRIAGE_RETURN_REFERENCE);
+            start = carriageReturn + 1;
+        }
+        writer.writeCharacters(text.substring(start));
+    }
+
+    /**
+     * Writes a line break followed by the indentation of an element {@code depth} levels deep.
+     */
+    private static void writeIndent(XMLStreamWriter writer, int depth) throws XMLStreamException {
+        final StringBuilder indent = new StringBuilder("\n");
+        for (int i = 0; i < depth; i++) {
+            indent.append(INDENT);
+        }
+        writer.writeCharacters(indent.toString());
+    }
+
+    //// reading
+
+    /**
+     * Reads the address book in XML from {@code in}, without closing {@code in}.
+     *
+     * @throws XMLStreamException if {@code in} is not an address book in XML.
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the address book.
+     */
+    public static AddressBook read(InputStream in) throws XMLStreamException, IllegalValueException {
+        requireNonNull(in);
+        final XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+        try {
+            if (!nextChildElement(reader)) {
+                throw new XMLStreamException("No root element", reader.getLocation());
+            }
+            if (!"addressbook".equals(reader.getLocalName())) {
+                throw new XMLStreamException(String.format(MESSAGE_UNEXPECTED_ROOT, reader.getLocalName()),
+                        reader.getLocation());
+            }
+            return readAddressBook(reader);
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Reads the children of the {@code <addressbook>} element {@code reader} is at, and assembles the entities read
+     * into an address book in the same order as {@link XmlSerializableAddressBook#toModelType()} does, whatever
+     * their order in the file.
+     */
+    private static AddressBook readAddressBook(XMLStreamReader reader)
+            throws XMLStreamException, IllegalValueException {
+        final List<XmlAdaptedPerson> persons = new ArrayList<>();
+        final List<XmlAdaptedTag> tags = new ArrayList<>();
+        final List<XmlAdaptedToDo> toDos = new ArrayList<>();
+        final List<XmlAdaptedGroup> groups = new ArrayList<>();
+        final List<XmlAdaptedEvent> events = new ArrayList<>();
+        while (nextChildElement(reader)) {
+            switch (reader.getLocalName()) {
+            case "persons":
+                persons.add(readPerson(reader));
+                break;
+            case "tags":
+                tags.add(readTag(reader));
+                break;
+            case "todos":
+                toDos.add(readToDo(reader));
+                break;
+            case "groups":
+                groups.add(readGroup(reader));
+                break;
+            case "events":
+                events.add(readEvent(reader));
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return AddressBookAssembler.assemble(tags, persons, toDos, groups, events);
+    }
+
+    /**
+     * Reads the person {@code reader} is at the start of.
+     */
+    private static XmlAdaptedPerson readPerson(XMLStreamReader reader) throws XMLStreamException {
+        String name = null;
+        String phone = null;
+        String email = null;
+        String address = null;
+        String link = null;
+        String detail = null;
+        final List<XmlAdaptedTag> tagged = new ArrayList<>();
+        while (nextChildElement(reader)) {
+            switch (reader.getLocalName()) {
+            case "name":
+                name = reader.getElementText();
+                break;
+            case "phone":
+                phone = reader.getElementText();
+                break;
+            case "email":
+                email = reader.getElementText();
+                break;
+            case "address":
+                address = reader.getElementText();
+                break;
+            case "link":
+                link = reader.getElementText();
+                break;
+            case "detail":
+                detail = reader.getElementText();
+                break;
+            case "tagged":
+                tagged.add(readTag(reader));
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedPerson(name, phone, email, address, link, detail, tagged);
+    }
+
+    /**
+     * Reads the tag {@code reader} is at the start of.
+     */
+    private static XmlAdaptedTag readTag(XMLStreamReader reader) throws XMLStreamException {
+        String name = null;
+        String color = null;
+        while (nextChildElement(reader)) {
+            switch (reader.getLocalName()) {
+            case "name":
+                name = reader.getElementText();
+                break;
+            case "color":
+                color = reader.getElementText();
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedTag(name, color);
+    }
+
+    /**
+     * Reads the to-do {@code reader} is at the start of.
+     */
+    private static XmlAdaptedToDo readToDo(XMLStreamReader reader) throws XMLStreamException {
+        String content = null;
+        String status = null;
+        while (nextChildElement(reader)) {
+            switch (reader.getLocalName()) {
+            case "content":
+                content = reader.getElementText();
+                break;
+            case "status":
+                status = reader.getElementText();
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedToDo(content, status);
+    }
+
+    /**
+     * Reads the group {@code reader} is at the start of.
+     */
+    private static XmlAdaptedGroup readGroup(XMLStreamReader reader) throws XMLStreamException {
+        String information = null;
+        final List<XmlAdaptedPerson> personList = new ArrayList<>();
+        final List<Integer> memberIndexes = new ArrayList<>();
+        while (nextChildElement(reader)) {
+            switch (reader.getLocalName()) {
+            case "information":
+                information = reader.getElementText();
+                break;
+            case "personList":
+                personList.add(readPerson(reader));
+                break;
+            case "member":
+                memberIndexes.add(parseIndex(reader.getElementText()));
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedGroup(information, personList, memberIndexes);
+    }
+
+    /**
+     * Reads the event {@code reader} is at the start of.
+     */
+    private static XmlAdaptedEvent readEvent(XMLStreamReader reader) throws XMLStreamException {
+        String name = null;
+        String venue = null;
+        String date = null;
+        String startTime = null;
+        String endTime = null;
+        while (nextChildElement(reader)) {
+            switch (reader.getLocalName()) {
+            case "name":
+                name = reader.getElementText();
+                break;
+            case "venue":
+                venue = reader.getElementText();
+                break;
+            case "date":
+                date = reader.getElementText();
+                break;
+            case "startTime":
+                startTime = reader.getElementText();
+                break;
+            case "endTime":
+                endTime = reader.getElementText();
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedEvent(name, venue, date, startTime, endTime);
+    }
+
+    /**
+     * Returns the position in the person list in {@code text}, or null if it is not a number, as JAXB does.
+     */
+    private static Integer parseIndex(String text) {
+        try {
+            return Integer.valueOf(text.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Moves {@code reader} to the start of the next child of the current element, skipping any text, comments and
+     * processing instructions. Returns true if there is such a child, or false if {@code reader} reached the end of
+     * the current element instead.
+     */
+    private static boolean nextChildElement(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves {@code reader} past the end of the element it is at the start of, skipping all of its content.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        while (nextChildElement(reader)) {
+            skipElement(reader);
+        }
+    }
+}
@@ -1,17 +1,45 @@
 package seedu.address.storage;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 
 import javax.xml.bind.JAXBException;
+import javax.xml.stream.XMLStreamException;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
 
 /**
- * Stores addressbook data in an XML file
+ * Stores addressbook data in an XML file.
+ * The address book itself is streamed with {@link XmlAddressBookCodec}; the JAXB-friendly
+ * {@link XmlSerializableAddressBook} can still be saved and loaded through JAXB.
  */
 public class XmlFileStorage {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Saves the given addressbook to the specified file, streaming it straight from the model.
+     */
+    public static void saveDataToFile(File file, ReadOnlyAddressBook addressBook) throws IOException {
+        if (!file.exists()) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE)) {
+            XmlAddressBookCodec.write(addressBook, out);
+        }
+    }
+
     /**
      * Saves the given addressbook data to the specified file.
      */
@@ -24,6 +52,24 @@ public class XmlFileStorage {
         }
     }
 
+    /**
+     * Returns the address book in the file, converting each entity to the model as it is read.
+     *
+     * @throws DataConversionException if the file is not an address book in XML.
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
+     */
+    public static AddressBook loadAddressBookFromSaveFile(File file) throws DataConversionException,
+            IllegalValueException, IOException {
+        if (!file.exists()) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE)) {
+            return XmlAddressBookCodec.read(in);
+        } catch (XMLStreamException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
     /**
      * Returns address book in the file or an empty address book
      */
@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import javax.xml.bind.annotation.XmlElement;
@@ -10,6 +12,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * An Immutable AddressBook that is serializable to XML format
@@ -48,34 +51,25 @@ public class XmlSerializableAddressBook {
         persons.addAll(src.getPersonList().stream().map(XmlAdaptedPerson::new).collect(Collectors.toList()));
         tags.addAll(src.getTagList().stream().map(XmlAdaptedTag::new).collect(Collectors.toList()));
         todos.addAll(src.getToDoList().stream().map(XmlAdaptedToDo::new).collect(Collectors.toList()));
-        groups.addAll(src.getGroupList().stream().map(XmlAdaptedGroup::new).collect(Collectors.toList()));
+        final Map<Person, Integer> personIndexes = new HashMap<>();
+        final List<Person> personList = src.getPersonList();
+        for (int i = 0; i < personList.size(); i++) {
+            personIndexes.put(personList.get(i), i);
+        }
+        groups.addAll(src.getGroupList().stream()
+                .map(group -> new XmlAdaptedGroup(group, personIndexes)).collect(Collectors.toList()));
         events.addAll(src.getEventList().stream().map(XmlAdaptedEvent::new).collect(Collectors.toList()));
     }
 
     /**
-     * Converts this addressbook into the model's {@code AddressBook} object.
+     * Converts this addressbook into the model's {@code AddressBook} object, converting its entities in parallel.
      *
      * @throws IllegalValueException if there were any data constraints violated or duplicates in the
-     * {@code XmlAdaptedPerson} or {@code XmlAdaptedTag}.
+     * {@code XmlAdaptedPerson} or {@code XmlAdaptedTag}, with one error for each of them.
+     * @see AddressBookAssembler
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (XmlAdaptedTag t : tags) {
-            addressBook.addTag(t.toModelType());
-        }
-        for (XmlAdaptedPerson p : persons) {
-            addressBook.addPerson(p.toModelType());
-        }
-        for (XmlAdaptedToDo todo : todos) {
-            addressBook.addToDo(todo.toModelType());
-        }
-        for (XmlAdaptedGroup group : groups) {
-            addressBook.addGroup(group.toModelType());
-        }
-        for (XmlAdaptedEvent event : events) {
-            addressBook.addEvent(event.toModelType());
-        }
-        return addressBook;
+        return AddressBookAssembler.assemble(tags, persons, todos, groups, events);
     }
 
     @Override
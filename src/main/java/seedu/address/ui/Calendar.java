@@ -4,9 +4,10 @@ package seedu.address.ui;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
@@ -34,21 +35,24 @@ public class Calendar extends UiPart<Region> {
     private VBox calendarView;
     private Text calendarHeader;
     private YearMonth currentYearMonth;
-    private ObservableList<Event> events;
+    private Function<LocalDate, List<Event>> eventsOnDate;
 
     @FXML
     private ListView<CalendarDate> calendarListView;
 
     private final Logger logger = LogsCenter.getLogger(this.getClass());
 
-    public Calendar(ObservableList<Event> eventList) {
-        this(YearMonth.now(), eventList);
+    /**
+     * Creates a calendar of the current month, looking up the events of each visible day with {@code eventsOnDate}.
+     */
+    public Calendar(Function<LocalDate, List<Event>> eventsOnDate) {
+        this(YearMonth.now(), eventsOnDate);
     }
 
-    public Calendar(YearMonth yearMonth, ObservableList<Event> eventList) {
+    public Calendar(YearMonth yearMonth, Function<LocalDate, List<Event>> eventsOnDate) {
         super(FXML);
         currentYearMonth = yearMonth;
-        events = eventList;
+        this.eventsOnDate = eventsOnDate;
         initCalendar();
 
         registerAsAnEventHandler(this);
@@ -130,20 +134,15 @@ public class Calendar extends UiPart<Region> {
     }
 
     /**
-     * Show all events in eventList onto Calendar
+     * Show the events of each day of the current month onto Calendar.
+     * The days of the previous and next months visible around it are left empty.
      */
     private void showEvents() {
-        for (Event e : events) {
-            String[] dayMonthYear = e.getDate().split("/");
-            int day = Integer.parseInt(dayMonthYear[0]);
-            int month = Integer.parseInt(dayMonthYear[1]);
-            int year = Integer.parseInt(dayMonthYear[2]);
-            if (month != currentYearMonth.getMonthValue() || year != currentYearMonth.getYear()) {
-                continue;
+        for (int day = 1; day <= currentYearMonth.lengthOfMonth(); day++) {
+            LocalDate date = currentYearMonth.atDay(day);
+            for (Event e : eventsOnDate.apply(date)) {
+                getDateNode(date).setEventText(e.getName());
             }
-            LocalDate date = LocalDate.of(year, month, day);
-            CalendarDate node = getDateNode(date);
-            node.setEventText(e.getName());
         }
     }
 
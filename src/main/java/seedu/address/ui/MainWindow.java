@@ -143,7 +143,7 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        calendar = new Calendar(logic.getFilteredEventList());
+        calendar = new Calendar(logic::getFilteredEventsOn);
         timetable = new Timetable();
         calendarPlaceholder.getChildren().add(calendar.getCalendarView());
 
@@ -192,7 +192,7 @@ public class MainWindow extends UiPart<Stage> {
      */
     void redisplayCalendar() {
         calendarPlaceholder.getChildren().clear();
-        calendar = new Calendar(logic.getFilteredEventList());
+        calendar = new Calendar(logic::getFilteredEventsOn);
         calendarPlaceholder.getChildren().add(calendar.getCalendarView());
     }
 
@@ -59,6 +59,11 @@ public class ResultDisplay extends UiPart<Region> {
     @Subscribe
     private void handlePersonPanelSelectionChangedEvent(PersonPanelSelectionChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        if (!DatabaseManager.isReady()) {
+            raise(new NewResultAvailableEvent(DatabaseManager.MESSAGE_LOADING, false));
+            raise(new TimetableChangedEvent());
+            return;
+        }
         Person selected = event.getNewSelection().person;
         ArrayList<WeeklyEvent> eventList = DatabaseManager.getInstance().parseEvents(selected.getTimeTableLink());
         raise(new TimetableChangedEvent(FXCollections.observableArrayList(eventList)));
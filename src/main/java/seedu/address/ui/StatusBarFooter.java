@@ -12,7 +12,10 @@ import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.database.ModuleDatabaseLoadingEvent;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.storage.AddressBookFormatChangedEvent;
+import seedu.address.database.DatabaseManager;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -43,6 +46,8 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private StatusBar totalPersonsStatus;
     @FXML
+    private StatusBar moduleDatabaseStatus;
+    @FXML
     private StatusBar saveLocationStatus;
 
     public StatusBarFooter(String saveLocation, int totalPersons) {
@@ -51,6 +56,7 @@ public class StatusBarFooter extends UiPart<Region> {
         setSaveLocation("./" + saveLocation);
         setTotalPersons(totalPersons);
         registerAsAnEventHandler(this);
+        setModuleDatabaseStatus(DatabaseManager.getLoadingStatus());
     }
 
     /**
@@ -79,6 +85,16 @@ public class StatusBarFooter extends UiPart<Region> {
         Platform.runLater(() -> this.totalPersonsStatus.setText(String.format(TOTAL_PERSONS_STATUS, totalPersons)));
     }
 
+    private void setModuleDatabaseStatus(String status) {
+        Platform.runLater(() -> this.moduleDatabaseStatus.setText(status));
+    }
+
+    @Subscribe
+    public void handleModuleDatabaseLoadingEvent(ModuleDatabaseLoadingEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        setModuleDatabaseStatus(event.status);
+    }
+
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent abce) {
         long now = clock.millis();
@@ -87,4 +103,10 @@ public class StatusBarFooter extends UiPart<Region> {
         setSyncStatus(String.format(SYNC_STATUS_UPDATED, lastUpdated));
         setTotalPersons(abce.data.getPersonList().size());
     }
+
+    @Subscribe
+    public void handleAddressBookFormatChangedEvent(AddressBookFormatChangedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        setSaveLocation("./" + event.filePath);
+    }
 }
@@ -34,7 +34,7 @@ public class ToDoCard extends UiPart<Region> {
     }
 
     public boolean isDone() {
-        return toDo.getStatus().value.equals("done");
+        return toDo.getStatus().isDone();
     }
 
     @Override
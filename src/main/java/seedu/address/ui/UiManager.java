@@ -20,6 +20,7 @@ import seedu.address.commons.events.ui.TimetableChangedEvent;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.todo.ToDo;
 
 /**
  * The manager of the UI component.
@@ -116,14 +117,17 @@ public class UiManager extends ComponentManager implements Ui {
 
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
-        mainWindow.updateProgressIndicator();
+        if (event.delta.affects(ToDo.class)) {
+            mainWindow.updateProgressIndicator();
+        }
     }
 
     @Subscribe
     private void handleAddressBookChangedEvent(DataSavingExceptionEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        showFileOperationAlertAndWait(FILE_OPS_ERROR_DIALOG_HEADER_MESSAGE, FILE_OPS_ERROR_DIALOG_CONTENT_MESSAGE,
-                event.exception);
+        // the address book is saved in the background, so the event may come from another thread
+        Platform.runLater(() -> showFileOperationAlertAndWait(FILE_OPS_ERROR_DIALOG_HEADER_MESSAGE,
+                FILE_OPS_ERROR_DIALOG_CONTENT_MESSAGE, event.exception));
     }
 
     //@@author LeonidAgarth
@@ -12,10 +12,12 @@ public class StatusBarFooterHandle extends NodeHandle<Node> {
 
     private static final String SYNC_STATUS_ID = "#syncStatus";
     private static final String TOTAL_PERSONS_STATUS_ID = "#totalPersonsStatus";
+    private static final String MODULE_DATABASE_STATUS_ID = "#moduleDatabaseStatus";
     private static final String SAVE_LOCATION_STATUS_ID = "#saveLocationStatus";
 
     private final StatusBar syncStatusNode;
     private final StatusBar totalPersonsStatusNode;
+    private final StatusBar moduleDatabaseStatusNode;
     private final StatusBar saveLocationNode;
 
     private String lastRememberedSyncStatus;
@@ -27,6 +29,7 @@ public class StatusBarFooterHandle extends NodeHandle<Node> {
 
         this.syncStatusNode = getChildNode(SYNC_STATUS_ID);
         this.totalPersonsStatusNode = getChildNode(TOTAL_PERSONS_STATUS_ID);
+        this.moduleDatabaseStatusNode = getChildNode(MODULE_DATABASE_STATUS_ID);
         this.saveLocationNode = getChildNode(SAVE_LOCATION_STATUS_ID);
     }
 
@@ -45,6 +48,14 @@ public class StatusBarFooterHandle extends NodeHandle<Node> {
         return totalPersonsStatusNode.getText();
     }
     //@@author
+
+    /**
+     * Returns the text of the module database portion of the status bar.
+     */
+    public String getModuleDatabaseStatus() {
+        return moduleDatabaseStatusNode.getText();
+    }
+
     /**
      * Returns the text of the 'save location' portion of the status bar.
      */
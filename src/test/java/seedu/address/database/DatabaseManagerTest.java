@@ -1,8 +1,13 @@
 package seedu.address.database;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -11,6 +16,7 @@ import seedu.address.database.module.Module;
 import seedu.address.database.module.Schedule;
 import seedu.address.model.event.WeeklyEvent;
 import seedu.address.model.person.TimeTableLink;
+import seedu.address.testutil.StubShortLinkServer;
 
 
 //@@author Isaaaca
@@ -18,6 +24,12 @@ public class DatabaseManagerTest {
 
     private DatabaseManager test = DatabaseManager.getInstance();
 
+    @Test
+    public void loadInBackground_loaded_completedWithInstance() throws Exception {
+        assertSame(test, DatabaseManager.loadInBackground().get(10, TimeUnit.SECONDS));
+        assertTrue(DatabaseManager.isReady());
+    }
+
     @Test
     public void getQuery() {
         String actual = DatabaseManager.getQuery(new TimeTableLink("http://modsn.us/MYwiD"));
@@ -54,6 +66,17 @@ public class DatabaseManagerTest {
         Assert.assertArrayEquals(expected.toArray(), actual.toArray());
     }
 
+    @Test
+    public void parseLongUrl_everyLessonType_lessonsOfRequestedClasses() throws Exception {
+        Schedule tut2 = new Schedule("2", "Tutorial Type 2", "Every Week", "Monday", "1000", "1100", "S16");
+        Schedule tut3 = new Schedule("2", "Tutorial Type 3", "Every Week", "Tuesday", "1000", "1100", "S16");
+        Schedule otherTut3 = new Schedule("3", "Tutorial Type 3", "Every Week", "Friday", "1000", "1100", "S16");
+        Module module = new Module("MA1101R", "Linear Algebra I",
+                new ArrayList<>(Arrays.asList(tut2, tut3, otherTut3)));
+        ModuleSnapshot modules = ModuleSnapshot.of(Collections.singletonList(module), 0, 0);
 
-
+        ArrayList<WeeklyEvent> actual = DatabaseManager.parseLongUrl(
+                StubShortLinkServer.getCurrentSemesterUrl("MA1101R=TUT3:2,TUT2:2,XYZ:2,TUT3"), modules);
+        assertEquals(Arrays.asList(new WeeklyEvent(module, tut3), new WeeklyEvent(module, tut2)), actual);
+    }
 }
@@ -0,0 +1,134 @@
+package seedu.address.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.database.ModuleDatabaseDownloader.Outcome;
+import seedu.address.testutil.StubModuleDatabaseServer;
+
+public class ModuleDatabaseDownloaderTest {
+
+    private static final String CONTENT = "[{\"ModuleCode\":\"CS2103T\"}]";
+    private static final String NEW_CONTENT = "[{\"ModuleCode\":\"CS2103T\"},{\"ModuleCode\":\"MA1521\"}]";
+    private static final long LAST_MODIFIED = 1500000000000L;
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private StubModuleDatabaseServer server;
+    private ModuleDatabaseDownloader downloader;
+    private File file;
+    private ModuleDatabaseMetadata metadata;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new StubModuleDatabaseServer();
+        server.setContent(CONTENT, "\"v1\"", LAST_MODIFIED);
+        downloader = new ModuleDatabaseDownloader(server.getUrl(), 2000);
+        file = new File(testFolder.getRoot(), "modules.json");
+        metadata = new ModuleDatabaseMetadata();
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void download_missingFile_downloaded() throws IOException {
+        assertEquals(Outcome.UPDATED, downloader.download(file, metadata));
+
+        assertEquals(CONTENT, FileUtil.readFromFile(file));
+        assertEquals("\"v1\"", metadata.getEtag());
+        assertEquals(LAST_MODIFIED, metadata.getLastModified());
+        assertEquals(ModuleDatabaseDownloader.checksumOf(file), metadata.getChecksum());
+    }
+
+    @Test
+    public void download_notModified_nothingDownloaded() throws IOException {
+        downloader.download(file, metadata);
+        assertEquals(Outcome.NOT_MODIFIED, downloader.download(file, metadata));
+        assertEquals(1, server.getNotModifiedCount());
+
+        // without an entity tag, the modification time is used
+        server.setContent(CONTENT, null, LAST_MODIFIED);
+        metadata.setDownload(null, metadata.getLastModified(), metadata.getChecksum());
+        assertEquals(Outcome.NOT_MODIFIED, downloader.download(file, metadata));
+        assertEquals(2, server.getNotModifiedCount());
+    }
+
+    @Test
+    public void download_newContent_fileReplaced() throws IOException {
+        downloader.download(file, metadata);
+        server.setContent(NEW_CONTENT, "\"v2\"", LAST_MODIFIED + 60000);
+
+        assertEquals(Outcome.UPDATED, downloader.download(file, metadata));
+        assertEquals(NEW_CONTENT, FileUtil.readFromFile(file));
+        assertEquals("\"v2\"", metadata.getEtag());
+    }
+
+    @Test
+    public void download_sameContentWithoutConditionalSupport_unchanged() throws IOException {
+        downloader.download(file, metadata);
+        server.setHonouringValidators(false);
+
+        assertEquals(Outcome.UNCHANGED, downloader.download(file, metadata));
+        assertEquals(CONTENT, FileUtil.readFromFile(file));
+        assertEquals(0, server.getNotModifiedCount());
+    }
+
+    @Test
+    public void download_localFileChanged_downloadedAgain() throws IOException {
+        downloader.download(file, metadata);
+        FileUtil.writeToFile(file, "[");
+
+        assertEquals(Outcome.UPDATED, downloader.download(file, metadata));
+        assertEquals(CONTENT, FileUtil.readFromFile(file));
+        assertEquals(0, server.getNotModifiedCount());
+    }
+
+    @Test
+    public void download_incompleteResponse_fileKept() throws IOException {
+        downloader.download(file, metadata);
+        String checksum = metadata.getChecksum();
+        server.setContent(NEW_CONTENT, "\"v2\"", LAST_MODIFIED + 60000);
+        server.setTruncating(true);
+
+        try {
+            downloader.download(file, metadata);
+            fail("An incomplete download should fail");
+        } catch (IOException e) {
+            assertNotNull(e.getMessage());
+        }
+        assertEquals(CONTENT, FileUtil.readFromFile(file));
+        assertEquals(checksum, metadata.getChecksum());
+        assertFalse(new File(file.getPath() + ".download").exists());
+    }
+
+    @Test
+    public void download_errorResponse_fileKept() throws IOException {
+        downloader.download(file, metadata);
+        server.setErrorCode(500);
+
+        try {
+            downloader.download(file, metadata);
+            fail("An error response should fail");
+        } catch (IOException e) {
+            assertEquals(String.format(ModuleDatabaseDownloader.MESSAGE_UNEXPECTED_RESPONSE, 500, server.getUrl()),
+                    e.getMessage());
+        }
+        assertEquals(CONTENT, FileUtil.readFromFile(file));
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.database.module.Module;
+import seedu.address.database.module.Schedule;
+
+public class ModuleDatabaseMetadataTest {
+
+    private static final Schedule TUTORIAL = new Schedule("T3", "Tutorial", "Every Week", "Wednesday",
+            "1500", "1600", "COM1-B103");
+    private static final Module CS2103T = new Module("CS2103T", "Software Engineering",
+            new ArrayList<>(Collections.singletonList(TUTORIAL)));
+    private static final Module MA1521 = new Module("MA1521", "Calculus for Computing", new ArrayList<>());
+    private static final Module CS2101 = new Module("CS2101", "Effective Communication", new ArrayList<>());
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void updateModuleHashes_modulesAddedRemovedOrChanged_theirCodesReturned() {
+        ModuleDatabaseMetadata metadata = new ModuleDatabaseMetadata();
+        assertFalse(metadata.hasModuleHashes());
+        assertEquals(new HashSet<>(Arrays.asList("CS2103T", "MA1521")),
+                metadata.updateModuleHashes(Arrays.asList(CS2103T, MA1521)));
+        assertTrue(metadata.hasModuleHashes());
+
+        Module movedTutorial = new Module("CS2103T", "Software Engineering", new ArrayList<>(Collections.singletonList(
+                new Schedule("T3", "Tutorial", "Every Week", "Thursday", "1500", "1600", "COM1-B103"))));
+        assertEquals(new HashSet<>(Arrays.asList("CS2103T", "MA1521", "CS2101")),
+                metadata.updateModuleHashes(Arrays.asList(movedTutorial, CS2101)));
+        assertTrue(metadata.updateModuleHashes(Arrays.asList(CS2101, movedTutorial)).isEmpty());
+    }
+
+    @Test
+    public void hashOf_fieldsSplitDifferently_differentHashes() {
+        assertFalse(ModuleDatabaseMetadata.hashOf(new Module("CS1", "0", new ArrayList<>()))
+                .equals(ModuleDatabaseMetadata.hashOf(new Module("CS", "10", new ArrayList<>()))));
+        assertEquals(ModuleDatabaseMetadata.hashOf(CS2103T), ModuleDatabaseMetadata.hashOf(
+                new Module("CS2103T", "Software Engineering", new ArrayList<>(Collections.singletonList(TUTORIAL)))));
+    }
+
+    @Test
+    public void save_loadedByNewMetadata_sameMetadata() {
+        String filePath = testFolder.getRoot().getPath() + "/modules.meta.json";
+        ModuleDatabaseMetadata metadata = new ModuleDatabaseMetadata();
+        metadata.setDownload("\"v1\"", 1500000000000L, "checksum");
+        metadata.updateModuleHashes(Arrays.asList(CS2103T, MA1521));
+        metadata.save(filePath);
+
+        ModuleDatabaseMetadata loaded = ModuleDatabaseMetadata.load(filePath);
+        assertEquals("\"v1\"", loaded.getEtag());
+        assertEquals(1500000000000L, loaded.getLastModified());
+        assertEquals("checksum", loaded.getChecksum());
+        assertTrue(loaded.updateModuleHashes(Arrays.asList(CS2103T, MA1521)).isEmpty());
+    }
+
+    @Test
+    public void load_missingOrInvalidFile_emptyMetadata() throws IOException {
+        assertNull(ModuleDatabaseMetadata.load(testFolder.getRoot().getPath() + "/missing.json").getChecksum());
+
+        String filePath = testFolder.getRoot().getPath() + "/invalid.json";
+        FileUtil.writeToFile(new File(filePath), "not json");
+        ModuleDatabaseMetadata loaded = ModuleDatabaseMetadata.load(filePath);
+        assertNull(loaded.getEtag());
+        assertFalse(loaded.hasModuleHashes());
+    }
+}
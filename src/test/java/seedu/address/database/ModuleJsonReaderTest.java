@@ -0,0 +1,69 @@
+package seedu.address.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.database.module.Module;
+
+public class ModuleJsonReaderTest {
+
+    private static final String TEST_DATA_FOLDER = FileUtil.getPath("./src/test/data/ModuleJsonReaderTest/");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void readModules_validFile_sameAsDataBinding() throws Exception {
+        String filePath = TEST_DATA_FOLDER + "modules.json";
+        List<Module> expected = JsonUtil.readJsonArrayFromFile(filePath, Module.class);
+        List<Module> actual = ModuleJsonReader.readModules(filePath);
+
+        assertEquals(expected, actual);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getScheduleList(), actual.get(i).getScheduleList());
+        }
+        assertNull(actual.get(2).getScheduleList());
+        assertTrue(actual.get(3).getScheduleList().isEmpty());
+    }
+
+    @Test
+    public void readModules_missingFields_defaultsUsed() throws Exception {
+        Module cs2101 = ModuleJsonReader.readModules(TEST_DATA_FOLDER + "modules.json").get(1);
+        assertEquals("1", cs2101.getScheduleList().get(0).getWeekText());
+        assertEquals("COM1 01-01", cs2101.getScheduleList().get(0).getVenue());
+    }
+
+    @Test
+    public void readModules_repeatedStrings_shared() throws Exception {
+        Module cs2103t = ModuleJsonReader.readModules(TEST_DATA_FOLDER + "modules.json").get(0);
+        assertSame(cs2103t.getScheduleList().get(0).getWeekText(), cs2103t.getScheduleList().get(1).getWeekText());
+    }
+
+    @Test
+    public void readModules_missingFile_emptyList() throws Exception {
+        assertTrue(ModuleJsonReader.readModules(TEST_DATA_FOLDER + "NonExistentFile.json").isEmpty());
+    }
+
+    @Test
+    public void readModules_truncatedFile_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        ModuleJsonReader.readModules(TEST_DATA_FOLDER + "truncated.json");
+    }
+
+    @Test
+    public void readModules_notArray_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        ModuleJsonReader.readModules(TEST_DATA_FOLDER + "notArray.json");
+    }
+}
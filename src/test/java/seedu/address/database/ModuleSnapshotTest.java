@@ -0,0 +1,156 @@
+package seedu.address.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.database.module.Module;
+import seedu.address.database.module.Schedule;
+
+public class ModuleSnapshotTest {
+
+    private static final Schedule TUTORIAL = new Schedule("T3", "Tutorial", "Every Week", "Wednesday",
+            "1500", "1600", "COM1-B103");
+    private static final Schedule LECTURE = new Schedule("1", "Lecture", "Every Week", "Friday",
+            "1400", "1600", "I3-AUD");
+    private static final Module CS2103T = new Module("CS2103T", "Software Engineering",
+            new ArrayList<>(Arrays.asList(TUTORIAL, LECTURE)));
+    private static final Module CS2101 = new Module("CS2101", "Effective Communication for Computing Professionals",
+            new ArrayList<>(Collections.singletonList(new Schedule("3", "Sectional Teaching", "Every Week",
+                    "Monday", "1200", "1400", "COM1-0208"))));
+    private static final Module MA1521 = new Module("MA1521", "Calculus for Computing", null);
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void getModule_existingCode_moduleWithSortedLessons() {
+        ModuleSnapshot snapshot = ModuleSnapshot.of(Arrays.asList(CS2103T, MA1521, CS2101), 0, 0);
+
+        Module module = snapshot.getModule("CS2103T");
+        assertEquals(CS2103T, module);
+        assertEquals(Arrays.asList(LECTURE, TUTORIAL), module.getScheduleList());
+        assertEquals(CS2101.getScheduleList(), snapshot.getModule("CS2101").getScheduleList());
+        assertTrue(snapshot.getModule("MA1521").getScheduleList().isEmpty());
+        assertEquals(3, snapshot.getModuleCount());
+        assertEquals(3, snapshot.getLessonCount());
+    }
+
+    @Test
+    public void getModule_missingFields_keptMissing() {
+        Schedule noVenue = new Schedule("1", "Lecture", "Every Week", "Friday", "1400", "1600", null);
+        Module module = new Module("CS1010", "Programming Methodology", new ArrayList<>(Arrays.asList(noVenue)));
+        Schedule read = ModuleSnapshot.of(Collections.singletonList(module), 0, 0).getModule("CS1010")
+                .getScheduleList().get(0);
+        assertNull(read.getVenue());
+        assertEquals("1400", read.getStartTime());
+    }
+
+    @Test
+    public void getModule_missingCode_null() {
+        ModuleSnapshot snapshot = ModuleSnapshot.of(Arrays.asList(CS2103T, MA1521, CS2101), 0, 0);
+        assertNull(snapshot.getModule("CS2103"));
+        assertNull(snapshot.getModule("AAA"));
+        assertNull(snapshot.getModule("ZZZ"));
+        assertNull(ModuleSnapshot.of(Collections.emptyList(), 0, 0).getModule("CS2103T"));
+    }
+
+    @Test
+    public void getModuleTitle() {
+        ModuleSnapshot snapshot = ModuleSnapshot.of(Arrays.asList(CS2103T, MA1521, CS2101), 0, 0);
+        assertEquals("Software Engineering", snapshot.getModuleTitle("CS2103T"));
+        assertNull(snapshot.getModuleTitle("CS2103"));
+    }
+
+    @Test
+    public void getLessons_existingClass_onlyLessonsOfClass() {
+        Schedule secondTutorial = new Schedule("T3", "Tutorial", "Every Week", "Friday", "1000", "1100", "COM1-B103");
+        Schedule otherTutorial = new Schedule("T4", "Tutorial", "Every Week", "Wednesday", "1600", "1700", "COM1-B103");
+        Schedule tutorialType3 = new Schedule("T3", "Tutorial Type 3", "Every Week", "Monday", "0900", "1000", "S16");
+        Module module = new Module("CS2103T", "Software Engineering", new ArrayList<>(
+                Arrays.asList(otherTutorial, TUTORIAL, tutorialType3, LECTURE, secondTutorial)));
+        ModuleSnapshot snapshot = ModuleSnapshot.of(Arrays.asList(module, MA1521, CS2101), 0, 0);
+
+        assertEquals(Arrays.asList(TUTORIAL, secondTutorial), snapshot.getLessons("CS2103T", "Tutorial", "T3"));
+        assertEquals(Collections.singletonList(tutorialType3),
+                snapshot.getLessons("CS2103T", "Tutorial Type 3", "T3"));
+        assertEquals(Collections.singletonList(LECTURE), snapshot.getLessons("CS2103T", "Lecture", "1"));
+    }
+
+    @Test
+    public void getLessons_missingClass_empty() {
+        ModuleSnapshot snapshot = ModuleSnapshot.of(Arrays.asList(CS2103T, MA1521, CS2101), 0, 0);
+        assertTrue(snapshot.getLessons("CS2103T", "Tutorial", "T4").isEmpty());
+        assertTrue(snapshot.getLessons("CS2103T", "Laboratory", "T3").isEmpty());
+        assertTrue(snapshot.getLessons("MA1521", "Lecture", "1").isEmpty());
+        assertTrue(snapshot.getLessons("CS2103", "Lecture", "1").isEmpty());
+    }
+
+    @Test
+    public void getModules_sortedByCode() {
+        ModuleSnapshot snapshot = ModuleSnapshot.of(Arrays.asList(CS2103T, MA1521, CS2101), 0, 0);
+        assertEquals(Arrays.asList(CS2101, CS2103T, MA1521), snapshot.getModules());
+    }
+
+    @Test
+    public void open_writtenSnapshot_sameModules() throws Exception {
+        File source = testFolder.newFile("modules.json");
+        FileUtil.writeToFile(source, "[]");
+        File file = new File(testFolder.getRoot(), "modules.bin");
+        List<Module> modules = Arrays.asList(CS2103T, MA1521, CS2101);
+        ModuleSnapshot.write(modules, source, file);
+
+        ModuleSnapshot snapshot = ModuleSnapshot.open(file);
+        assertEquals(ModuleSnapshot.of(modules, 0, 0).getModules(), snapshot.getModules());
+        assertEquals(LECTURE, snapshot.getModule("CS2103T").getScheduleList().get(0));
+        assertTrue(snapshot.isBuiltFrom(source));
+
+        FileUtil.writeToFile(source, "[ ]");
+        assertFalse(snapshot.isBuiltFrom(source));
+    }
+
+    @Test
+    public void open_notASnapshot_throwsDataConversionException() throws Exception {
+        File file = testFolder.newFile("modules.bin");
+        FileUtil.writeToFile(file, "[{\"ModuleCode\": \"CS2103T\"}]");
+        thrown.expect(DataConversionException.class);
+        ModuleSnapshot.open(file);
+    }
+
+    @Test
+    public void open_truncatedSnapshot_throwsDataConversionException() throws Exception {
+        File source = testFolder.newFile("modules.json");
+        File file = new File(testFolder.getRoot(), "modules.bin");
+        ModuleSnapshot.write(Arrays.asList(CS2103T, MA1521), source, file);
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        Files.write(file.toPath(), Arrays.copyOf(bytes, bytes.length - 1));
+
+        thrown.expect(DataConversionException.class);
+        ModuleSnapshot.open(file);
+    }
+
+    @Test
+    public void open_missingFile_throwsIoException() throws Exception {
+        thrown.expect(IOException.class);
+        ModuleSnapshot.open(new File(testFolder.getRoot(), "missing.bin"));
+    }
+}
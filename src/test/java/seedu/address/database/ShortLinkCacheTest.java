@@ -0,0 +1,80 @@
+package seedu.address.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TimeTableLink;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShortLinkCacheTest {
+
+    private static final TimeTableLink LINK = new TimeTableLink("http://modsn.us/aaaaa");
+    private static final String LONG_URL = "https://nusmods.com/timetable/sem-2/share?CS2103T=TUT:T3";
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void put_savedToFile_loadedByNewCache() {
+        String filePath = testFolder.getRoot().getPath() + "/shortlinks.json";
+        new ShortLinkCache(filePath).put(LINK, LONG_URL);
+
+        ShortLinkCache loaded = new ShortLinkCache(filePath);
+        assertEquals(LONG_URL, loaded.getLongUrl(LINK));
+        assertEquals(1, loaded.size());
+    }
+
+    @Test
+    public void invalidate_savedToFile_forgottenByNewCache() {
+        String filePath = testFolder.getRoot().getPath() + "/shortlinks.json";
+        ShortLinkCache cache = new ShortLinkCache(filePath);
+        cache.put(LINK, LONG_URL);
+        cache.invalidate(LINK);
+
+        assertNull(cache.getLongUrl(LINK));
+        assertNull(new ShortLinkCache(filePath).getLongUrl(LINK));
+    }
+
+    @Test
+    public void constructor_missingOrInvalidFile_emptyCache() throws IOException {
+        assertEquals(0, new ShortLinkCache(testFolder.getRoot().getPath() + "/missing.json").size());
+
+        String filePath = testFolder.getRoot().getPath() + "/invalid.json";
+        FileUtil.writeToFile(new File(filePath), "not json");
+        assertEquals(0, new ShortLinkCache(filePath).size());
+    }
+
+    @Test
+    public void handleAddressBookChangedEvent_linkEdited_previousLinkForgotten() {
+        ShortLinkCache cache = new ShortLinkCache();
+        TimeTableLink otherLink = new TimeTableLink("http://modsn.us/bbbbb");
+        cache.put(ALICE.getTimeTableLink(), LONG_URL);
+        cache.put(BENSON.getTimeTableLink(), LONG_URL);
+        cache.put(otherLink, LONG_URL);
+
+        Person editedAlice = new PersonBuilder(ALICE).withTimeTableLink(otherLink.value).build();
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson").build();
+        AddressBookDelta delta = new AddressBookDelta();
+        delta.recordUpdate(Person.class, ALICE, editedAlice);
+        delta.recordUpdate(Person.class, BENSON, renamedBenson);
+        cache.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook(), delta));
+
+        assertNull(cache.getLongUrl(ALICE.getTimeTableLink()));
+        assertEquals(LONG_URL, cache.getLongUrl(BENSON.getTimeTableLink()));
+        assertEquals(LONG_URL, cache.getLongUrl(otherLink));
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import seedu.address.commons.events.database.ModuleDatabaseChangedEvent;
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.database.module.Module;
+import seedu.address.database.module.Schedule;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.event.WeeklyEvent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TimeTableLink;
+import seedu.address.testutil.PersonBuilder;
+
+public class TimetableCacheTest {
+
+    private static final TimeTableLink LINK_A = new TimeTableLink("http://modsn.us/aaaaa");
+    private static final TimeTableLink LINK_B = new TimeTableLink("http://modsn.us/bbbbb");
+    private static final TimeTableLink LINK_C = new TimeTableLink("http://modsn.us/ccccc");
+    private static final ParsedTimetable TIMETABLE = new ParsedTimetable(Collections.singletonList(
+            new WeeklyEvent(new Module("CS2103T", "Software Engineering", new ArrayList<>()),
+                    new Schedule("T3", "Tutorial", "Every Week", "Wednesday", "1500", "1600", "COM1-B103"))));
+
+    private final TimetableCache cache = new TimetableCache(2);
+
+    @Test
+    public void get_putBefore_hit() {
+        cache.put(LINK_A, 0, TIMETABLE);
+        assertEquals(TIMETABLE, cache.get(LINK_A));
+        assertNull(cache.get(LINK_B));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void put_moreThanMaxSize_leastRecentlyUsedEvicted() {
+        cache.put(LINK_A, 0, TIMETABLE);
+        cache.put(LINK_B, 0, TIMETABLE);
+        cache.get(LINK_A);
+        cache.put(LINK_C, 0, TIMETABLE);
+
+        assertEquals(2, cache.size());
+        assertEquals(TIMETABLE, cache.get(LINK_A));
+        assertNull(cache.get(LINK_B));
+        assertEquals(TIMETABLE, cache.get(LINK_C));
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void put_outdatedModuleDatabaseVersion_ignored() {
+        cache.setModuleDatabaseVersion(2);
+        cache.put(LINK_A, 1, TIMETABLE);
+        assertNull(cache.get(LINK_A));
+    }
+
+    @Test
+    public void handleModuleDatabaseChangedEvent_newVersion_allEvicted() {
+        cache.put(LINK_A, 0, TIMETABLE);
+        cache.put(LINK_B, 0, TIMETABLE);
+        cache.handleModuleDatabaseChangedEvent(new ModuleDatabaseChangedEvent(1));
+
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getModuleDatabaseVersion());
+        assertNull(cache.get(LINK_A));
+        assertEquals(2, cache.getEvictionCount());
+    }
+
+    @Test
+    public void handleModuleDatabaseChangedEvent_someModulesChanged_onlyTheirTimetablesEvicted() {
+        ParsedTimetable noLessonFound = new ParsedTimetable(new ArrayList<>(), Arrays.asList("MA1521", "CS2101"));
+        cache.put(LINK_A, 0, TIMETABLE);
+        cache.put(LINK_B, 0, noLessonFound);
+        cache.handleModuleDatabaseChangedEvent(
+                new ModuleDatabaseChangedEvent(1, new HashSet<>(Collections.singletonList("MA1521"))));
+
+        assertEquals(1, cache.getModuleDatabaseVersion());
+        assertEquals(TIMETABLE, cache.get(LINK_A));
+        assertNull(cache.get(LINK_B));
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void handleAddressBookChangedEvent_personEditedOrDeleted_linkEvicted() {
+        TimetableCache cache = new TimetableCache(TimetableCache.DEFAULT_MAX_SIZE);
+        cache.put(ALICE.getTimeTableLink(), 0, TIMETABLE);
+        cache.put(BENSON.getTimeTableLink(), 0, TIMETABLE);
+        cache.put(CARL.getTimeTableLink(), 0, TIMETABLE);
+
+        AddressBookDelta delta = new AddressBookDelta();
+        delta.recordUpdate(Person.class, ALICE, new PersonBuilder(ALICE).withTimeTableLink(LINK_A.value).build());
+        delta.recordUpdate(Person.class, BENSON, new PersonBuilder(BENSON).withName("Benson").build());
+        delta.recordRemoval(Person.class, CARL, 2);
+        cache.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook(), delta));
+
+        assertNull(cache.get(ALICE.getTimeTableLink()));
+        assertEquals(TIMETABLE, cache.get(BENSON.getTimeTableLink()));
+        assertNull(cache.get(CARL.getTimeTableLink()));
+    }
+}
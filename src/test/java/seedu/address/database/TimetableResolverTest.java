@@ -0,0 +1,189 @@
+package seedu.address.database;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.database.module.Module;
+import seedu.address.database.module.Schedule;
+import seedu.address.model.event.WeeklyEvent;
+import seedu.address.model.person.TimeTableLink;
+import seedu.address.testutil.StubShortLinkServer;
+
+public class TimetableResolverTest {
+
+    private static final TimeTableLink LINK_A = new TimeTableLink("http://modsn.us/aaaaa");
+    private static final TimeTableLink LINK_B = new TimeTableLink("http://modsn.us/bbbbb");
+    private static final TimeTableLink LINK_MISSING = new TimeTableLink("http://modsn.us/missing");
+    private static final TimeTableLink LINK_OTHER_SEM = new TimeTableLink("http://modsn.us/othersem");
+    private static final TimeTableLink LINK_SLOW = new TimeTableLink("http://modsn.us/slow");
+
+    private static final Schedule TUTORIAL = new Schedule("T3", "Tutorial", "Every Week", "Wednesday",
+            "1500", "1600", "COM1-B103");
+    private static final Schedule LECTURE = new Schedule("1", "Lecture", "Every Week", "Friday",
+            "1400", "1600", "I3-AUD");
+    private static final Module CS2103T = new Module("CS2103T", "Software Engineering",
+            new ArrayList<>(Arrays.asList(TUTORIAL, LECTURE)));
+
+    private final Map<String, Module> modules = new HashMap<>();
+    private final ShortLinkCache shortLinkCache = new ShortLinkCache();
+    private final TimetableCache timetableCache = new TimetableCache(TimetableCache.DEFAULT_MAX_SIZE);
+    private StubShortLinkServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        modules.put(CS2103T.getModuleCode(), CS2103T);
+        server = new StubShortLinkServer();
+        server.redirect(LINK_A, StubShortLinkServer.getCurrentSemesterUrl("CS2103T=TUT:T3"));
+        server.redirect(LINK_B, StubShortLinkServer.getCurrentSemesterUrl("CS2103T=LEC:1,TUT:T3"));
+        server.redirect(LINK_OTHER_SEM, "https://nusmods.com/timetable/sem-3/share?CS2103T=TUT:T3");
+        server.redirect(LINK_SLOW, StubShortLinkServer.getCurrentSemesterUrl("CS2103T=TUT:T3"));
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void resolveAll_validLinks_allResolved() {
+        TimetableResolver.Result<String> result = resolver(4, 2000).resolveAll(Arrays.asList("Alice", "Bob"),
+            member -> member.equals("Alice") ? LINK_A : LINK_B);
+
+        assertTrue(result.getFailures().isEmpty());
+        assertEquals(Collections.singletonList(new WeeklyEvent(CS2103T, TUTORIAL)),
+                result.getTimetables().get("Alice").getEvents());
+        assertEquals(Arrays.asList(new WeeklyEvent(CS2103T, LECTURE), new WeeklyEvent(CS2103T, TUTORIAL)),
+                result.getTimetables().get("Bob").getEvents());
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void resolveAll_someLinksInvalid_failuresReportedPerMember() {
+        Map<String, TimeTableLink> links = new HashMap<>();
+        links.put("Alice", LINK_A);
+        links.put("Bob", LINK_MISSING);
+        links.put("Carl", LINK_OTHER_SEM);
+        TimetableResolver.Result<String> result = resolver(4, 2000).resolveAll(
+                Arrays.asList("Alice", "Bob", "Carl"), links::get);
+
+        assertEquals(Collections.singletonList("Alice"), new ArrayList<>(result.getTimetables().keySet()));
+        assertEquals(Arrays.asList("Bob", "Carl"), new ArrayList<>(result.getFailures().keySet()));
+        assertEquals(DatabaseManager.INCOMPATIBLE_LINK_MESSAGE, result.getFailures().get("Carl"));
+    }
+
+    @Test
+    public void resolveAll_unknownModule_failureReported() {
+        modules.clear();
+        TimetableResolver.Result<String> result = resolver(4, 2000).resolveAll(
+                Collections.singletonList("Alice"), member -> LINK_A);
+
+        assertEquals(String.format(DatabaseManager.MESSAGE_UNKNOWN_MODULE, "CS2103T"),
+                result.getFailures().get("Alice"));
+    }
+
+    @Test
+    public void resolveAll_slowServer_timesOut() {
+        server.delay(LINK_SLOW, 1000);
+        TimetableResolver.Result<String> result = resolver(4, 200).resolveAll(Arrays.asList("Alice", "Bob"),
+            member -> member.equals("Alice") ? LINK_A : LINK_SLOW);
+
+        assertEquals(Collections.singletonList("Alice"), new ArrayList<>(result.getTimetables().keySet()));
+        assertEquals(Collections.singletonList("Bob"), new ArrayList<>(result.getFailures().keySet()));
+    }
+
+    @Test
+    public void resolveAll_manyMembers_concurrencyBounded() {
+        server.delay(LINK_A, 100);
+        List<Integer> members = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            members.add(i);
+        }
+        TimetableResolver.Result<Integer> result = resolver(3, 2000).resolveAll(members, member -> LINK_A);
+
+        assertEquals(12, result.getTimetables().size());
+        assertEquals(12, server.getRequestCount());
+        assertTrue(server.getMaxConcurrentRequests() <= 3);
+        assertTrue(server.getMaxConcurrentRequests() > 1);
+    }
+
+    @Test
+    public void resolveAll_resolvedBefore_noRequests() {
+        TimetableResolver resolver = resolver(4, 2000);
+        TimetableResolver.Result<String> first = resolver.resolveAll(Arrays.asList("Alice", "Bob"),
+            member -> member.equals("Alice") ? LINK_A : LINK_B);
+        TimetableResolver.Result<String> second = resolver.resolveAll(Arrays.asList("Alice", "Bob"),
+            member -> member.equals("Alice") ? LINK_A : LINK_B);
+
+        assertEquals(first.getTimetables(), second.getTimetables());
+        assertEquals(2, server.getRequestCount());
+        assertEquals(2, shortLinkCache.size());
+        assertEquals(2, timetableCache.getHitCount());
+        assertEquals(2, timetableCache.getMissCount());
+    }
+
+    @Test
+    public void resolveAll_moduleDatabaseChanged_parsedAgainWithoutRequest() {
+        resolver(4, 2000).resolveAll(Collections.singletonList("Alice"), member -> LINK_A);
+        Schedule movedTutorial = new Schedule("T3", "Tutorial", "Every Week", "Wednesday", "1500", "1600",
+                "COM2-0108");
+        Module updated = new Module("CS2103T", "Software Engineering",
+                new ArrayList<>(Arrays.asList(movedTutorial, LECTURE)));
+        modules.put(updated.getModuleCode(), updated);
+        timetableCache.setModuleDatabaseVersion(1);
+
+        TimetableResolver.Result<String> result = resolver(4, 2000).resolveAll(
+                Collections.singletonList("Alice"), member -> LINK_A);
+
+        assertEquals(Collections.singletonList(new WeeklyEvent(updated, movedTutorial)),
+                result.getTimetables().get("Alice").getEvents());
+        assertEquals(1, server.getRequestCount());
+        assertEquals(0, timetableCache.getHitCount());
+    }
+
+    @Test
+    public void resolveAll_offlineAfterResolving_usesCache() {
+        resolver(4, 2000).resolveAll(Collections.singletonList("Alice"), member -> LINK_A);
+        server.close();
+
+        TimetableResolver.Result<String> result = resolver(4, 200).resolveAll(Arrays.asList("Alice", "Bob"),
+            member -> member.equals("Alice") ? LINK_A : LINK_B);
+
+        assertEquals(Collections.singletonList("Alice"), new ArrayList<>(result.getTimetables().keySet()));
+        assertEquals(Collections.singletonList("Bob"), new ArrayList<>(result.getFailures().keySet()));
+    }
+
+    @Test
+    public void resolveAll_otherSemesterResolvedBefore_failsWithoutRequest() {
+        resolver(4, 2000).resolveAll(Collections.singletonList("Carl"), member -> LINK_OTHER_SEM);
+        TimetableResolver.Result<String> result = resolver(4, 2000).resolveAll(
+                Collections.singletonList("Carl"), member -> LINK_OTHER_SEM);
+
+        assertEquals(DatabaseManager.INCOMPATIBLE_LINK_MESSAGE, result.getFailures().get("Carl"));
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void resolveAll_noMembers_emptyResult() {
+        TimetableResolver.Result<String> result = resolver(4, 2000).resolveAll(Collections.emptyList(),
+            member -> LINK_A);
+        assertTrue(result.getTimetables().isEmpty());
+        assertTrue(result.getFailures().isEmpty());
+        assertEquals(0, server.getRequestCount());
+    }
+
+    private TimetableResolver resolver(int maxConcurrentRequests, int timeoutMillis) {
+        return new TimetableResolver(maxConcurrentRequests, timeoutMillis, shortLinkCache, timetableCache,
+                server::getUrl, () -> ModuleSnapshot.of(new ArrayList<>(modules.values()), 0, 0));
+    }
+}
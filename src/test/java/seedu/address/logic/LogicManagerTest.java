@@ -8,9 +8,11 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -46,6 +48,18 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void constructor_negativeUndoLimitsInUserPrefs_fallsBackToDefaults() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(-1);
+        userPrefs.setUndoHistoryBytes(-1);
+        Logic logicWithInvalidPrefs = new LogicManager(new ModelManager(), userPrefs);
+
+        logicWithInvalidPrefs.execute(ClearCommand.COMMAND_WORD);
+        assertEquals(UndoCommand.MESSAGE_SUCCESS,
+                logicWithInvalidPrefs.execute(UndoCommand.COMMAND_WORD).feedbackToUser);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
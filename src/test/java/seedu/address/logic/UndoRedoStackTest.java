@@ -5,21 +5,33 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static seedu.address.logic.UndoRedoStackUtil.prepareStack;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.EmptyStackException;
 import java.util.List;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 
+import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UndoableCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
 
 public class UndoRedoStackTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
     private final DummyCommand dummyCommandOne = new DummyCommand();
     private final DummyUndoableCommand dummyUndoableCommandOne = new DummyUndoableCommand();
     private final DummyUndoableCommand dummyUndoableCommandTwo = new DummyUndoableCommand();
@@ -54,6 +66,38 @@ public class UndoRedoStackTest {
                 Collections.emptyList());
     }
 
+    @Test
+    public void push_exceedsMaxDepth_oldestCommandEvicted() {
+        DummyUndoableCommand dummyUndoableCommandThree = new DummyUndoableCommand();
+        undoRedoStack = new UndoRedoStack(2, Long.MAX_VALUE);
+        undoRedoStack.push(dummyUndoableCommandOne);
+        undoRedoStack.push(dummyUndoableCommandTwo);
+        undoRedoStack.push(dummyUndoableCommandThree);
+        assertStackStatus(Arrays.asList(dummyUndoableCommandTwo, dummyUndoableCommandThree),
+                Collections.emptyList());
+    }
+
+    @Test
+    public void push_exceedsMaxBytes_oldestCommandsEvicted() throws Exception {
+        Model model = new ModelManager();
+        AddCommand addAlice = executedAddCommand(model, ALICE);
+        AddCommand addBenson = executedAddCommand(model, BENSON);
+        AddCommand addCarl = executedAddCommand(model, CARL);
+
+        undoRedoStack = new UndoRedoStack(Integer.MAX_VALUE,
+                addBenson.getEstimatedUndoSize() + addCarl.getEstimatedUndoSize());
+        undoRedoStack.push(addAlice);
+        undoRedoStack.push(addBenson);
+        undoRedoStack.push(addCarl);
+        assertStackStatus(Arrays.asList(addBenson, addCarl), Collections.emptyList());
+    }
+
+    @Test
+    public void constructor_negativeLimit_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new UndoRedoStack(-1, 0);
+    }
+
     @Test
     public void push_undoCommand_stackRemainsUnchanged() {
         // non-empty redoStack
@@ -223,6 +267,16 @@ public class UndoRedoStackTest {
         }
     }
 
+    /**
+     * Returns an {@code AddCommand} adding {@code person} that has been executed on {@code model}.
+     */
+    private AddCommand executedAddCommand(Model model, Person person) throws Exception {
+        AddCommand command = new AddCommand(person);
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        command.execute();
+        return command;
+    }
+
     /**
      * Asserts that {@code undoRedoStack#undoStack} equals {@code undoElements}, and {@code undoRedoStack#redoStack}
      * equals {@code redoElements}.
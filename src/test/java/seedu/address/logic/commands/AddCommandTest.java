@@ -6,8 +6,10 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -19,6 +21,7 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.logic.UndoRedoStack;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.event.Event;
@@ -26,7 +29,9 @@ import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.exceptions.DuplicateGroupException;
 import seedu.address.model.group.exceptions.GroupNotFoundException;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.tag.Tag;
@@ -106,6 +111,27 @@ public class AddCommandTest {
      * A default model stub that have all of the methods failing.
      */
     private class ModelStub implements Model {
+        @Override
+        public <E extends Exception> AddressBookDelta batch(Transaction<E> transaction) throws E {
+            transaction.execute(this);
+            return new AddressBookDelta();
+        }
+
+        @Override
+        public void revert(AddressBookDelta changes) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListByPhone(Phone phone) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListByEmail(Email email) {
+            fail("This method should not be called.");
+        }
+
         @Override
         public void addPerson(Person person) throws DuplicatePersonException {
             fail("This method should not be called.");
@@ -198,6 +224,12 @@ public class AddCommandTest {
             return null;
         }
 
+        @Override
+        public List<Event> getFilteredEventsOn(LocalDate date) {
+            fail("This method should not be called.");
+            return null;
+        }
+
         @Override
         public ObservableList<Group> getFilteredGroupList() {
             fail("This method should not be called.");
@@ -9,7 +9,9 @@ import static org.junit.Assert.fail;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.Before;
@@ -24,6 +26,7 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.logic.UndoRedoStack;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -33,7 +36,9 @@ import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.exceptions.DuplicateGroupException;
 import seedu.address.model.group.exceptions.GroupNotFoundException;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.tag.Tag;
@@ -139,6 +144,27 @@ public class AddMemberToGroupCommandTest {
      * A default model stub that have all of the methods failing.
      */
     private class ModelStub implements Model {
+        @Override
+        public <E extends Exception> AddressBookDelta batch(Transaction<E> transaction) throws E {
+            transaction.execute(this);
+            return new AddressBookDelta();
+        }
+
+        @Override
+        public void revert(AddressBookDelta changes) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListByPhone(Phone phone) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListByEmail(Email email) {
+            fail("This method should not be called.");
+        }
+
         @Override
         public void addPerson(Person person) throws DuplicatePersonException {
             fail("This method should not be called.");
@@ -231,6 +257,12 @@ public class AddMemberToGroupCommandTest {
             return null;
         }
 
+        @Override
+        public List<Event> getFilteredEventsOn(LocalDate date) {
+            fail("This method should not be called.");
+            return null;
+        }
+
         @Override
         public ObservableList<Group> getFilteredGroupList() {
             return model.getFilteredGroupList();
@@ -21,8 +21,11 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -55,6 +58,9 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different mode -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(new Phone("98765432"))));
     }
 
     @Test
@@ -71,6 +77,48 @@ public class FindCommandTest {
         assertCommandSuccess(command, expectedMessage, Arrays.asList(CARL, ELLE, FIONA));
     }
 
+    @Test
+    public void execute_phone_personFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        FindCommand command = new FindCommand(CARL.getPhone());
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        assertCommandSuccess(command, expectedMessage, Collections.singletonList(CARL));
+    }
+
+    @Test
+    public void execute_emailInOtherCase_personFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        FindCommand command = new FindCommand(new Email(ELLE.getEmail().value.toUpperCase()));
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        assertCommandSuccess(command, expectedMessage, Collections.singletonList(ELLE));
+    }
+
+    @Test
+    public void execute_emailThenPersonEditedToEmail_editedPersonShown() throws Exception {
+        FindCommand command = new FindCommand(ELLE.getEmail());
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        command.execute();
+
+        Person editedCarl = new PersonBuilder(CARL).withEmail(ELLE.getEmail().value.toUpperCase()).build();
+        model.updatePerson(CARL, editedCarl);
+        assertEquals(Arrays.asList(editedCarl, ELLE), model.getFilteredPersonList());
+
+        // edited away from the email, then back: the filter keeps following the email index
+        model.updatePerson(editedCarl, CARL);
+        assertEquals(Collections.singletonList(ELLE), model.getFilteredPersonList());
+        model.updatePerson(ELLE, new PersonBuilder(ELLE).withEmail("elle@other.com").build());
+        model.updatePerson(CARL, editedCarl);
+        assertEquals(Collections.singletonList(editedCarl), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_unknownPhone_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        FindCommand command = new FindCommand(new Phone("99999999"));
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        assertCommandSuccess(command, expectedMessage, Collections.emptyList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code FindCommand}.
      */
@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.storage.AddressBookFormatChangeRequestEvent;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.ui.testutil.EventsCollectorRule;
+
+public class MigrateCommandTest {
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void execute_binary_formatChangeRequested() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        MigrateCommand migrateCommand = new MigrateCommand(AddressBookFormat.BINARY);
+        migrateCommand.setData(model, new CommandHistory(), new UndoRedoStack());
+
+        CommandResult result = migrateCommand.execute();
+        assertEquals(String.format(MigrateCommand.MESSAGE_SUCCESS, AddressBookFormat.BINARY), result.feedbackToUser);
+        AddressBookFormatChangeRequestEvent event =
+                (AddressBookFormatChangeRequestEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(AddressBookFormat.BINARY, event.format);
+        assertSame(model.getAddressBook(), event.data);
+        assertTrue(eventsCollectorRule.eventsCollector.getSize() == 1);
+    }
+
+    @Test
+    public void execute_formatChangeFailed_throwsCommandException() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        MigrateCommand migrateCommand = new MigrateCommand(AddressBookFormat.BINARY);
+        migrateCommand.setData(model, new CommandHistory(), new UndoRedoStack());
+        EventsCenter.getInstance().registerHandler(new FailingStorageStub());
+
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(String.format(MigrateCommand.MESSAGE_FAILURE, AddressBookFormat.BINARY, "disk full"));
+        migrateCommand.execute();
+    }
+
+    @Test
+    public void equals() {
+        MigrateCommand migrateToBinary = new MigrateCommand(AddressBookFormat.BINARY);
+
+        // same object -> returns true
+        assertTrue(migrateToBinary.equals(migrateToBinary));
+
+        // same values -> returns true
+        assertTrue(migrateToBinary.equals(new MigrateCommand(AddressBookFormat.BINARY)));
+
+        // null -> returns false
+        assertFalse(migrateToBinary.equals(null));
+
+        // different format -> returns false
+        assertFalse(migrateToBinary.equals(new MigrateCommand(AddressBookFormat.XML)));
+    }
+
+    /**
+     * A storage stub that fails to store the address book in any format.
+     */
+    private class FailingStorageStub {
+        @Subscribe
+        public void handleAddressBookFormatChangeRequestEvent(AddressBookFormatChangeRequestEvent event) {
+            event.setFailure(new IOException("disk full"));
+        }
+    }
+}
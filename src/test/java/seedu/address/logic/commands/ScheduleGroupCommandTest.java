@@ -14,11 +14,13 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import java.util.ArrayList;
 
 import org.junit.Before;
+import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.address.commons.events.ui.TimetableChangedEvent;
+import seedu.address.database.DatabaseManager;
 import seedu.address.database.module.Module;
 import seedu.address.database.module.Schedule;
 import seedu.address.logic.CommandHistory;
@@ -42,6 +44,12 @@ public class ScheduleGroupCommandTest {
     private Model model;
     private ExpectedException thrown = ExpectedException.none();
 
+    @BeforeClass
+    public static void loadDatabase() {
+        // the command fails fast while the module database is loading, so load it before any test runs
+        DatabaseManager.getInstance();
+    }
+
     @Before
     public void setUp() {
         model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
@@ -109,6 +117,12 @@ public class ScheduleGroupCommandTest {
 
         // different person -> returns false
         assertFalse(groupACommand.equals(groupHCommand));
+
+        // ranking mode -> returns false
+        ScheduleGroupCommand rankedGroupACommand = new ScheduleGroupCommand(GROUP_A, 80, 120);
+        assertFalse(groupACommand.equals(rankedGroupACommand));
+        assertTrue(rankedGroupACommand.equals(new ScheduleGroupCommand(GROUP_A, 80, 120)));
+        assertFalse(rankedGroupACommand.equals(new ScheduleGroupCommand(GROUP_A, 80, 90)));
     }
 
     /**
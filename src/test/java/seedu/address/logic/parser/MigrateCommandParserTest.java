@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.AddressBookFormat;
+import seedu.address.logic.commands.MigrateCommand;
+
+public class MigrateCommandParserTest {
+
+    private MigrateCommandParser parser = new MigrateCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsMigrateCommand() {
+        assertParseSuccess(parser, " binary", new MigrateCommand(AddressBookFormat.BINARY));
+        assertParseSuccess(parser, " XML ", new MigrateCommand(AddressBookFormat.XML));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MigrateCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " json", expectedMessage);
+    }
+}
@@ -242,4 +242,42 @@ public class ParserUtilTest {
 
         assertEquals(expectedTagSet, actualTagSet);
     }
+
+    @Test
+    public void parsePercentage_validValues_returnsPercent() throws Exception {
+        assertEquals(80, ParserUtil.parsePercentage("80%"));
+        assertEquals(100, ParserUtil.parsePercentage(WHITESPACE + "100" + WHITESPACE));
+        assertEquals(1, ParserUtil.parsePercentage("1%"));
+    }
+
+    @Test
+    public void parsePercentage_outOfRange_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        ParserUtil.parsePercentage("101%");
+    }
+
+    @Test
+    public void parsePercentage_notANumber_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        ParserUtil.parsePercentage("most");
+    }
+
+    @Test
+    public void parseDuration_validValues_returnsMinutes() throws Exception {
+        assertEquals(120, ParserUtil.parseDuration("2h"));
+        assertEquals(45, ParserUtil.parseDuration("45m"));
+        assertEquals(90, ParserUtil.parseDuration(WHITESPACE + "1h30m" + WHITESPACE));
+    }
+
+    @Test
+    public void parseDuration_notMultipleOfFiveMinutes_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        ParserUtil.parseDuration("1h7m");
+    }
+
+    @Test
+    public void parseDuration_noUnit_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        ParserUtil.parseDuration("2");
+    }
 }
@@ -26,6 +26,22 @@ public class ScheduleGroupCommandParserTest {
         assertParseSuccess(parser, VALID_INFORMATION, new ScheduleGroupCommand(group));
     }
 
+    @Test
+    public void parse_minAttendanceAndDuration_returnsRankedScheduleGroupCommand() {
+        Group group = new Group(new Information(VALID_INFORMATION));
+        assertParseSuccess(parser, VALID_INFORMATION + " min/80% dur/2h", new ScheduleGroupCommand(group, 80, 120));
+        assertParseSuccess(parser, VALID_INFORMATION + " dur/1h30m", new ScheduleGroupCommand(group,
+                ScheduleGroupCommand.DEFAULT_MIN_ATTENDANCE_PERCENT, 90));
+        assertParseSuccess(parser, VALID_INFORMATION + " min/50", new ScheduleGroupCommand(group, 50,
+                ScheduleGroupCommand.DEFAULT_DURATION_MINUTES));
+    }
+
+    @Test
+    public void parse_invalidMinAttendanceOrDuration_throwsParseException() {
+        assertParseFailure(parser, VALID_INFORMATION + " min/0%", ParserUtil.MESSAGE_INVALID_PERCENTAGE);
+        assertParseFailure(parser, VALID_INFORMATION + " dur/2", ParserUtil.MESSAGE_INVALID_DURATION);
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, INVALID_INFORMATION,
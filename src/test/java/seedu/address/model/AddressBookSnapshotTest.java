@@ -0,0 +1,61 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookSnapshotTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void of_addressBook_sharesEntities() {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+
+        assertEquals(addressBook, new AddressBook(snapshot));
+        assertSame(addressBook.getPersonList().get(0), snapshot.getPersonList().get(0));
+        assertSame(addressBook.getGroupList().get(0), snapshot.getGroupList().get(0));
+    }
+
+    @Test
+    public void of_snapshot_returnsSameSnapshot() {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(getTypicalAddressBook());
+        assertSame(snapshot, AddressBookSnapshot.of(snapshot));
+    }
+
+    @Test
+    public void of_addressBookModifiedAfterwards_snapshotUnchanged() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+        AddressBook expectedAddressBook = getTypicalAddressBook();
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        addressBook.updatePerson(ALICE, editedAlice);
+        addressBook.removePerson(editedAlice);
+
+        assertEquals(expectedAddressBook, new AddressBook(snapshot));
+        for (Group group : snapshot.getGroupList()) {
+            assertFalse(group.getPersonList().contains(editedAlice));
+        }
+        assertTrue(snapshot.getPersonList().contains(ALICE));
+    }
+
+    @Test
+    public void getPersonList_modifyList_throwsUnsupportedOperationException() {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(getTypicalAddressBook());
+        thrown.expect(UnsupportedOperationException.class);
+        snapshot.getPersonList().remove(0);
+    }
+}
@@ -1,6 +1,9 @@
 package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_UNUSED;
@@ -16,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.Rule;
@@ -23,14 +27,20 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.event.Event;
 import seedu.address.model.group.Group;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
 import seedu.address.model.todo.ToDo;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.Assert;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -155,6 +165,121 @@ public class AddressBookTest {
     }
     //@@author
 
+    @Test
+    public void editTag_tagRenamedThenEveryUserRemoved_tagDropped() throws Exception {
+        Tag renamedFriend = new Tag("buddies", "red");
+        amyNBobAddressBook.editTag(new Tag(VALID_TAG_FRIEND), renamedFriend);
+        assertTrue(amyNBobAddressBook.getTagList().contains(renamedFriend));
+        assertFalse(amyNBobAddressBook.getTagList().contains(new Tag(VALID_TAG_FRIEND)));
+
+        amyNBobAddressBook.removePerson(new PersonBuilder(AMY).withTags("buddies").build());
+        assertTrue(amyNBobAddressBook.getTagList().contains(renamedFriend));
+        amyNBobAddressBook.removePerson(new PersonBuilder(BOB).withTags("buddies", VALID_TAG_HUSBAND).build());
+        assertEquals(Collections.emptyList(), amyNBobAddressBook.getTagList());
+    }
+
+    @Test
+    public void editTag_tagRenamedToRegisteredTag_throwsIllegalArgumentException() {
+        List<Tag> tagsBefore = new ArrayList<>(amyNBobAddressBook.getTagList());
+        Assert.assertThrows(IllegalArgumentException.class, TagRegistry.MESSAGE_DUPLICATE_TAG, () ->
+                amyNBobAddressBook.editTag(new Tag(VALID_TAG_FRIEND), new Tag(VALID_TAG_HUSBAND, "red")));
+        assertEquals(tagsBefore, amyNBobAddressBook.getTagList());
+    }
+
+    @Test
+    public void editTag_tagColorChangedThenEveryUserRemoved_tagDropped() throws Exception {
+        amyNBobAddressBook.editTag(new Tag(VALID_TAG_FRIEND), new Tag(VALID_TAG_FRIEND, "red"));
+        assertEquals("red", amyNBobAddressBook.getPersonList().get(0).getTags().iterator().next().color);
+
+        amyNBobAddressBook.removePerson(AMY);
+        amyNBobAddressBook.removePerson(BOB);
+        assertEquals(Collections.emptyList(), amyNBobAddressBook.getTagList());
+    }
+
+    @Test
+    public void updatePerson_lastUserOfTagEdited_tagDropped() throws Exception {
+        Person bobWithoutHusband = new PersonBuilder(BOB).withTags(VALID_TAG_FRIEND).build();
+        amyNBobAddressBook.updatePerson(BOB, bobWithoutHusband);
+
+        assertEquals(Collections.singletonList(new Tag(VALID_TAG_FRIEND)), amyNBobAddressBook.getTagList());
+    }
+
+    @Test
+    public void addPerson_duplicatePerson_tagsNotLeaked() throws Exception {
+        Person amyWithNewTag = new PersonBuilder(AMY).withTags(VALID_TAG_UNUSED).build();
+        try {
+            amyNBobAddressBook.addPerson(amyWithNewTag);
+        } catch (DuplicatePersonException dpe) {
+            // expected
+        }
+
+        AddressBook expectedAddressBook = new AddressBookBuilder().withPerson(AMY).withPerson(BOB).build();
+        assertEquals(expectedAddressBook, amyNBobAddressBook);
+    }
+
+    @Test
+    public void removePerson_memberOfGroups_removedFromGroups() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        Person alice = typicalAddressBook.getPersonList().get(0);
+        assertEquals(2, typicalAddressBook.getGroupsOf(alice).size());
+
+        typicalAddressBook.removePerson(alice);
+
+        assertEquals(Collections.emptySet(), typicalAddressBook.getGroupsOf(alice));
+        for (Group group : typicalAddressBook.getGroupList()) {
+            assertFalse(group.getPersonList().contains(alice));
+        }
+    }
+
+    @Test
+    public void updatePerson_memberOfGroups_groupsReferToEditedPerson() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        typicalAddressBook.updatePerson(ALICE, editedAlice);
+
+        assertEquals(2, typicalAddressBook.getGroupsOf(editedAlice).size());
+        for (Group group : typicalAddressBook.getGroupsOf(editedAlice)) {
+            assertTrue(group.getPersonList().contains(editedAlice));
+            assertFalse(group.getPersonList().contains(ALICE));
+        }
+    }
+
+    @Test
+    public void getPersonsWithPhoneAndEmail_personEditedAndRemoved_indexesUpdated() throws Exception {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_AMY).withEmail("Alice@Example.com")
+                .build();
+        Person aliceWithOtherName = new PersonBuilder(editedAlice).withName("Alicia").build();
+
+        addressBook.updatePerson(ALICE, editedAlice);
+        addressBook.addPerson(aliceWithOtherName);
+        assertEquals(Collections.emptySet(), addressBook.getPersonsWithPhone(ALICE.getPhone()));
+        assertEquals(new HashSet<>(Arrays.asList(editedAlice, aliceWithOtherName)),
+                addressBook.getPersonsWithPhone(new Phone(VALID_PHONE_AMY)));
+        assertEquals(new HashSet<>(Arrays.asList(editedAlice, aliceWithOtherName)),
+                addressBook.getPersonsWithEmail(new Email("alice@example.COM")));
+
+        addressBook.removePerson(editedAlice);
+        assertEquals(Collections.singleton(aliceWithOtherName),
+                addressBook.getPersonsWithPhone(new Phone(VALID_PHONE_AMY)));
+    }
+
+    @Test
+    public void getPersonsWithPhone_personListChanged_indexesUpdatedBeforeListeners() throws Exception {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_AMY).build();
+        List<Boolean> indexedWhenNotified = new ArrayList<>();
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change ->
+                indexedWhenNotified.add(addressBook.getPersonsWithPhone(new Phone(VALID_PHONE_AMY))
+                        .equals(new HashSet<>(addressBook.getPersonList()).contains(editedAlice)
+                                ? Collections.singleton(editedAlice) : Collections.emptySet())));
+
+        addressBook.updatePerson(ALICE, editedAlice);
+        addressBook.removePerson(editedAlice);
+        addressBook.addPerson(editedAlice);
+        assertEquals(Arrays.asList(true, true, true), indexedWhenNotified);
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons and tags lists can violate interface constraints.
      */
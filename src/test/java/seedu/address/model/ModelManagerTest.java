@@ -11,6 +11,8 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 
@@ -18,16 +20,22 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         ModelManager modelManager = new ModelManager();
@@ -65,6 +73,111 @@ public class ModelManagerTest {
     }
     //@@author
 
+    @Test
+    public void batch_multipleMutations_singleEventWithAllChanges() throws Exception {
+        ModelManager modelManager = new ModelManager();
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.batch(model -> {
+            model.addPerson(ALICE);
+            model.addPerson(BENSON);
+        });
+
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+        AddressBookChangedEvent event = (AddressBookChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(2, event.delta.getChanges().size());
+        assertTrue(event.delta.affects(Person.class));
+        assertFalse(event.delta.affects(Tag.class));
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                modelManager.getAddressBook());
+    }
+
+    @Test
+    public void batch_mutationFails_allMutationsRolledBack() throws Exception {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        ModelManager modelManager = new ModelManager(addressBook, new UserPrefs());
+        eventsCollectorRule.eventsCollector.reset();
+
+        try {
+            modelManager.batch(model -> {
+                model.addPerson(BENSON);
+                model.addPerson(ALICE);
+            });
+        } catch (DuplicatePersonException dpe) {
+            assertEquals(addressBook, modelManager.getAddressBook());
+            assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+            assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+            return;
+        }
+        throw new AssertionError("The expected DuplicatePersonException was not thrown.");
+    }
+
+    @Test
+    public void batch_nestedBatches_singleEvent() throws Exception {
+        ModelManager modelManager = new ModelManager();
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.batch(model -> {
+            model.addPerson(ALICE);
+            model.batch(innerModel -> innerModel.addPerson(BENSON));
+        });
+
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+    }
+
+    @Test
+    public void batch_noMutations_noEvent() {
+        ModelManager modelManager = new ModelManager();
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.batch(model -> { });
+
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
+    @Test
+    public void revert_deletedGroupMember_restoredAtSamePositionAndInGroups() throws Exception {
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        AddressBookDelta changes = modelManager.batch(model -> model.deletePerson(ALICE));
+        modelManager.revert(changes);
+
+        AddressBook expectedAddressBook = getTypicalAddressBook();
+        assertEquals(expectedAddressBook, modelManager.getAddressBook());
+        assertEquals(expectedAddressBook.getPersonList(), modelManager.getAddressBook().getPersonList());
+        assertEquals(expectedAddressBook.getGroupList(), modelManager.getAddressBook().getGroupList());
+    }
+
+    @Test
+    public void revert_multipleChanges_allReverted() throws Exception {
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        AddressBookDelta changes = modelManager.batch(model -> {
+            model.addPerson(AMY);
+            model.updatePerson(BENSON, editedBenson);
+            model.removeTag(new Tag(VALID_TAG_FRIEND));
+        });
+        eventsCollectorRule.eventsCollector.reset();
+        modelManager.revert(changes);
+
+        assertEquals(new ModelManager(getTypicalAddressBook(), new UserPrefs()), modelManager);
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+    }
+
+    @Test
+    public void updateFilteredPersonListByPhone_personEditedToPhone_personShown() throws Exception {
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonListByPhone(ALICE.getPhone());
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        Person editedBenson = new PersonBuilder(BENSON).withPhone(ALICE.getPhone().value).build();
+        modelManager.updatePerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(ALICE, editedBenson), modelManager.getFilteredPersonList());
+
+        // a later predicate replaces the phone filter for good
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Benson")));
+        modelManager.updatePerson(CARL, new PersonBuilder(CARL).withPhone(ALICE.getPhone().value).build());
+        assertEquals(Arrays.asList(editedBenson), modelManager.getFilteredPersonList());
+    }
 
     @Test
     public void equals() {
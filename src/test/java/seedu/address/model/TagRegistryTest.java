@@ -0,0 +1,83 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_COLOR_RED;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagNotFoundException;
+import seedu.address.model.tag.TagRegistry;
+import seedu.address.model.tag.UniqueTagList;
+
+public class TagRegistryTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final TagRegistry tagRegistry = new TagRegistry();
+
+    @Test
+    public void asObservableList_modifyList_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        tagRegistry.asObservableList().remove(0);
+    }
+
+    @Test
+    public void acquire_equivalentTags_returnsInternedInstances() throws Exception {
+        Tag registered = new Tag(VALID_TAG_FRIEND, VALID_TAG_COLOR_RED);
+        tagRegistry.add(registered);
+
+        Set<Tag> acquired = tagRegistry.acquire(Collections.singleton(new Tag(VALID_TAG_FRIEND)));
+        assertSame(registered, acquired.iterator().next());
+        assertEquals(1, tagRegistry.getUsageCount(registered));
+        assertEquals(1, tagRegistry.asObservableList().size());
+    }
+
+    @Test
+    public void release_lastUser_dropsTag() {
+        Set<Tag> tags = Collections.singleton(new Tag(VALID_TAG_HUSBAND));
+        tagRegistry.acquire(tags);
+        tagRegistry.acquire(tags);
+
+        tagRegistry.release(tags);
+        assertTrue(tagRegistry.contains(new Tag(VALID_TAG_HUSBAND)));
+
+        tagRegistry.release(tags);
+        assertFalse(tagRegistry.contains(new Tag(VALID_TAG_HUSBAND)));
+        assertEquals(Collections.emptyList(), tagRegistry.asObservableList());
+    }
+
+    @Test
+    public void replace_keepsUsageCount() throws Exception {
+        Tag friend = new Tag(VALID_TAG_FRIEND);
+        tagRegistry.acquire(Collections.singleton(friend));
+        Tag redFriend = new Tag(VALID_TAG_FRIEND, VALID_TAG_COLOR_RED);
+        tagRegistry.replace(friend, redFriend);
+
+        assertSame(redFriend, tagRegistry.asObservableList().get(0));
+        assertEquals(1, tagRegistry.getUsageCount(redFriend));
+    }
+
+    @Test
+    public void replace_tagNotRegistered_throwsTagNotFoundException() throws Exception {
+        thrown.expect(TagNotFoundException.class);
+        tagRegistry.replace(new Tag(VALID_TAG_FRIEND), new Tag(VALID_TAG_FRIEND, VALID_TAG_COLOR_RED));
+    }
+
+    @Test
+    public void add_duplicateTag_throwsDuplicateTagException() throws Exception {
+        tagRegistry.add(new Tag(VALID_TAG_FRIEND));
+        thrown.expect(UniqueTagList.DuplicateTagException.class);
+        tagRegistry.add(new Tag(VALID_TAG_FRIEND));
+    }
+}
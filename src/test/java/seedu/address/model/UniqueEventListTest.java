@@ -3,10 +3,13 @@ package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EVENT_NAME_NDP;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EVENT_VENUE_NDP;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 
@@ -16,6 +19,7 @@ import org.junit.rules.ExpectedException;
 
 import seedu.address.model.event.Event;
 import seedu.address.model.event.UniqueEventList;
+import seedu.address.model.event.WeeklyEvent;
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.event.exceptions.EventNotFoundException;
 import seedu.address.testutil.EventBuilder;
@@ -194,4 +198,51 @@ public class UniqueEventListTest {
 
         assertEquals(uniqueEventList1, uniqueEventList2);
     }
+
+    @Test
+    public void getEventsOn_eventsAddedAndRemoved_indexUpdated() throws Exception {
+        UniqueEventList uniqueEventList = new UniqueEventList();
+        Event f1 = new EventBuilder().withDate("19/07/2018").build();
+        Event ndp = new EventBuilder().withName(VALID_EVENT_NAME_NDP).withDate("9/8/2018").build();
+        uniqueEventList.add(f1);
+        uniqueEventList.add(ndp);
+
+        assertEquals(Arrays.asList(f1), uniqueEventList.getEventsOn(LocalDate.of(2018, 7, 19)));
+        assertEquals(Arrays.asList(ndp), uniqueEventList.getEventsOn(LocalDate.of(2018, 8, 9)));
+        assertTrue(uniqueEventList.getEventsOn(LocalDate.of(2018, 7, 20)).isEmpty());
+
+        uniqueEventList.removeEvent(ndp);
+        assertTrue(uniqueEventList.getEventsOn(LocalDate.of(2018, 8, 9)).isEmpty());
+    }
+
+    @Test
+    public void getEventsOn_eventEdited_movedToNewDate() throws Exception {
+        UniqueEventList uniqueEventList = new UniqueEventList();
+        Event f1 = new EventBuilder().withDate("19/07/2018").build();
+        Event editedF1 = new EventBuilder().withDate("20/07/2018").build();
+        uniqueEventList.add(f1);
+        uniqueEventList.setEvent(f1, editedF1);
+
+        assertTrue(uniqueEventList.getEventsOn(LocalDate.of(2018, 7, 19)).isEmpty());
+        assertEquals(Arrays.asList(editedF1), uniqueEventList.getEventsOn(LocalDate.of(2018, 7, 20)));
+    }
+
+    @Test
+    public void getEventsOn_eventsReplaced_indexReplaced() throws Exception {
+        UniqueEventList uniqueEventList = new UniqueEventList();
+        Event f1 = new EventBuilder().withDate("19/07/2018").build();
+        Event ndp = new EventBuilder().withName(VALID_EVENT_NAME_NDP).withDate("19/07/2018").build();
+        uniqueEventList.add(f1);
+        uniqueEventList.setEvents(Arrays.asList(ndp));
+
+        assertEquals(Arrays.asList(ndp), uniqueEventList.getEventsOn(LocalDate.of(2018, 7, 19)));
+    }
+
+    @Test
+    public void getEventsOn_weeklyEvent_notIndexed() throws Exception {
+        UniqueEventList uniqueEventList = new UniqueEventList();
+        uniqueEventList.add(new WeeklyEvent("CS2103T", "COM1", "1000", "1200", "Monday"));
+        assertEquals(1, uniqueEventList.asObservableList().size());
+        assertTrue(uniqueEventList.getEventsOn(LocalDate.now()).isEmpty());
+    }
 }
@@ -1,10 +1,23 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Arrays;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
     @Rule
@@ -16,4 +29,47 @@ public class UniquePersonListTest {
         thrown.expect(UnsupportedOperationException.class);
         uniquePersonList.asObservableList().remove(0);
     }
+
+    @Test
+    public void add_personWithDifferentTags_throwsDuplicatePersonException() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.add(ALICE);
+        Person aliceWithOtherTags = new PersonBuilder(ALICE).withTags("colleague").build();
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.add(aliceWithOtherTags);
+    }
+
+    @Test
+    public void remove_personInMiddle_keepsIndexConsistent() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        uniquePersonList.remove(BENSON);
+
+        assertFalse(uniquePersonList.contains(BENSON));
+        assertEquals(0, uniquePersonList.indexOf(ALICE));
+        assertEquals(1, uniquePersonList.indexOf(CARL));
+        assertEquals(-1, uniquePersonList.indexOf(BENSON));
+        assertEquals(Arrays.asList(ALICE, CARL), uniquePersonList.asObservableList());
+    }
+
+    @Test
+    public void setPerson_replacesInPlace() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(editedAlice));
+        assertEquals(0, uniquePersonList.indexOf(editedAlice));
+        assertEquals(Arrays.asList(editedAlice, BENSON), uniquePersonList.asObservableList());
+    }
+
+    @Test
+    public void remove_personNotInList_throwsPersonNotFoundException() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.add(ALICE);
+        thrown.expect(PersonNotFoundException.class);
+        uniquePersonList.remove(BENSON);
+    }
 }
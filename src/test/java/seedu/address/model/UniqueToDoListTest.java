@@ -12,6 +12,7 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.address.model.todo.Content;
+import seedu.address.model.todo.Status;
 import seedu.address.model.todo.ToDo;
 import seedu.address.model.todo.UniqueToDoList;
 
@@ -26,6 +27,29 @@ public class UniqueToDoListTest {
         uniqueToDoList.asObservableList().remove(0);
     }
 
+    @Test
+    public void getCompleteRatio_afterMutations_tracksDoneToDos() throws Exception {
+        UniqueToDoList uniqueToDoList = new UniqueToDoList();
+        ToDo undoneE = new ToDo(new Content(CONTENT_E));
+        ToDo doneB = new ToDo(new Content(CONTENT_B), Status.DONE);
+        uniqueToDoList.add(undoneE);
+        uniqueToDoList.add(doneB);
+        assertEquals(0.5, uniqueToDoList.getCompleteRatio(), 0.0);
+
+        uniqueToDoList.setToDo(undoneE, new ToDo(new Content(CONTENT_E), Status.DONE));
+        assertEquals(1.0, uniqueToDoList.getCompleteRatio(), 0.0);
+
+        // removing with an equivalent to-do of a different status still uncounts the stored one
+        uniqueToDoList.remove(new ToDo(new Content(CONTENT_B)));
+        assertEquals(1, uniqueToDoList.getNumberOfDoneToDos());
+        assertEquals(0, uniqueToDoList.getNumberOfUndoneToDos());
+
+        UniqueToDoList replacement = new UniqueToDoList();
+        replacement.add(new ToDo(new Content(VALID_CONTENT)));
+        uniqueToDoList.setToDos(replacement);
+        assertEquals(0.0, uniqueToDoList.getCompleteRatio(), 0.0);
+    }
+
     //@@author LeonidAgarth
     @Test
     public void equals_sameList_true() throws Exception {
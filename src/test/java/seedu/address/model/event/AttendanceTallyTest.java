@@ -0,0 +1,81 @@
+package seedu.address.model.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.event.AttendanceTally.RankedWindow;
+import seedu.address.model.event.WeeklyAvailability.Window;
+
+public class AttendanceTallyTest {
+    private static final int[] MONDAY_AND_TUESDAY = {0, 1};
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void getBestWindows_rankedByAttendance() {
+        AttendanceTally<String> tally = new AttendanceTally<>(MONDAY_AND_TUESDAY, 8 * 60, 12 * 60, 120, 60);
+        tally.add("Alice", busy(0, 8 * 60, 10 * 60));
+        tally.add("Bob", busy(0, 8 * 60, 9 * 60));
+        tally.add("Carl", busy(1, 9 * 60, 10 * 60));
+
+        List<RankedWindow<String>> expected = Arrays.asList(
+                new RankedWindow<>(new Window(0, 10 * 60, 12 * 60), 3, Collections.emptyList()),
+                new RankedWindow<>(new Window(1, 10 * 60, 12 * 60), 3, Collections.emptyList()),
+                new RankedWindow<>(new Window(1, 8 * 60, 10 * 60), 2, Collections.singletonList("Carl")));
+        assertEquals(expected, tally.getBestWindows(2, 5));
+    }
+
+    @Test
+    public void getBestWindows_overlappingWindows_onlyBestKept() {
+        AttendanceTally<String> tally = new AttendanceTally<>(new int[] {0}, 8 * 60, 12 * 60, 120, 60);
+        tally.add("Alice", busy(0, 8 * 60, 9 * 60));
+        tally.add("Bob", busy(0, 11 * 60, 12 * 60));
+
+        List<RankedWindow<String>> expected = Collections.singletonList(
+                new RankedWindow<>(new Window(0, 9 * 60, 11 * 60), 2, Collections.emptyList()));
+        assertEquals(expected, tally.getBestWindows(2, 5));
+        assertEquals(expected, tally.getBestWindows(1, 5));
+    }
+
+    @Test
+    public void getBestWindows_limit_topWindowsOnly() {
+        AttendanceTally<String> tally = new AttendanceTally<>(MONDAY_AND_TUESDAY, 8 * 60, 18 * 60, 60, 60);
+        tally.add("Alice", new WeeklyAvailability());
+        assertEquals(3, tally.getBestWindows(1, 3).size());
+        assertEquals(new Window(0, 8 * 60, 9 * 60), tally.getBestWindows(1, 3).get(0).getWindow());
+    }
+
+    @Test
+    public void getBestWindows_noMembers_noWindows() {
+        AttendanceTally<String> tally = new AttendanceTally<>(MONDAY_AND_TUESDAY, 8 * 60, 18 * 60, 60, 60);
+        assertTrue(tally.getBestWindows(0, 5).isEmpty());
+    }
+
+    @Test
+    public void getBestWindows_durationLongerThanHours_noWindows() {
+        AttendanceTally<String> tally = new AttendanceTally<>(MONDAY_AND_TUESDAY, 8 * 60, 10 * 60, 180, 60);
+        tally.add("Alice", new WeeklyAvailability());
+        assertTrue(tally.getBestWindows(1, 5).isEmpty());
+    }
+
+    @Test
+    public void constructor_repeatedDay_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new AttendanceTally<String>(new int[] {0, 0}, 8 * 60, 18 * 60, 60, 60);
+    }
+
+    private static WeeklyAvailability busy(int dayIndex, int startMinute, int endMinute) {
+        WeeklyAvailability availability = new WeeklyAvailability();
+        availability.markBusy(dayIndex, startMinute, endMinute);
+        return availability;
+    }
+}
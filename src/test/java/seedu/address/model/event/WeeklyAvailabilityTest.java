@@ -0,0 +1,90 @@
+package seedu.address.model.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.event.WeeklyAvailability.Window;
+
+public class WeeklyAvailabilityTest {
+    private static final int[] MONDAY = {0};
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_wholeWeekFree() {
+        WeeklyAvailability availability = new WeeklyAvailability();
+        assertEquals(WeeklyAvailability.DAYS_PER_WEEK * WeeklyAvailability.MINUTES_PER_DAY,
+                availability.getFreeMinutes());
+        assertTrue(availability.isFree(6, 0, WeeklyAvailability.MINUTES_PER_DAY));
+    }
+
+    @Test
+    public void markBusy_partialCells_wholeCellsMarked() {
+        WeeklyAvailability availability = new WeeklyAvailability();
+        availability.markBusy(0, 8 * 60 + 3, 9 * 60 + 1);
+
+        assertFalse(availability.isFree(0, 8 * 60, 8 * 60 + 5));
+        assertFalse(availability.isFree(0, 9 * 60, 9 * 60 + 5));
+        assertTrue(availability.isFree(0, 9 * 60 + 5, 10 * 60));
+        assertTrue(availability.isFree(1, 8 * 60, 9 * 60));
+        assertEquals(7 * 24 * 60 - 65, availability.getFreeMinutes());
+    }
+
+    @Test
+    public void markBusy_acrossWords_allCellsMarked() {
+        WeeklyAvailability availability = new WeeklyAvailability();
+        availability.markBusy(3, 0, WeeklyAvailability.MINUTES_PER_DAY);
+        assertEquals(6 * 24 * 60, availability.getFreeMinutes());
+        assertTrue(availability.isFree(2, 0, WeeklyAvailability.MINUTES_PER_DAY));
+        assertTrue(availability.isFree(4, 0, WeeklyAvailability.MINUTES_PER_DAY));
+    }
+
+    @Test
+    public void retainFree_twoMembers_commonFreeTime() {
+        WeeklyAvailability first = WeeklyAvailability.of(Collections.singletonList(
+                new WeeklyEvent("CS2101", "COM1", "0800", "1000", "Monday")));
+        WeeklyAvailability second = WeeklyAvailability.of(Collections.singletonList(
+                new WeeklyEvent("CS2103T", "I3", "1100", "1200", "Monday")));
+        first.retainFree(second);
+
+        List<Window> expected = Arrays.asList(new Window(0, 10 * 60, 11 * 60), new Window(0, 12 * 60, 13 * 60));
+        assertEquals(expected, first.findFreeWindows(MONDAY, 8 * 60, 13 * 60, 60, 60));
+    }
+
+    @Test
+    public void findFreeWindows_shorterStep_overlappingWindows() {
+        WeeklyAvailability availability = new WeeklyAvailability();
+        availability.markBusy(0, 9 * 60, 10 * 60);
+
+        List<Window> expected = Arrays.asList(new Window(0, 10 * 60, 11 * 60 + 30),
+                new Window(0, 10 * 60 + 30, 12 * 60));
+        assertEquals(expected, availability.findFreeWindows(MONDAY, 8 * 60, 12 * 60, 90, 30));
+    }
+
+    @Test
+    public void findFreeWindows_invalidDuration_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new WeeklyAvailability().findFreeWindows(MONDAY, 8 * 60, 12 * 60, 7, 60);
+    }
+
+    @Test
+    public void equals() {
+        WeeklyAvailability availability = new WeeklyAvailability();
+        assertEquals(availability, new WeeklyAvailability(availability));
+
+        WeeklyAvailability busy = new WeeklyAvailability();
+        busy.markBusy(5, 0, 5);
+        assertNotEquals(availability, busy);
+    }
+}
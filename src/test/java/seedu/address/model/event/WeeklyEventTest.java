@@ -1,6 +1,7 @@
 //@@author LeonidAgarth
 package seedu.address.model.event;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_EVENT_DATE_DESC;
@@ -84,6 +85,35 @@ public class WeeklyEventTest {
         assertFalse(event3.clash(event5));
     }
 
+    @Test
+    public void clash_timesAndDays_parsedOnce() {
+        WeeklyEvent morning = new WeeklyEvent(new Module("CS2103", "Software Engineer"),
+                new Schedule("1", "Lecture", "1", "Wednesday", "800", "1000", "I3"));
+        assertEquals(2, morning.getDayIndex());
+        assertEquals(480, morning.getStartMinute());
+        assertEquals(600, morning.getEndMinute());
+
+        assertTrue(morning.clash("WEDNESDAY", "0930", "1030"));
+        assertFalse(morning.clash("Wednesday", "1000", "1100"));
+        assertFalse(morning.clash("Thursday", "0800", "1000"));
+        assertTrue(morning.clash(2, 590, 600));
+    }
+
+    @Test
+    public void clash_unknownDayOrTime_noClash() {
+        WeeklyEvent blank = new WeeklyEvent("CS2103T", "", "", "", "", "");
+        assertEquals(WeeklyEvent.UNKNOWN_DAY, blank.getDayIndex());
+        assertEquals(Event.UNKNOWN_MINUTE, blank.getStartMinute());
+        assertFalse(blank.clash(blank));
+        assertFalse(event1.clash("Wednesday", "", "1600"));
+    }
+
+    @Test
+    public void equals_sameDetails_true() {
+        assertTrue(new WeeklyEvent("CS2101", "COM1", "1500", "1600", "WEDNESDAY").equals(event1));
+        assertFalse(new WeeklyEvent("CS2101", "COM1", "1500", "1600", "WEDNESDAY", "Lecture").equals(event1));
+    }
+
     @Test
     public void toString_test() {
         assertTrue(event1.toString().equals(event1.toString()));
@@ -5,6 +5,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Locale;
+
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
@@ -62,6 +64,17 @@ public class EmailTest {
         assertTrue(Email.isValidEmail("if.you.dream.it_you.can.do.it@example.com"));    // long local part
     }
 
+    @Test
+    public void getNormalizedValue_turkishLocale_sameAsRootLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            assertEquals("title@example.com", new Email("TITLE@EXAMPLE.COM").getNormalizedValue());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     //@@author LeonidAgarth
     @Test
     public void hashCode_variousTest() {
@@ -59,6 +59,14 @@ public class StatusTest {
         assertTrue(firstStatus.equals(secondStatus));
     }
 
+    @Test
+    public void isDone() {
+        assertTrue(new Status(VALID_STATUS_DONE).isDone());
+        assertFalse(new Status(VALID_STATUS_UNDONE).isDone());
+        assertTrue(Status.DONE.equals(new Status(VALID_STATUS_DONE)));
+        assertFalse(Status.DONE.equals(Status.UNDONE));
+    }
+
     @Test
     public void isSameStatusString() {
         Status status = new Status(VALID_STATUS_DONE);
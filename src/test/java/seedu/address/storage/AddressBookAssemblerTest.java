@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.commons.exceptions.InvalidEntitiesException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.testutil.GroupBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookAssemblerTest {
+
+    private static final int MANY_PERSONS = 2000;
+
+    @Test
+    public void assemble_manyPersons_addedInOrder() throws Exception {
+        List<Person> expected = new ArrayList<>();
+        List<XmlAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < MANY_PERSONS; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(90000000 + i))
+                    .withEmail("person" + i + "@example.com").build();
+            expected.add(person);
+            persons.add(new XmlAdaptedPerson(person));
+        }
+
+        AddressBook addressBook = assemble(persons, Collections.emptyList());
+        assertEquals(expected, addressBook.getPersonList());
+    }
+
+    @Test
+    public void assemble_groupMembersStoredAsReferences_resolvedAgainstPersons() throws Exception {
+        List<XmlAdaptedPerson> persons = Arrays.asList(new XmlAdaptedPerson(ALICE), new XmlAdaptedPerson(BENSON));
+        Group group = new GroupBuilder().withPerson("Group A", BENSON).build();
+        XmlAdaptedGroup adaptedGroup = new XmlAdaptedGroup("Group A", Collections.emptyList(),
+                Collections.singletonList(1));
+
+        AddressBook addressBook = assemble(persons, Collections.singletonList(adaptedGroup));
+        assertEquals(Collections.singletonList(group), addressBook.getGroupList());
+    }
+
+    @Test
+    public void assemble_manyInvalidPersons_everyInvalidPersonReported() throws Exception {
+        List<XmlAdaptedPerson> persons = new ArrayList<>();
+        List<String> expectedErrors = new ArrayList<>();
+        for (int i = 0; i < MANY_PERSONS; i++) {
+            if (i % 500 == 1) {
+                persons.add(new XmlAdaptedPerson("R@chel", "98765432", "rachel@example.com", "Street",
+                        ALICE.getTimeTableLink().value, "Detail", Collections.emptyList()));
+                expectedErrors.add(String.format(AddressBookAssembler.MESSAGE_INVALID_ENTITY, "Person", i + 1,
+                        Name.MESSAGE_NAME_CONSTRAINTS));
+            } else if (i % 500 == 2) {
+                persons.add(new XmlAdaptedPerson("Rachel", "+651234", "rachel@example.com", "Street",
+                        ALICE.getTimeTableLink().value, "Detail", Collections.emptyList()));
+                expectedErrors.add(String.format(AddressBookAssembler.MESSAGE_INVALID_ENTITY, "Person", i + 1,
+                        Phone.MESSAGE_PHONE_CONSTRAINTS));
+            } else {
+                persons.add(new XmlAdaptedPerson(new PersonBuilder().withName("Person " + i)
+                        .withPhone(String.valueOf(90000000 + i)).withEmail("person" + i + "@example.com").build()));
+            }
+        }
+
+        try {
+            assemble(persons, Collections.emptyList());
+            fail("The expected InvalidEntitiesException was not thrown.");
+        } catch (InvalidEntitiesException iee) {
+            assertEquals(expectedErrors, iee.getErrors());
+        }
+    }
+
+    @Test
+    public void assemble_duplicatePersons_everyDuplicateReported() throws Exception {
+        List<XmlAdaptedPerson> persons = Arrays.asList(new XmlAdaptedPerson(ALICE), new XmlAdaptedPerson(BENSON),
+                new XmlAdaptedPerson(ALICE), new XmlAdaptedPerson(BENSON));
+        String duplicateMessage = new DuplicatePersonException().getMessage();
+
+        try {
+            assemble(persons, Collections.emptyList());
+            fail("The expected InvalidEntitiesException was not thrown.");
+        } catch (InvalidEntitiesException iee) {
+            assertEquals(Arrays.asList(
+                    String.format(AddressBookAssembler.MESSAGE_INVALID_ENTITY, "Person", 3, duplicateMessage),
+                    String.format(AddressBookAssembler.MESSAGE_INVALID_ENTITY, "Person", 4, duplicateMessage)),
+                    iee.getErrors());
+        }
+    }
+
+    private static AddressBook assemble(List<XmlAdaptedPerson> persons, List<XmlAdaptedGroup> groups)
+            throws Exception {
+        return AddressBookAssembler.assemble(Collections.emptyList(), persons, Collections.emptyList(), groups,
+                Collections.emptyList());
+    }
+}
@@ -0,0 +1,171 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_STATUS_DONE;
+import static seedu.address.testutil.Assert.assertSameData;
+import static seedu.address.testutil.TypicalEvents.F1RACE;
+import static seedu.address.testutil.TypicalGroups.GROUP_A;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalToDos.TODO_A;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.event.Event;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+import seedu.address.model.todo.ToDo;
+import seedu.address.testutil.GroupBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.ToDoBuilder;
+
+public class AddressBookJournalTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private XmlAddressBookStorage storage;
+    private AddressBookJournal journal;
+
+    @Before
+    public void setUp() throws Exception {
+        String filePath = new File(testFolder.getRoot(), "addressbook.xml").getPath();
+        storage = new XmlAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        journal = new AddressBookJournal(filePath);
+    }
+
+    @Test
+    public void replay_appendedChanges_addressBookAsChanged() throws Exception {
+        AddressBook expected = getTypicalAddressBook();
+        AddressBookDelta delta = makeChanges(expected);
+        journal.start();
+        journal.append(delta.getChanges());
+
+        AddressBook actual = readAddressBook();
+        assertEquals(delta.size(), new AddressBookJournal(storage.getAddressBookFilePath()).replay(actual));
+        assertSameData(expected, actual);
+    }
+
+    @Test
+    public void replay_noJournal_journalStarted() throws Exception {
+        assertEquals(0, journal.replay(readAddressBook()));
+        assertTrue(journal.isStarted());
+        assertTrue(new File(journal.getJournalFilePath()).exists());
+    }
+
+    @Test
+    public void replay_dataFileWrittenAfterJournal_journalIgnored() throws Exception {
+        AddressBook changed = getTypicalAddressBook();
+        AddressBookDelta delta = makeChanges(changed);
+        journal.start();
+        journal.append(delta.getChanges());
+        storage.saveAddressBook(new AddressBook());
+
+        AddressBook actual = readAddressBook();
+        assertEquals(0, journal.replay(actual));
+        assertSameData(new AddressBook(), actual);
+        assertTrue(journal.isStarted());
+    }
+
+    @Test
+    public void replay_incompleteLastChange_completeChangesReplayed() throws Exception {
+        AddressBook expected = getTypicalAddressBook();
+        AddressBookDelta delta = new AddressBookDelta();
+        expected.addPerson(AMY);
+        delta.recordAddition(Person.class, AMY);
+        journal.start();
+        journal.append(delta.getChanges());
+        long completeSize = journal.size();
+
+        AddressBookDelta lastDelta = new AddressBookDelta();
+        lastDelta.recordAddition(Event.class, F1RACE);
+        journal.append(lastDelta.getChanges());
+        try (RandomAccessFile file = new RandomAccessFile(journal.getJournalFilePath(), "rw")) {
+            file.setLength(completeSize + (journal.size() - completeSize) / 2);
+        }
+
+        AddressBook actual = readAddressBook();
+        assertEquals(1, journal.replay(actual));
+        assertSameData(expected, actual);
+        assertFalse(journal.isStarted());
+    }
+
+    @Test
+    public void replay_corruptChange_changesBeforeReplayed() throws Exception {
+        AddressBook expected = getTypicalAddressBook();
+        AddressBookDelta delta = new AddressBookDelta();
+        expected.addPerson(AMY);
+        delta.recordAddition(Person.class, AMY);
+        journal.start();
+        journal.append(delta.getChanges());
+        Files.write(new File(journal.getJournalFilePath()).toPath(),
+                "5\n<abc>\n".getBytes(StandardCharsets.US_ASCII), StandardOpenOption.APPEND);
+
+        AddressBook actual = readAddressBook();
+        assertEquals(1, journal.replay(actual));
+        assertSameData(expected, actual);
+        assertFalse(journal.isStarted());
+    }
+
+    @Test
+    public void start_afterChanges_journalEmptied() throws Exception {
+        journal.start();
+        long emptySize = journal.size();
+        journal.append(makeChanges(getTypicalAddressBook()).getChanges());
+        assertTrue(journal.size() > emptySize);
+
+        journal.start();
+        assertEquals(emptySize, journal.size());
+    }
+
+    /**
+     * Makes one change of each kind journaled to {@code addressBook}, and returns the changes made.
+     */
+    private static AddressBookDelta makeChanges(AddressBook addressBook) throws Exception {
+        AddressBookDelta delta = new AddressBookDelta();
+
+        addressBook.addPerson(AMY);
+        delta.recordAddition(Person.class, AMY);
+
+        Person editedDaniel = new PersonBuilder(DANIEL).withPhone("91234567").build();
+        addressBook.updatePerson(DANIEL, editedDaniel);
+        delta.recordUpdate(Person.class, DANIEL, editedDaniel);
+
+        Group groupWithBenson = new GroupBuilder().withPerson("Group A", BENSON).build();
+        addressBook.updateGroup(GROUP_A, groupWithBenson);
+        delta.recordUpdate(Group.class, GROUP_A, groupWithBenson);
+
+        ToDo doneToDo = new ToDoBuilder(TODO_A).withStatus(VALID_STATUS_DONE).build();
+        addressBook.updateToDo(TODO_A, doneToDo);
+        delta.recordUpdate(ToDo.class, TODO_A, doneToDo);
+
+        addressBook.addEvent(F1RACE);
+        delta.recordAddition(Event.class, F1RACE);
+
+        int index = addressBook.indexOfPerson(CARL);
+        addressBook.removePerson(CARL);
+        delta.recordRemoval(Person.class, CARL, index);
+        return delta;
+    }
+
+    private AddressBook readAddressBook() throws Exception {
+        return (AddressBook) storage.readAddressBook().get();
+    }
+}
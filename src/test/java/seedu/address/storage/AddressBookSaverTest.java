@@ -0,0 +1,207 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+public class AddressBookSaverTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final BlockingStorageStub storage = new BlockingStorageStub();
+    private final List<Exception> failures = Collections.synchronizedList(new ArrayList<>());
+    private final AddressBookSaver saver = new AddressBookSaver(storage, failures::add);
+
+    @Test
+    public void save_manyChangesWhileSaving_onlyLatestSnapshotSavedAfterwards() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        saver.save(addressBook);
+        assertTrue(storage.started.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 20; i++) {
+            saver.save(addressBook);
+        }
+        addressBook.addPerson(ALICE);
+        saver.save(addressBook);
+        storage.release.countDown();
+        saver.flush();
+
+        assertEquals(2, storage.saved.size());
+        assertEquals(2, saver.getSaveCount());
+        assertEquals(Collections.singletonList(ALICE), storage.saved.get(1).getPersonList());
+        assertTrue(failures.isEmpty());
+    }
+
+    @Test
+    public void save_addressBookChangedAfterwards_snapshotSaved() {
+        storage.release.countDown();
+        AddressBook addressBook = getTypicalAddressBook();
+        saver.save(addressBook);
+        addressBook.resetData(new AddressBook());
+        saver.flush();
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.saved.get(0)));
+    }
+
+    @Test
+    public void save_storageFails_failureReported() {
+        IOException failure = new IOException("dummy exception");
+        storage.failure = failure;
+        storage.release.countDown();
+        saver.save(new AddressBook());
+        saver.flush();
+
+        assertEquals(1, failures.size());
+        assertSame(failure, failures.get(0));
+    }
+
+    @Test
+    public void flush_nothingToSave_returnsImmediately() {
+        saver.flush();
+        assertEquals(0, saver.getSaveCount());
+    }
+
+    @Test
+    public void save_journalStarted_changeAppendedToJournal() throws Exception {
+        CountingStorage countingStorage = new CountingStorage(getTempFilePath());
+        AddressBookJournal journal = startJournal(countingStorage);
+        AddressBookSaver journalingSaver = new AddressBookSaver(countingStorage, journal,
+                AddressBookJournal.DEFAULT_COMPACTION_THRESHOLD, failures::add);
+        long emptySize = journal.size();
+
+        saveWithAmy(journalingSaver, getTypicalAddressBook());
+
+        assertEquals(1, countingStorage.saveCount.get());
+        assertTrue(journal.size() > emptySize);
+        AddressBook replayed = (AddressBook) countingStorage.readAddressBook().get();
+        journal.replay(replayed);
+        assertEquals(withAmy(getTypicalAddressBook()), replayed);
+        assertTrue(failures.isEmpty());
+    }
+
+    @Test
+    public void save_journalPastCompactionThreshold_journalFoldedIntoDataFile() throws Exception {
+        CountingStorage countingStorage = new CountingStorage(getTempFilePath());
+        AddressBookJournal journal = startJournal(countingStorage);
+        AddressBookSaver journalingSaver = new AddressBookSaver(countingStorage, journal, 1, failures::add);
+        long emptySize = journal.size();
+
+        saveWithAmy(journalingSaver, getTypicalAddressBook());
+
+        assertEquals(2, countingStorage.saveCount.get());
+        assertEquals(emptySize, journal.size());
+        assertEquals(withAmy(getTypicalAddressBook()), countingStorage.readAddressBook().get());
+        assertTrue(failures.isEmpty());
+    }
+
+    @Test
+    public void save_addressBookReplaced_savedInFull() throws Exception {
+        CountingStorage countingStorage = new CountingStorage(getTempFilePath());
+        AddressBookJournal journal = startJournal(countingStorage);
+        AddressBookSaver journalingSaver = new AddressBookSaver(countingStorage, journal,
+                AddressBookJournal.DEFAULT_COMPACTION_THRESHOLD, failures::add);
+
+        journalingSaver.save(new AddressBook(), AddressBookDelta.reset());
+        journalingSaver.flush();
+
+        assertEquals(2, countingStorage.saveCount.get());
+        assertEquals(new AddressBook(), countingStorage.readAddressBook().get());
+        assertTrue(journal.isStarted());
+    }
+
+    private String getTempFilePath() {
+        return new File(testFolder.getRoot(), "addressbook.xml").getPath();
+    }
+
+    /**
+     * Saves the typical address book to {@code storage}, and returns a journal started following it.
+     */
+    private static AddressBookJournal startJournal(CountingStorage storage) throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBookJournal journal = new AddressBookJournal(storage.getAddressBookFilePath());
+        journal.start();
+        return journal;
+    }
+
+    /**
+     * Adds AMY to {@code addressBook} and saves the change with {@code saver}.
+     */
+    private static void saveWithAmy(AddressBookSaver saver, AddressBook addressBook) throws Exception {
+        AddressBookDelta delta = new AddressBookDelta();
+        addressBook.addPerson(AMY);
+        delta.recordAddition(Person.class, AMY);
+        saver.save(addressBook, delta);
+        saver.flush();
+    }
+
+    private static AddressBook withAmy(AddressBook addressBook) throws Exception {
+        addressBook.addPerson(AMY);
+        return addressBook;
+    }
+
+    /**
+     * A storage counting the number of times it saved the address book in full.
+     */
+    private static class CountingStorage extends XmlAddressBookStorage {
+        private final AtomicInteger saveCount = new AtomicInteger();
+
+        CountingStorage(String filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            saveCount.incrementAndGet();
+            super.saveAddressBook(addressBook);
+        }
+    }
+
+    /**
+     * A stub storage recording the address books it saves, which waits for {@code release} before saving.
+     */
+    private static class BlockingStorageStub extends XmlAddressBookStorage {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<ReadOnlyAddressBook> saved = Collections.synchronizedList(new ArrayList<>());
+        private volatile IOException failure = null;
+
+        BlockingStorageStub() {
+            super("dummy");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            saved.add(addressBook);
+        }
+    }
+}
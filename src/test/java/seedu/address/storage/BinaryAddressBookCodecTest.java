@@ -0,0 +1,143 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.Assert.assertSameData;
+import static seedu.address.testutil.TypicalEvents.F1RACE;
+import static seedu.address.testutil.TypicalEvents.GSS;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.StreamCorruptedException;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.GroupBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookCodecTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void read_writtenAddressBook_sameAddressBook() throws Exception {
+        AddressBook original = getAddressBookWithEveryEntity();
+        assertSameData(original, read(write(original)));
+    }
+
+    @Test
+    public void read_writtenEmptyAddressBook_emptyAddressBook() throws Exception {
+        assertSameData(new AddressBook(), read(write(new AddressBook())));
+    }
+
+    @Test
+    public void read_coloredTags_colorsKept() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addTag(new Tag("friends", "red"));
+        original.addPerson(new PersonBuilder().withName("Red Friend").withTags("friends", "colleagues").build());
+        AddressBook read = read(write(original));
+        assertSameData(original, read);
+        for (int i = 0; i < original.getTagList().size(); i++) {
+            assertEquals(original.getTagList().get(i).color, read.getTagList().get(i).color);
+        }
+    }
+
+    @Test
+    public void write_readFromXml_sameXmlWrittenBack() throws Exception {
+        AddressBook original = getAddressBookWithEveryEntity();
+        ByteArrayOutputStream xml = new ByteArrayOutputStream();
+        XmlAddressBookCodec.write(original, xml);
+
+        AddressBook fromBinary = read(write(XmlAddressBookCodec.read(new ByteArrayInputStream(xml.toByteArray()))));
+        ByteArrayOutputStream xmlWrittenBack = new ByteArrayOutputStream();
+        XmlAddressBookCodec.write(fromBinary, xmlWrittenBack);
+        assertArrayEquals(xml.toByteArray(), xmlWrittenBack.toByteArray());
+    }
+
+    @Test
+    public void write_repeatedStrings_storedOnce() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 10; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + (char) ('a' + i)).build());
+        }
+        ByteArrayOutputStream xml = new ByteArrayOutputStream();
+        XmlAddressBookCodec.write(addressBook, xml);
+        assertTrue(write(addressBook).length * 2 < xml.size());
+    }
+
+    @Test
+    public void read_notBinaryAddressBook_throwsStreamCorruptedException() throws Exception {
+        thrown.expect(StreamCorruptedException.class);
+        read("<addressbook/>".getBytes());
+    }
+
+    @Test
+    public void read_corruptedByte_throwsStreamCorruptedException() throws Exception {
+        byte[] bytes = write(getTypicalAddressBook());
+        bytes[new String(bytes, "ISO-8859-1").indexOf("Alice Pauline")] ^= 1;
+        thrown.expect(StreamCorruptedException.class);
+        read(bytes);
+    }
+
+    @Test
+    public void read_truncated_throwsEofException() throws Exception {
+        byte[] bytes = write(getTypicalAddressBook());
+        thrown.expect(EOFException.class);
+        read(Arrays.copyOf(bytes, bytes.length - 1));
+    }
+
+    @Test
+    public void read_invalidPerson_throwsIllegalValueException() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Valid Name").build());
+        byte[] bytes = write(addressBook);
+        String corrupted = new String(bytes, "ISO-8859-1").replace("Valid Name", "Valid Nam*");
+        thrown.expect(IllegalValueException.class);
+        read(withChecksum(corrupted.getBytes("ISO-8859-1")));
+    }
+
+    private static AddressBook getAddressBookWithEveryEntity() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addGroup(new GroupBuilder().withPerson("Outsiders", ALICE, AMY).build());
+        addressBook.addEvent(F1RACE);
+        addressBook.addEvent(GSS);
+        return addressBook;
+    }
+
+    private static AddressBook read(byte[] bytes) throws Exception {
+        return BinaryAddressBookCodec.read(new ByteArrayInputStream(bytes));
+    }
+
+    private static byte[] write(ReadOnlyAddressBook addressBook) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryAddressBookCodec.write(addressBook, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Returns {@code bytes} with its trailing checksum replaced by the checksum of the rest of its content.
+     */
+    private static byte[] withChecksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length - 4);
+        int checksum = (int) crc.getValue();
+        for (int i = 0; i < 4; i++) {
+            bytes[bytes.length - 4 + i] = (byte) (checksum >>> (24 - 8 * i));
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.File;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BinaryAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new BinaryAddressBookStorage("dummy").readAddressBook(null);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "NonExistentFile.bin";
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_xmlFile_throwDataConversionException() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "addressbook.xml";
+        new XmlAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void read_emptyFile_throwDataConversionException() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "Empty.bin";
+        FileUtil.createFile(new File(filePath));
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.bin";
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+
+        //Save in new file and read back
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        //Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        binaryAddressBookStorage.saveAddressBook(original);
+        readBack = binaryAddressBookStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        //Back up and read back the backup
+        binaryAddressBookStorage.backupAddressBook(original);
+        readBack = binaryAddressBookStorage.readAddressBookBackup().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+}
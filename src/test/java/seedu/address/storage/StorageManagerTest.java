@@ -3,8 +3,10 @@ package seedu.address.storage;
 import static junit.framework.TestCase.assertNotNull;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.File;
 import java.io.IOException;
 
 import org.junit.Before;
@@ -12,11 +14,16 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import seedu.address.commons.core.AddressBookFormat;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.storage.AddressBookFormatChangeRequestEvent;
+import seedu.address.commons.events.storage.AddressBookFormatChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookDelta;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class StorageManagerTest {
@@ -102,10 +109,73 @@ public class StorageManagerTest {
         Storage storage = new StorageManager(new XmlAddressBookStorageExceptionThrowingStub("dummy"),
                                              new JsonUserPrefsStorage("dummy"));
         storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook()));
+        storage.flush();
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
 
+    @Test
+    public void handleAddressBookChangedEvent_savedInBackground_readAfterSave() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.handleAddressBookChangedEvent(new AddressBookChangedEvent(original));
+        ReadOnlyAddressBook retrieved = storageManager.readAddressBook().get();
+        assertEquals(original, new AddressBook(retrieved));
+    }
+
+    @Test
+    public void handleAddressBookChangedEvent_changeJournaled_changeReadBackAfterRestart() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBook(addressBook);
+        AddressBookDelta delta = new AddressBookDelta();
+        addressBook.addPerson(AMY);
+        delta.recordAddition(Person.class, AMY);
+        storageManager.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook, delta));
+        storageManager.flush();
+
+        StorageManager restarted = new StorageManager(new XmlAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        assertEquals(addressBook, new AddressBook(restarted.readAddressBook().get()));
+    }
+
+    @Test
+    public void handleAddressBookFormatChangeRequestEvent_binary_savedAndStoredAsBinary() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.handleAddressBookFormatChangeRequestEvent(
+                new AddressBookFormatChangeRequestEvent(addressBook, AddressBookFormat.BINARY));
+
+        AddressBookFormatChangedEvent event =
+                (AddressBookFormatChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(AddressBookFormat.BINARY, event.format);
+        assertEquals(getTempFilePath("ab.bin"), event.filePath);
+        assertEquals(event.filePath, storageManager.getAddressBookFilePath());
+
+        // later changes are stored as binary too
+        AddressBookDelta delta = new AddressBookDelta();
+        addressBook.addPerson(AMY);
+        delta.recordAddition(Person.class, AMY);
+        storageManager.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook, delta));
+        storageManager.flush();
+        StorageManager restarted = new StorageManager(new BinaryAddressBookStorage(event.filePath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        assertEquals(addressBook, new AddressBook(restarted.readAddressBook().get()));
+    }
+
+    @Test
+    public void handleAddressBookFormatChangeRequestEvent_cannotSave_failureRecorded() throws Exception {
+        // a directory where the binary data file should go cannot be written to
+        testFolder.newFolder("ab.bin");
+        String xmlFilePath = new File(testFolder.getRoot(), "ab").getPath();
+        StorageManager storage = new StorageManager(new XmlAddressBookStorage(xmlFilePath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        AddressBookFormatChangeRequestEvent request =
+                new AddressBookFormatChangeRequestEvent(getTypicalAddressBook(), AddressBookFormat.BINARY);
+        storage.handleAddressBookFormatChangeRequestEvent(request);
+
+        assertTrue(request.getFailure().isPresent());
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+        assertEquals(xmlFilePath, storage.getAddressBookFilePath());
+    }
+
     /**
      * A Stub class to throw an exception when the save method is called
      */
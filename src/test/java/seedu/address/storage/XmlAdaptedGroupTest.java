@@ -5,9 +5,13 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_INFORMATION;
+import static seedu.address.storage.XmlAdaptedGroup.INVALID_MEMBER_MESSAGE_FORMAT;
 import static seedu.address.storage.XmlAdaptedGroup.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.TypicalGroups.GROUP_A;
 import static seedu.address.testutil.TypicalGroups.GROUP_F;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.util.Collections;
 
 import org.junit.Test;
 
@@ -50,6 +54,14 @@ public class XmlAdaptedGroupTest {
         Assert.assertThrows(IllegalValueException.class, expectedMessage, group::toModelType);
     }
 
+    @Test
+    public void toModelType_invalidMemberReference_throwsIllegalValueException() {
+        XmlAdaptedGroup group = new XmlAdaptedGroup(GROUP_F, Collections.singletonMap(ALICE, 3));
+        String expectedMessage = String.format(INVALID_MEMBER_MESSAGE_FORMAT, 3);
+        Assert.assertThrows(IllegalValueException.class, expectedMessage, () -> group.toModelType(
+                Collections.singletonList(ALICE)));
+    }
+
     @Test
     public void equals() {
         XmlAdaptedGroup groupA = new XmlAdaptedGroup(GROUP_A);
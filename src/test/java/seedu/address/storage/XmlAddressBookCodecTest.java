@@ -0,0 +1,129 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.Assert.assertSameData;
+import static seedu.address.testutil.TypicalEvents.F1RACE;
+import static seedu.address.testutil.TypicalEvents.GSS;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.bind.Marshaller;
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.GroupBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class XmlAddressBookCodecTest {
+
+    private static final String TEST_DATA_FOLDER = FileUtil.getPath("src/test/data/XmlSerializableAddressBookTest/");
+    private static final File TYPICAL_PERSONS_FILE = new File(TEST_DATA_FOLDER + "typicalPersonsAddressBook.xml");
+    private static final File INVALID_PERSON_FILE = new File(TEST_DATA_FOLDER + "invalidPersonAddressBook.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void write_addressBookWithEveryEntity_sameBytesAsJaxb() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Person escaped = new PersonBuilder().withName("Zoe Escaped").withAddress("1 <Main> & \"Co\" Caf\u00e9")
+                .withTags("friends").build();
+        addressBook.addPerson(escaped);
+        addressBook.addGroup(new GroupBuilder().withPerson("Outsiders", ALICE, AMY).build());
+        addressBook.addEvent(F1RACE);
+        addressBook.addEvent(GSS);
+
+        assertArrayEquals(writeWithJaxb(addressBook), writeWithCodec(addressBook));
+    }
+
+    @Test
+    public void write_emptyAddressBook_sameBytesAsJaxb() throws Exception {
+        assertArrayEquals(writeWithJaxb(new AddressBook()), writeWithCodec(new AddressBook()));
+    }
+
+    @Test
+    public void read_typicalPersonsFile_sameAsJaxb() throws Exception {
+        AddressBook expected = XmlUtil.getDataFromFile(TYPICAL_PERSONS_FILE, XmlSerializableAddressBook.class)
+                .toModelType();
+        try (InputStream in = new FileInputStream(TYPICAL_PERSONS_FILE)) {
+            assertSameData(expected, XmlAddressBookCodec.read(in));
+        }
+    }
+
+    @Test
+    public void read_writtenAddressBook_sameAddressBook() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addGroup(new GroupBuilder().withPerson("Outsiders", ALICE, AMY).build());
+        original.addEvent(F1RACE);
+
+        assertSameData(original, XmlAddressBookCodec.read(new ByteArrayInputStream(writeWithCodec(original))));
+    }
+
+    @Test
+    public void read_unknownElements_ignored() throws Exception {
+        String xml = "<addressbook><version>2</version><todos><content>Buy milk</content>"
+                + "<status>undone</status><priority><level>high</level></priority></todos></addressbook>";
+        AddressBook addressBook = read(xml);
+        assertEquals(1, addressBook.getToDoList().size());
+        assertEquals("Buy milk", addressBook.getToDoList().get(0).getContent().value);
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        try (InputStream in = new FileInputStream(INVALID_PERSON_FILE)) {
+            XmlAddressBookCodec.read(in);
+        }
+    }
+
+    @Test
+    public void read_otherRootElement_throwsXmlStreamException() throws Exception {
+        thrown.expect(XMLStreamException.class);
+        read("<person><name>Hans Muster</name></person>");
+    }
+
+    @Test
+    public void read_notXml_throwsXmlStreamException() throws Exception {
+        thrown.expect(XMLStreamException.class);
+        read("not xml at all");
+    }
+
+    private static AddressBook read(String xml) throws Exception {
+        return XmlAddressBookCodec.read(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static byte[] writeWithCodec(ReadOnlyAddressBook addressBook) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        XmlAddressBookCodec.write(addressBook, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Returns {@code addressBook} as written by JAXB through {@link XmlSerializableAddressBook}.
+     */
+    private static byte[] writeWithJaxb(ReadOnlyAddressBook addressBook) throws Exception {
+        Marshaller marshaller = XmlUtil.getContext(XmlSerializableAddressBook.class).createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        marshaller.marshal(new XmlSerializableAddressBook(addressBook), out);
+        return out.toByteArray();
+    }
+}
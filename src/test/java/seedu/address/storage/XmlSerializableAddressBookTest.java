@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import java.io.File;
 
@@ -12,6 +13,8 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.XmlUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.TypicalPersons;
 
 public class XmlSerializableAddressBookTest {
@@ -33,6 +36,20 @@ public class XmlSerializableAddressBookTest {
         assertEquals(addressBookFromFile, typicalPersonsAddressBook);
     }
 
+    @Test
+    public void toModelType_groupMembersStoredAsReferences_success() throws Exception {
+        AddressBook typicalPersonsAddressBook = TypicalPersons.getTypicalAddressBook();
+        XmlSerializableAddressBook serializableAddressBook =
+                new XmlSerializableAddressBook(typicalPersonsAddressBook);
+        AddressBook addressBook = serializableAddressBook.toModelType();
+
+        assertEquals(typicalPersonsAddressBook.getGroupList(), addressBook.getGroupList());
+        Group groupWithMembers = addressBook.getGroupList().get(addressBook.getGroupList().size() - 1);
+        for (Person member : groupWithMembers.getPersonList()) {
+            assertSame(addressBook.getPersonList().get(addressBook.getPersonList().indexOf(member)), member);
+        }
+    }
+
     @Test
     public void toModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
         XmlSerializableAddressBook dataFromFile = XmlUtil.getDataFromFile(INVALID_PERSON_FILE,
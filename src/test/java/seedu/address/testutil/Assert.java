@@ -1,6 +1,9 @@
 package seedu.address.testutil;
 
+import static org.junit.Assert.assertEquals;
+
 import junit.framework.AssertionFailedError;
+import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A set of assertion methods useful for writing tests.
@@ -44,6 +47,18 @@ public class Assert {
                 "Expected %s to be thrown, but nothing was thrown.", expectedException.getName()));
     }
 
+    /**
+     * Asserts that {@code actual} holds the same persons, tags, to-dos, groups and events as {@code expected}, in
+     * the same order.
+     */
+    public static void assertSameData(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getPersonList(), actual.getPersonList());
+        assertEquals(expected.getTagList(), actual.getTagList());
+        assertEquals(expected.getToDoList(), actual.getToDoList());
+        assertEquals(expected.getGroupList(), actual.getGroupList());
+        assertEquals(expected.getEventList(), actual.getEventList());
+    }
+
     /**
      * Represents a function which does not return anything and may throw an exception.
      */
@@ -0,0 +1,142 @@
+package seedu.address.testutil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * A local stand-in for the NUSmods module database, serving a single file with an entity tag and a modification
+ * time, and answering conditional requests for an unchanged file with a "not modified" response.
+ */
+public class StubModuleDatabaseServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger notModifiedCount = new AtomicInteger();
+    private volatile byte[] content = new byte[0];
+    private volatile String etag = null;
+    private volatile long lastModified = 0;
+    private volatile boolean isHonouringValidators = true;
+    private volatile boolean isTruncating = false;
+    private volatile int errorCode = 0;
+
+    public StubModuleDatabaseServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    /**
+     * Serves {@code content} with the entity tag {@code etag} and the modification time {@code lastModified},
+     * in milliseconds since the epoch.
+     */
+    public void setContent(String content, String etag, long lastModified) {
+        this.content = content.getBytes(StandardCharsets.UTF_8);
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Makes the server ignore conditional requests and always send the file, if {@code isHonouringValidators} is
+     * false.
+     */
+    public void setHonouringValidators(boolean isHonouringValidators) {
+        this.isHonouringValidators = isHonouringValidators;
+    }
+
+    /**
+     * Makes the server announce the full length of the file but close the connection halfway through it,
+     * if {@code isTruncating} is true.
+     */
+    public void setTruncating(boolean isTruncating) {
+        this.isTruncating = isTruncating;
+    }
+
+    /**
+     * Makes the server answer every request with {@code errorCode}, or serve the file again if it is 0.
+     */
+    public void setErrorCode(int errorCode) {
+        this.errorCode = errorCode;
+    }
+
+    public URL getUrl() throws IOException {
+        return new URL("http://localhost:" + server.getAddress().getPort() + "/modules.json");
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    public int getNotModifiedCount() {
+        return notModifiedCount.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    /**
+     * Answers the request in {@code exchange} with the file, a "not modified" response or the error code.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        try {
+            if (errorCode != 0) {
+                exchange.sendResponseHeaders(errorCode, -1);
+                return;
+            }
+            if (isHonouringValidators && isNotModified(exchange)) {
+                notModifiedCount.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            if (etag != null) {
+                exchange.getResponseHeaders().add("ETag", etag);
+            }
+            if (lastModified > 0) {
+                exchange.getResponseHeaders().add("Last-Modified", DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                        ZonedDateTime.ofInstant(Instant.ofEpochMilli(lastModified), ZoneOffset.UTC)));
+            }
+            byte[] body = content;
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body, 0, isTruncating ? body.length / 2 : body.length);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Returns true if the request in {@code exchange} is for a file with the current entity tag or modification time.
+     */
+    private boolean isNotModified(HttpExchange exchange) {
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        if (ifNoneMatch != null) {
+            return ifNoneMatch.equals(etag);
+        }
+        String ifModifiedSince = exchange.getRequestHeaders().getFirst("If-Modified-Since");
+        if (ifModifiedSince == null || lastModified <= 0) {
+            return false;
+        }
+        try {
+            long since = ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME)
+                    .toInstant().toEpochMilli();
+            return lastModified / 1000 <= since / 1000;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+}
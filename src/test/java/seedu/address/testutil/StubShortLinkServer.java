@@ -0,0 +1,112 @@
+package seedu.address.testutil;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.util.CalendarUtil;
+import seedu.address.model.person.TimeTableLink;
+
+/**
+ * A local stand-in for the NUSmods link shortener, redirecting each short link registered with it to a long URL.
+ * Short links that are not registered get a 404 response.
+ */
+public class StubShortLinkServer implements AutoCloseable {
+
+    private static final String SHORT_LINK_PREFIX = "http://modsn.us/";
+
+    private final HttpServer server;
+    private final Map<String, String> longUrls = new ConcurrentHashMap<>();
+    private final Map<String, Integer> delays = new ConcurrentHashMap<>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    public StubShortLinkServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    /**
+     * Returns the long URL of a NUSmods timetable of the current semester with the given {@code query}.
+     */
+    public static String getCurrentSemesterUrl(String query) {
+        return "https://nusmods.com/timetable/sem-" + CalendarUtil.getCurrentSemester() + "/share?" + query;
+    }
+
+    /**
+     * Redirects the short link {@code link} to {@code longUrl}.
+     */
+    public void redirect(TimeTableLink link, String longUrl) {
+        longUrls.put(getCode(link), longUrl);
+    }
+
+    /**
+     * Waits {@code millis} milliseconds before responding to requests for the short link {@code link}.
+     */
+    public void delay(TimeTableLink link, int millis) {
+        delays.put(getCode(link), millis);
+    }
+
+    /**
+     * Returns the URL of {@code link} on this server.
+     */
+    public String getUrl(TimeTableLink link) {
+        return "http://localhost:" + server.getAddress().getPort() + "/" + getCode(link);
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Returns the largest number of requests this server was handling at the same time.
+     */
+    public int getMaxConcurrentRequests() {
+        return maxInFlight.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private static String getCode(TimeTableLink link) {
+        return link.value.substring(SHORT_LINK_PREFIX.length());
+    }
+
+    /**
+     * Redirects the request in {@code exchange} to the long URL of its short link, after the delay of the link.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            String code = exchange.getRequestURI().getPath().substring(1);
+            Integer delay = delays.get(code);
+            if (delay != null) {
+                Thread.sleep(delay);
+            }
+            String longUrl = longUrls.get(code);
+            if (longUrl == null) {
+                exchange.sendResponseHeaders(404, -1);
+            } else {
+                exchange.getResponseHeaders().add("Location", longUrl);
+                exchange.sendResponseHeaders(301, -1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+}
@@ -1,8 +1,19 @@
 //@@author LeonidAgarth
 package seedu.address.ui;
 
+import static org.junit.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.Test;
 
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
+
 public class CalendarTest extends GuiUnitTest {
 
     @Test
@@ -10,4 +21,23 @@ public class CalendarTest extends GuiUnitTest {
         /*Calendar calendar = new Calendar(null);
         assertEquals(calendar, new Calendar(null));*/
     }
+
+    @Test
+    public void constructor_monthWithOverflowDays_onlyDaysOfMonthLookedUp() {
+        // March 2018 starts on a Thursday and ends on a Saturday, so days of February and April are visible too
+        YearMonth march = YearMonth.of(2018, 3);
+        Event event = new EventBuilder().build();
+        List<LocalDate> lookedUp = new ArrayList<>();
+        Calendar calendar = new Calendar(march, date -> {
+            lookedUp.add(date);
+            return Collections.singletonList(event);
+        });
+
+        List<LocalDate> expected = new ArrayList<>();
+        for (int day = 1; day <= march.lengthOfMonth(); day++) {
+            expected.add(march.atDay(day));
+        }
+        assertEquals(expected, lookedUp);
+        assertEquals("- " + event.getName(), calendar.getDateNode(march.atDay(1)).getEventText().getText());
+    }
 }
@@ -18,7 +18,9 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import guitests.guihandles.StatusBarFooterHandle;
+import seedu.address.commons.events.database.ModuleDatabaseLoadingEvent;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.database.DatabaseManager;
 import seedu.address.testutil.AddressBookBuilder;
 
 public class StatusBarFooterTest extends GuiUnitTest {
@@ -69,6 +71,18 @@ public class StatusBarFooterTest extends GuiUnitTest {
                 String.format(TOTAL_PERSONS_STATUS, EVENT_STUB.data.getPersonList().size()));
     }
 
+    @Test
+    public void display_moduleDatabaseLoading_progressShown() {
+        assertEquals(DatabaseManager.getLoadingStatus(), statusBarFooterHandle.getModuleDatabaseStatus());
+
+        postNow(new ModuleDatabaseLoadingEvent(DatabaseManager.STATUS_DOWNLOADING));
+        assertEquals(DatabaseManager.STATUS_DOWNLOADING, statusBarFooterHandle.getModuleDatabaseStatus());
+
+        String ready = String.format(DatabaseManager.STATUS_READY, 6000);
+        postNow(new ModuleDatabaseLoadingEvent(ready));
+        assertEquals(ready, statusBarFooterHandle.getModuleDatabaseStatus());
+    }
+
     /**
      * Asserts that the save location matches that of {@code expectedSaveLocation}, the
      * sync status matches that of {@code expectedSyncStatus}, and the total persons matches that of